@@ -523,3 +523,281 @@ ALTER COLUMN affiliation SET DEFAULT 'Національний універси
 
 CREATE INDEX idx_users_active ON diploma.users(active);
 CREATE INDEX idx_users_role ON diploma.users(role);
+
+-- Revoked tokens stay in active_tokens until they expire so revocations survive restarts
+ALTER TABLE diploma.active_tokens
+ADD COLUMN revoked BOOLEAN NOT NULL DEFAULT false;
+
+CREATE INDEX idx_active_tokens_revoked_expiry ON diploma.active_tokens(expiry) WHERE revoked;
+
+-- Daily pre-aggregated counts read by the admin analytics endpoints
+CREATE TABLE diploma.daily_rollups (
+    metric VARCHAR(32) NOT NULL,
+    bucket_date DATE NOT NULL,
+    dimension VARCHAR(32) NOT NULL DEFAULT '',
+    total BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (metric, bucket_date, dimension)
+);
+
+CREATE INDEX idx_daily_rollups_bucket_date ON diploma.daily_rollups(bucket_date);
+
+-- Full-text search documents for projects (title, description and tag names)
+CREATE EXTENSION IF NOT EXISTS pg_trgm;
+
+CREATE TABLE diploma.project_search_documents (
+    project_id UUID PRIMARY KEY REFERENCES diploma.projects(id) ON DELETE CASCADE,
+    document TSVECTOR NOT NULL,
+    search_text TEXT NOT NULL
+);
+
+CREATE INDEX idx_project_search_documents_document ON diploma.project_search_documents USING gin(document);
+CREATE INDEX idx_project_search_documents_search_text ON diploma.project_search_documents USING gin(search_text gin_trgm_ops);
+
+CREATE OR REPLACE FUNCTION diploma.refresh_project_search_document(p_project_id UUID) RETURNS void AS $$
+    INSERT INTO diploma.project_search_documents (project_id, document, search_text)
+    SELECT p.id,
+           setweight(to_tsvector('simple', coalesce(p.title, '')), 'A') ||
+           setweight(to_tsvector('simple', coalesce(p.description, '')), 'B') ||
+           setweight(to_tsvector('simple', coalesce(string_agg(t.name, ' '), '')), 'C'),
+           lower(concat_ws(' ', p.title, p.description, string_agg(t.name, ' ')))
+    FROM diploma.projects p
+    LEFT JOIN diploma.project_tags pt ON pt.project_id = p.id
+    LEFT JOIN diploma.tags t ON t.id = pt.tag_id
+    WHERE p.id = p_project_id
+    GROUP BY p.id
+    ON CONFLICT (project_id) DO UPDATE
+    SET document = EXCLUDED.document, search_text = EXCLUDED.search_text;
+$$ LANGUAGE sql;
+
+CREATE OR REPLACE FUNCTION diploma.projects_search_document_trigger() RETURNS trigger AS $$
+BEGIN
+    PERFORM diploma.refresh_project_search_document(NEW.id);
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION diploma.project_tags_search_document_trigger() RETURNS trigger AS $$
+BEGIN
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        PERFORM diploma.refresh_project_search_document(NEW.project_id);
+    END IF;
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        PERFORM diploma.refresh_project_search_document(OLD.project_id);
+    END IF;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE OR REPLACE FUNCTION diploma.tags_search_document_trigger() RETURNS trigger AS $$
+BEGIN
+    PERFORM diploma.refresh_project_search_document(pt.project_id)
+    FROM diploma.project_tags pt
+    WHERE pt.tag_id = NEW.id;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_projects_search_document
+AFTER INSERT OR UPDATE OF title, description ON diploma.projects
+FOR EACH ROW EXECUTE FUNCTION diploma.projects_search_document_trigger();
+
+CREATE TRIGGER trg_project_tags_search_document
+AFTER INSERT OR UPDATE OR DELETE ON diploma.project_tags
+FOR EACH ROW EXECUTE FUNCTION diploma.project_tags_search_document_trigger();
+
+CREATE TRIGGER trg_tags_search_document
+AFTER UPDATE OF name ON diploma.tags
+FOR EACH ROW EXECUTE FUNCTION diploma.tags_search_document_trigger();
+
+SELECT diploma.refresh_project_search_document(id) FROM diploma.projects;
+
+-- Keyset pagination on (created_at, id) for the project, user and comment listings
+CREATE INDEX idx_projects_created_at_id ON diploma.projects(created_at DESC, id DESC);
+CREATE INDEX idx_users_created_at_id ON diploma.users(created_at, id);
+CREATE INDEX idx_comments_user_created_at_id ON diploma.comments(user_id, created_at DESC, id DESC);
+
+-- Collaboration graph: users sharing a project as creator, author, co-inventor or participant
+CREATE OR REPLACE VIEW diploma.project_members AS
+    SELECT p.id AS project_id, p.created_by AS user_id FROM diploma.projects p WHERE p.created_by IS NOT NULL
+    UNION
+    SELECT pub.project_id, pa.user_id FROM diploma.publications_authors pa
+    JOIN diploma.publications pub ON pub.id = pa.publication_id
+    UNION
+    SELECT pat.project_id, pci.user_id FROM diploma.patents_co_inventors pci
+    JOIN diploma.patents pat ON pat.id = pci.patent_id
+    UNION
+    SELECT pat.project_id, pat.primary_author FROM diploma.patents pat
+    UNION
+    SELECT rp.project_id, rpp.user_id FROM diploma.research_projects_participants rpp
+    JOIN diploma.research_projects rp ON rp.id = rpp.research_project_id;
+
+CREATE INDEX idx_publications_authors_user ON diploma.publications_authors(user_id);
+CREATE INDEX idx_patents_co_inventors_user ON diploma.patents_co_inventors(user_id);
+CREATE INDEX idx_patents_primary_author ON diploma.patents(primary_author);
+CREATE INDEX idx_research_participants_user ON diploma.research_projects_participants(user_id);
+CREATE INDEX idx_projects_created_by ON diploma.projects(created_by);
+
+CREATE TABLE diploma.user_collaborations (
+    user_id BIGINT NOT NULL REFERENCES diploma.users(id) ON DELETE CASCADE,
+    collaborator_id BIGINT NOT NULL REFERENCES diploma.users(id) ON DELETE CASCADE,
+    shared_projects INTEGER NOT NULL,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    PRIMARY KEY (user_id, collaborator_id)
+);
+
+CREATE INDEX idx_user_collaborations_strength ON diploma.user_collaborations(user_id, shared_projects DESC, collaborator_id);
+CREATE INDEX idx_user_collaborations_collaborator ON diploma.user_collaborations(collaborator_id);
+
+CREATE TABLE diploma.collaboration_refresh_queue (
+    user_id BIGINT PRIMARY KEY,
+    queued_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+CREATE OR REPLACE FUNCTION diploma.queue_collaboration_refresh() RETURNS trigger AS $$
+DECLARE
+    old_user BIGINT;
+    new_user BIGINT;
+BEGIN
+    IF TG_OP IN ('DELETE', 'UPDATE') THEN
+        old_user := to_jsonb(OLD) ->> TG_ARGV[0];
+    END IF;
+    IF TG_OP IN ('INSERT', 'UPDATE') THEN
+        new_user := to_jsonb(NEW) ->> TG_ARGV[0];
+    END IF;
+    INSERT INTO diploma.collaboration_refresh_queue (user_id)
+    SELECT u FROM (VALUES (old_user), (new_user)) AS changed(u)
+    WHERE u IS NOT NULL
+    ON CONFLICT (user_id) DO NOTHING;
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_projects_collaboration
+AFTER INSERT OR UPDATE OF created_by OR DELETE ON diploma.projects
+FOR EACH ROW EXECUTE FUNCTION diploma.queue_collaboration_refresh('created_by');
+
+CREATE TRIGGER trg_publications_authors_collaboration
+AFTER INSERT OR UPDATE OR DELETE ON diploma.publications_authors
+FOR EACH ROW EXECUTE FUNCTION diploma.queue_collaboration_refresh('user_id');
+
+CREATE TRIGGER trg_patents_collaboration
+AFTER INSERT OR UPDATE OF primary_author OR DELETE ON diploma.patents
+FOR EACH ROW EXECUTE FUNCTION diploma.queue_collaboration_refresh('primary_author');
+
+CREATE TRIGGER trg_patents_co_inventors_collaboration
+AFTER INSERT OR UPDATE OR DELETE ON diploma.patents_co_inventors
+FOR EACH ROW EXECUTE FUNCTION diploma.queue_collaboration_refresh('user_id');
+
+CREATE TRIGGER trg_research_participants_collaboration
+AFTER INSERT OR UPDATE OR DELETE ON diploma.research_projects_participants
+FOR EACH ROW EXECUTE FUNCTION diploma.queue_collaboration_refresh('user_id');
+
+-- User membership counters: maintained by the application on author, co-inventor and
+-- participant changes, so the creator-based recount trigger is retired
+DROP TRIGGER IF EXISTS update_project_counts ON diploma.projects;
+DROP FUNCTION IF EXISTS diploma.update_user_project_counts();
+
+UPDATE diploma.users u
+SET publication_count = (SELECT COUNT(*) FROM diploma.publications_authors pa WHERE pa.user_id = u.id),
+    patent_count = (SELECT COUNT(*) FROM (
+        SELECT pt.id FROM diploma.patents pt WHERE pt.primary_author = u.id
+        UNION
+        SELECT pci.patent_id FROM diploma.patents_co_inventors pci WHERE pci.user_id = u.id) owned),
+    research_count = (SELECT COUNT(*) FROM diploma.research_projects_participants rpp WHERE rpp.user_id = u.id);
+
+ALTER TABLE diploma.users
+ALTER COLUMN publication_count SET NOT NULL,
+ALTER COLUMN patent_count SET NOT NULL,
+ALTER COLUMN research_count SET NOT NULL;
+
+CREATE INDEX idx_users_publication_leaders ON diploma.users(publication_count DESC, id) WHERE active AND publication_count > 0;
+CREATE INDEX idx_users_patent_leaders ON diploma.users(patent_count DESC, id) WHERE active AND patent_count > 0;
+CREATE INDEX idx_users_research_leaders ON diploma.users(research_count DESC, id) WHERE active AND research_count > 0;
+
+-- Shared cache versions: application nodes poll these to invalidate local caches
+CREATE TABLE diploma.cache_versions (
+    name VARCHAR(64) PRIMARY KEY,
+    version BIGINT NOT NULL DEFAULT 0,
+    updated_at TIMESTAMP NOT NULL DEFAULT CURRENT_TIMESTAMP
+);
+
+INSERT INTO diploma.cache_versions (name) VALUES ('tags');
+
+CREATE OR REPLACE FUNCTION diploma.bump_cache_version() RETURNS trigger AS $$
+BEGIN
+    UPDATE diploma.cache_versions
+    SET version = version + 1, updated_at = CURRENT_TIMESTAMP
+    WHERE name = TG_ARGV[0];
+    RETURN NULL;
+END;
+$$ LANGUAGE plpgsql;
+
+CREATE TRIGGER trg_tags_cache_version
+AFTER INSERT OR UPDATE OR DELETE OR TRUNCATE ON diploma.tags
+FOR EACH STATEMENT EXECUTE FUNCTION diploma.bump_cache_version('tags');
+
+-- Pooled sequence allocation for the author, co-inventor and participant join rows so
+-- Hibernate can batch their inserts (IDENTITY columns disable JDBC insert batching).
+-- Must match allocationSize on the entities.
+ALTER SEQUENCE diploma.publications_authors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE diploma.patents_co_inventors_id_seq INCREMENT BY 50;
+ALTER SEQUENCE diploma.research_projects_participants_id_seq INCREMENT BY 50;
+
+-- Pooled sequence allocation for users, logins and audit entries so their inserts can be batched.
+-- Identity columns are converted to plain sequence defaults, and each sequence is moved past the
+-- current max(id) so the first block handed out by Hibernate cannot collide with existing rows.
+-- Must match allocationSize on the entities.
+DO $$
+DECLARE
+    t TEXT;
+    seq TEXT;
+BEGIN
+    FOREACH t IN ARRAY ARRAY['users', 'user_login', 'project_audit_log'] LOOP
+        IF EXISTS (SELECT 1 FROM information_schema.columns
+                   WHERE table_schema = 'diploma' AND table_name = t AND column_name = 'id' AND is_identity = 'YES') THEN
+            EXECUTE format('ALTER TABLE diploma.%I ALTER COLUMN id DROP IDENTITY', t);
+        END IF;
+
+        seq := COALESCE(pg_get_serial_sequence('diploma.' || t, 'id'), 'diploma.' || t || '_id_seq');
+        EXECUTE format('CREATE SEQUENCE IF NOT EXISTS %s OWNED BY diploma.%I.id', seq, t);
+        EXECUTE format('ALTER SEQUENCE %s INCREMENT BY 50', seq);
+        EXECUTE format('ALTER TABLE diploma.%I ALTER COLUMN id SET DEFAULT nextval(%L)', t, seq);
+        EXECUTE format('SELECT setval(%L, COALESCE((SELECT max(id) FROM diploma.%I), 0) + 50, false)', seq, t);
+    END LOOP;
+END $$;
+
+-- Comment likes are written straight to comment_likes with INSERT ... ON CONFLICT DO NOTHING and
+-- the counter is adjusted in place. The primary key (comment_id, user_id) already serves lookups
+-- by comment, so the separate comment_id index only slows down inserts.
+DROP INDEX IF EXISTS diploma.idx_comment_likes_comment;
+
+-- Resynchronize counters that drifted under the previous read-modify-write updates.
+UPDATE diploma.comments c
+SET likes = l.cnt
+FROM (SELECT c2.id, count(cl.user_id) AS cnt
+      FROM diploma.comments c2 LEFT JOIN diploma.comment_likes cl ON cl.comment_id = c2.id
+      GROUP BY c2.id) l
+WHERE l.id = c.id AND c.likes <> l.cnt;
+
+-- Materialized ancestor paths for threaded comments (see CommentPath). Each ancestor id is written as
+-- 32 hex digits plus '/', top-level comments have an empty path. The "C" collation makes the path compare
+-- byte by byte, so a subtree is one contiguous range of the (project_id, path) index, which also replaces
+-- the plain project_id index.
+ALTER TABLE diploma.comments ADD COLUMN IF NOT EXISTS path TEXT COLLATE "C" NOT NULL DEFAULT '';
+
+WITH RECURSIVE tree AS (
+    SELECT c.id, ''::TEXT AS path
+    FROM diploma.comments c
+    WHERE c.parent_comment_id IS NULL
+    UNION ALL
+    SELECT c.id, t.path || replace(c.parent_comment_id::TEXT, '-', '') || '/'
+    FROM diploma.comments c JOIN tree t ON c.parent_comment_id = t.id
+)
+UPDATE diploma.comments c
+SET path = tree.path
+FROM tree
+WHERE tree.id = c.id AND tree.path <> '';
+
+CREATE INDEX IF NOT EXISTS idx_comments_project_path ON diploma.comments(project_id, path);
+DROP INDEX IF EXISTS diploma.idx_comments_project;
@@ -0,0 +1,36 @@
+package com.backend.app.config;
+
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+	/**
+	 * Paginating a query that fetch-joins a collection makes Hibernate load the
+	 * whole result and page it in memory (HHH000104). Such queries fail instead
+	 * of silently degrading.
+	 */
+	@Bean
+	HibernatePropertiesCustomizer failOnPaginationOverCollectionFetch() {
+		return properties -> properties.put(AvailableSettings.FAIL_ON_PAGINATION_OVER_COLLECTION_FETCH, true);
+	}
+
+	/**
+	 * Groups inserts and updates of the same table into JDBC batches, so adding
+	 * many authors, co-inventors or participants costs a fixed number of round
+	 * trips. Batching only applies to entities whose IDs are not generated by
+	 * IDENTITY columns.
+	 */
+	@Bean
+	HibernatePropertiesCustomizer jdbcBatching(@Value("${jpa.jdbc.batch-size:50}") int batchSize) {
+		return properties -> {
+			properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, batchSize);
+			properties.put(AvailableSettings.ORDER_INSERTS, true);
+			properties.put(AvailableSettings.ORDER_UPDATES, true);
+		};
+	}
+}
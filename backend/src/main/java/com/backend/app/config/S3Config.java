@@ -1,5 +1,7 @@
 package com.backend.app.config;
 
+import java.net.URI;
+
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -8,6 +10,7 @@ import software.amazon.awssdk.auth.credentials.AwsBasicCredentials;
 import software.amazon.awssdk.auth.credentials.StaticCredentialsProvider;
 import software.amazon.awssdk.regions.Region;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.S3ClientBuilder;
 
 @Configuration
 public class S3Config {
@@ -19,13 +22,21 @@ public class S3Config {
 	
 	@Value("${aws.region}")
 	private String region;
+	
+	/** Optional endpoint of an S3-compatible store such as MinIO, used for local testing. */
+	@Value("${aws.s3.endpoint:}")
+	private String endpoint;
 
     @Bean
     S3Client s3Client() {
-		return S3Client.builder()
+		S3ClientBuilder builder = S3Client.builder()
 				.region(getAwsRegion())
-				.credentialsProvider(getAwsCredentialsProvider())
-				.build();
+				.credentialsProvider(getAwsCredentialsProvider());
+		
+		if(!endpoint.isBlank()) {
+			builder.endpointOverride(URI.create(endpoint)).forcePathStyle(true);
+		}
+		return builder.build();
 	}
     
     private Region getAwsRegion() {
@@ -0,0 +1,39 @@
+package com.backend.app.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.BasicType;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Registers the PostgreSQL full-text and trigram operators used by project
+ * search as HQL/criteria functions. They are rendered as operators rather than
+ * function calls so the planner can use the GIN indexes on
+ * project_search_documents.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+	public static final String FTS_MATCH = "fts_match";
+	public static final String TRGM_MATCH = "trgm_match";
+	public static final String SEARCH_RANK = "search_rank";
+	
+	private static final String TS_QUERY = "websearch_to_tsquery('simple', ?2)";
+
+	@Override
+	public void contributeFunctions(FunctionContributions functionContributions) {
+		BasicType<Boolean> booleanType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+				.resolve(StandardBasicTypes.BOOLEAN);
+		BasicType<Double> doubleType = functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+				.resolve(StandardBasicTypes.DOUBLE);
+
+		// fts_match(document, query)
+		functionContributions.getFunctionRegistry()
+				.registerPattern(FTS_MATCH, "(?1 @@ " + TS_QUERY + ")", booleanType);
+		// trgm_match(search_text, lowercased query, escaped like pattern)
+		functionContributions.getFunctionRegistry()
+				.registerPattern(TRGM_MATCH, "(?1 like ?3 or ?2 <% ?1)", booleanType);
+		// search_rank(document, query, search_text)
+		functionContributions.getFunctionRegistry()
+				.registerPattern(SEARCH_RANK,
+						"(ts_rank(?1, " + TS_QUERY + ") + word_similarity(lower(?2), ?3))", doubleType);
+	}
+}
@@ -19,6 +19,7 @@ import com.backend.app.filter.JwtAuthenticationFilter;
 import com.backend.app.security.TokenBlacklist;
 import com.backend.app.util.JwtUtil;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 
 @Configuration
@@ -47,7 +48,8 @@ public class SecurityConfig {
 	@Bean
 	SecurityFilterChain securityFilterChain(HttpSecurity http) throws Exception {
 		http.csrf(csrf -> csrf.disable())
-				.authorizeHttpRequests(auth -> auth.requestMatchers(PUBLIC_ENDPOINTS).permitAll()
+				.authorizeHttpRequests(auth -> auth.dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+						.requestMatchers(PUBLIC_ENDPOINTS).permitAll()
 						.requestMatchers(AUTHENTICATED_ENDPOINTS).authenticated().anyRequest().authenticated())
 				.addFilterBefore(jwtAuthenticationFilter(), UsernamePasswordAuthenticationFilter.class)
 				.cors(cors -> cors.configurationSource(request -> getCorsConfiguration()));
@@ -15,6 +15,7 @@ import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
@@ -24,6 +25,7 @@ import com.backend.app.controller.messages.AdminMessages;
 import com.backend.app.dto.model.CommentDTO;
 import com.backend.app.dto.model.UserDTO;
 import com.backend.app.dto.model.UserLoginDTO;
+import com.backend.app.dto.request.BulkCommentDeleteRequest;
 import com.backend.app.dto.response.ApiResponse;
 import com.backend.app.dto.response.PaginatedResponse;
 import com.backend.app.dto.response.ProjectResponse;
@@ -347,6 +349,48 @@ public class AdminController {
 	        }
 		}
 		
+		@Operation(summary = "Delete comments in bulk (admin only)",
+	            description = "Removes the listed comments and/or a user's entire comment history, with all replies and likes. "
+	            		+ "Returns the number of removed comments")
+	    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Comments deleted successfully")
+	    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "400", description = "Neither comment IDs nor a user ID given")
+	    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "403", description = "Forbidden, admin access required")
+	    @io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "404", description = "User not found")
+		@PostMapping("/comments/bulk-delete")
+		public ResponseEntity<ApiResponse<Long>> bulkDeleteComments(
+				@RequestBody BulkCommentDeleteRequest request, Authentication authentication) {
+			try {
+				long removed = adminService.bulkDeleteComments(request, authentication.getName());
+				return ResponseEntity.ok(ApiResponse.success(
+						removed,
+						AdminMessages.getMessage(AdminCodes.COMMENTS_BULK_DELETED), AdminCodes.COMMENTS_BULK_DELETED));
+			} catch (BusinessRuleException e) {
+	            log.warn("Invalid bulk comment deletion request: {}", e.getMessage());
+	            return ResponseEntity.badRequest()
+	                    .body(ApiResponse.error(
+	                            AdminMessages.getMessage(AdminCodes.INVALID_BULK_REQUEST),
+	                            AdminCodes.INVALID_BULK_REQUEST));
+	        } catch (ResourceNotFoundException e) {
+	            log.warn("User not found for bulk comment deletion: {}", request.getUserId());
+	            return ResponseEntity.status(HttpStatus.NOT_FOUND)
+	                    .body(ApiResponse.error(
+	                            AdminMessages.getMessage(AdminCodes.USER_NOT_FOUND),
+	                            AdminCodes.USER_NOT_FOUND));
+	        } catch (UnauthorizedAccessException e) {
+	            log.warn("Unauthorized bulk comment deletion attempt by: {}", authentication.getName());
+	            return ResponseEntity.status(HttpStatus.FORBIDDEN)
+	                    .body(ApiResponse.error(
+	                            AdminMessages.getMessage(AdminCodes.ACCESS_DENIED),
+	                            AdminCodes.ACCESS_DENIED));
+	        } catch (Exception e) {
+	            log.error("Error deleting comments in bulk: ", e);
+	            return ResponseEntity.internalServerError()
+	                    .body(ApiResponse.error(
+	                            AdminMessages.getMessage(AdminCodes.SERVER_ERROR),
+	                            AdminCodes.SERVER_ERROR));
+	        }
+		}
+		
 		@Operation(summary = "Get recent user logins",
 	            description = "Retrieve a list of recent user logins")
 		@GetMapping("/recent-logins")
@@ -1,6 +1,7 @@
 package com.backend.app.controller;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 
@@ -9,6 +10,7 @@ import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
 import org.springframework.web.bind.annotation.GetMapping;
@@ -19,19 +21,24 @@ import org.springframework.web.bind.annotation.RequestBody;
 import org.springframework.web.bind.annotation.RequestMapping;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.backend.app.controller.codes.CommentCodes;
 import com.backend.app.controller.messages.CommentMessages;
 import com.backend.app.dto.create.CreateCommentDTO;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.model.CommentDTO;
 import com.backend.app.dto.response.ApiResponse;
 import com.backend.app.dto.response.PaginatedResponse;
 import com.backend.app.exception.BusinessRuleException;
+import com.backend.app.exception.InvalidInputException;
+import com.backend.app.exception.RateLimitExceededException;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.exception.UnauthorizedException;
 import com.backend.app.model.Comment;
 import com.backend.app.security.SecurityUtils;
 import com.backend.app.service.CommentService;
+import com.backend.app.service.CommentStreamService;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -42,7 +49,10 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CommentController {
 	private final CommentService commentService;
+	private final CommentStreamService commentStreamService;
 	private final SecurityUtils securityUtils;
+	
+	private static final int MAX_CHUNK_SIZE = 100;
 
 	@GetMapping("/project/{projectId}")
 	public ResponseEntity<ApiResponse<List<CommentDTO>>> getCommentsByProjectId(@PathVariable UUID projectId) {
@@ -66,16 +76,121 @@ public class CommentController {
 	        }
 	}
 	
+	@GetMapping("/project/{projectId}/thread")
+	public ResponseEntity<PaginatedResponse<CommentDTO>> getCommentThreadChunk(@PathVariable UUID projectId,
+			@RequestParam(required = false) String cursor,
+			@RequestParam(defaultValue = "20") int size) {
+		try {
+			KeysetPage<CommentDTO> chunk = commentService.getCommentThreadChunk(projectId, cursor,
+					Math.max(1, Math.min(size, MAX_CHUNK_SIZE)));
+			return ResponseEntity.ok(PaginatedResponse.success(
+					chunk,
+					CommentMessages.getMessage(CommentCodes.COMMENTS_FETCHED), CommentCodes.COMMENTS_FETCHED));
+		} catch (InvalidInputException e) {
+			log.warn("Invalid comment cursor for project {}: {}", projectId, cursor);
+			return ResponseEntity.badRequest()
+					.body(PaginatedResponse.error(
+							CommentMessages.getMessage(CommentCodes.INVALID_CURSOR),
+							CommentCodes.INVALID_CURSOR));
+		} catch (Exception e) {
+			log.error("Error fetching comment thread for project: {}", projectId, e);
+			return ResponseEntity.internalServerError()
+					.body(PaginatedResponse.error(
+							CommentMessages.getMessage(CommentCodes.SERVER_ERROR),
+							CommentCodes.SERVER_ERROR));
+		}
+	}
+	
+	@GetMapping("/project/{projectId}/reply-counts")
+	public ResponseEntity<ApiResponse<Map<UUID, Long>>> getReplyCounts(@PathVariable UUID projectId) {
+		try {
+			Map<UUID, Long> counts = commentService.getReplyCountsByProjectId(projectId);
+			return ResponseEntity.ok(ApiResponse.success(
+					counts,
+					CommentMessages.getMessage(CommentCodes.COMMENTS_FETCHED), CommentCodes.COMMENTS_FETCHED));
+		} catch (Exception e) {
+			log.error("Error counting replies for project: {}", projectId, e);
+			return ResponseEntity.internalServerError()
+					.body(ApiResponse.error(
+							CommentMessages.getMessage(CommentCodes.SERVER_ERROR),
+							CommentCodes.SERVER_ERROR));
+		}
+	}
+	
+	@GetMapping("/{commentId}/replies")
+	public ResponseEntity<ApiResponse<List<CommentDTO>>> getReplies(@PathVariable UUID commentId,
+			@RequestParam(required = false) Integer depth) {
+		try {
+			List<CommentDTO> replies = commentService.getRepliesForComment(commentId,
+					depth == null ? null : Math.max(1, depth));
+			return ResponseEntity.ok(ApiResponse.success(
+					replies,
+					CommentMessages.getMessage(CommentCodes.COMMENTS_FETCHED), CommentCodes.COMMENTS_FETCHED));
+		} catch (ResourceNotFoundException e) {
+			log.warn("Comment not found: {}", commentId);
+			return ResponseEntity.status(HttpStatus.NOT_FOUND)
+					.body(ApiResponse.error(
+							CommentMessages.getMessage(CommentCodes.COMMENT_NOT_FOUND),
+							CommentCodes.COMMENT_NOT_FOUND));
+		} catch (Exception e) {
+			log.error("Error fetching replies for comment: {}", commentId, e);
+			return ResponseEntity.internalServerError()
+					.body(ApiResponse.error(
+							CommentMessages.getMessage(CommentCodes.SERVER_ERROR),
+							CommentCodes.SERVER_ERROR));
+		}
+	}
+	
+	/**
+	 * Streams comment changes of a project as server-sent events named
+	 * created, updated, deleted and likes_changed, each carrying a comment as
+	 * JSON. A resync event means events were dropped and the thread should be
+	 * reloaded. Errors carry no body, since the client only accepts an event
+	 * stream.
+	 */
+	@GetMapping(value = "/project/{projectId}/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+	public ResponseEntity<SseEmitter> streamComments(@PathVariable UUID projectId) {
+		Optional<Long> userId = getAuthenticatedUserId();
+		if (userId.isEmpty()) {
+			return ResponseEntity.status(HttpStatus.UNAUTHORIZED).build();
+		}
+		try {
+			return ResponseEntity.ok(commentStreamService.subscribe(projectId, userId.get()));
+		} catch (ResourceNotFoundException e) {
+			log.warn("Comment stream requested for missing project: {}", projectId);
+			return ResponseEntity.status(HttpStatus.NOT_FOUND).build();
+		} catch (RateLimitExceededException e) {
+			log.warn("User {} has too many open comment streams", userId.get());
+			return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+					.header("Retry-After", String.valueOf(e.getRetryAfterSeconds()))
+					.build();
+		}
+	}
+	
 	@GetMapping("/user/{userId}")
 	public ResponseEntity<PaginatedResponse<CommentDTO>> getCommentsByUserId( @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
-            @RequestParam(defaultValue = "10") int size) {
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) String cursor) {
 		 try {
+	            if (cursor != null) {
+	                KeysetPage<CommentDTO> chunk = commentService.getCommentsByUserIdChunk(userId, cursor,
+	                		Math.max(1, Math.min(size, MAX_CHUNK_SIZE)));
+	                return ResponseEntity.ok(PaginatedResponse.success(
+	                    chunk,
+	                    CommentMessages.getMessage(CommentCodes.USER_COMMENTS_FETCHED),CommentCodes.USER_COMMENTS_FETCHED));
+	            }
 	            Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
 	            Page<CommentDTO> comments = commentService.getCommentsByUserId(userId, pageable);
 	            return ResponseEntity.ok(PaginatedResponse.success(
 	                comments,
 	                CommentMessages.getMessage(CommentCodes.USER_COMMENTS_FETCHED),CommentCodes.USER_COMMENTS_FETCHED));
+	        } catch (InvalidInputException e) {
+	            log.warn("Invalid comment cursor for user {}: {}", userId, cursor);
+	            return ResponseEntity.badRequest()
+	                .body(PaginatedResponse.error(
+	                    CommentMessages.getMessage(CommentCodes.INVALID_CURSOR),
+	                    CommentCodes.INVALID_CURSOR));
 	        } catch (ResourceNotFoundException e) {
 	            log.warn("User not found: {}", userId);
 	            return ResponseEntity.status(HttpStatus.NOT_FOUND)
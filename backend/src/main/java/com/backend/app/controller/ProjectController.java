@@ -26,6 +26,7 @@ import org.springframework.web.bind.annotation.RestController;
 
 import com.backend.app.controller.codes.ProjectCodes;
 import com.backend.app.controller.messages.ProjectMessages;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.miscellaneous.ProjectSearchCriteria;
 import com.backend.app.dto.miscellaneous.ProjectWithDetailsDTO;
 import com.backend.app.dto.model.CommentDTO;
@@ -38,6 +39,7 @@ import com.backend.app.dto.response.PaginatedResponse;
 import com.backend.app.dto.response.ProjectResponse;
 import com.backend.app.enums.ProjectType;
 import com.backend.app.exception.BusinessRuleException;
+import com.backend.app.exception.InvalidInputException;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.mapper.CommentMapper;
 import com.backend.app.mapper.PatentMapper;
@@ -80,15 +82,29 @@ public class ProjectController {
 	private final ResearchService researchService;
 	private final ResearchMapper researchMapper;
 	private final UserService userService;
+	
+	private static final String CURSOR_DESCRIPTION = "Opaque cursor for keyset pagination; send an empty value for the first chunk, then the returned nextCursor. Omit for page-number pagination";
 
 	@Operation(summary = "Get all projects with pagination")
 	@GetMapping
-	public ResponseEntity<PaginatedResponse<ProjectDTO>> getAllProjects(@ParameterObject Pageable pageable) {
+	public ResponseEntity<PaginatedResponse<ProjectDTO>> getAllProjects(
+			@Parameter(description = CURSOR_DESCRIPTION) @RequestParam(required = false) String cursor,
+			@ParameterObject Pageable pageable) {
 		log.debug("Fetching all projects");
 		try {
+			if (cursor != null) {
+				KeysetPage<ProjectDTO> chunk = projectService.findProjectsChunk(cursor, pageable.getPageSize())
+						.map(projectMapper::toDTO);
+				return ResponseEntity.ok(PaginatedResponse.success(chunk,
+						ProjectMessages.getMessage(ProjectCodes.PROJECTS_FETCHED), ProjectCodes.PROJECTS_FETCHED));
+			}
 			Page<ProjectDTO> projects = projectService.findAllProjects(pageable).map(projectMapper::toDTO);
 			return ResponseEntity.ok(PaginatedResponse.success(projects,
 					ProjectMessages.getMessage(ProjectCodes.PROJECTS_FETCHED), ProjectCodes.PROJECTS_FETCHED));
+		} catch (InvalidInputException e) {
+			log.warn("Invalid project cursor: {}", cursor);
+			return ResponseEntity.badRequest().body(PaginatedResponse
+					.error(ProjectMessages.getMessage(ProjectCodes.INVALID_CURSOR), ProjectCodes.INVALID_CURSOR));
 		} catch (Exception e) {
 			log.error("Error fetching projects: {}", e.getMessage());
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(PaginatedResponse
@@ -336,15 +352,26 @@ public class ProjectController {
 	@GetMapping("/newest")
 	public ResponseEntity<PaginatedResponse<ProjectDTO>> getNewestProjects(
 			@Parameter(description = "Number of projects to return") @RequestParam(defaultValue = "10") @Min(1) @Max(100) int limit,
+			@Parameter(description = CURSOR_DESCRIPTION) @RequestParam(required = false) String cursor,
 			@ParameterObject Pageable pageable) {
 		log.debug("Fetching {} newest projects", limit);
 
 		try {
+			if (cursor != null) {
+				KeysetPage<ProjectDTO> chunk = projectService.findProjectsChunk(cursor, limit).map(projectMapper::toDTO);
+				return ResponseEntity.ok(PaginatedResponse.success(chunk,
+						ProjectMessages.getMessage(ProjectCodes.NEWEST_PROJECTS_FETCHED),
+						ProjectCodes.NEWEST_PROJECTS_FETCHED));
+			}
 			Page<ProjectDTO> projects = projectService.findNewestProjects(limit, pageable).map(projectMapper::toDTO);
 
 			return ResponseEntity.ok(PaginatedResponse.success(projects,
 					ProjectMessages.getMessage(ProjectCodes.NEWEST_PROJECTS_FETCHED),
 					ProjectCodes.NEWEST_PROJECTS_FETCHED));
+		} catch (InvalidInputException e) {
+			log.warn("Invalid project cursor: {}", cursor);
+			return ResponseEntity.badRequest().body(PaginatedResponse
+					.error(ProjectMessages.getMessage(ProjectCodes.INVALID_CURSOR), ProjectCodes.INVALID_CURSOR));
 		} catch (Exception e) {
 			log.error("Error fetching newest projects: {}", e.getMessage());
 			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR).body(PaginatedResponse
@@ -1,8 +1,15 @@
 package com.backend.app.controller;
 
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpRange;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.validation.annotation.Validated;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -10,9 +17,11 @@ import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PathVariable;
 import org.springframework.web.bind.annotation.PostMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestHeader;
 import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 import org.springframework.web.multipart.MultipartFile;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 import com.backend.app.controller.codes.S3Codes;
 import com.backend.app.controller.messages.S3Messages;
@@ -21,6 +30,7 @@ import com.backend.app.dto.response.ApiResponse;
 import com.backend.app.enums.ProjectType;
 import com.backend.app.exception.InvalidEntityTypeException;
 import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.model.FileMetadata;
 import com.backend.app.repository.FileMetadataRepository;
 import com.backend.app.service.S3Service;
 
@@ -29,6 +39,8 @@ import jakarta.validation.constraints.NotEmpty;
 import jakarta.validation.constraints.NotNull;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
 
 @Slf4j
 @RestController
@@ -36,6 +48,8 @@ import lombok.extern.slf4j.Slf4j;
 @Validated
 @RequiredArgsConstructor
 public class S3Controller {
+	private static final int DOWNLOAD_BUFFER_SIZE = 64 * 1024;
+	
 	private final S3Service s3Service;
     private final FileMetadataRepository fileMetadataRepository;
 	
@@ -190,5 +204,97 @@ public class S3Controller {
                                 S3Codes.FILES_FETCH_ERROR));
             }
     }
+    
+    /**
+     * Streams a stored file to the client through a fixed-size buffer. Supports
+     * a single HTTP byte range, conditional GETs against the stored checksum as
+     * ETag and If-Range. Missing files and storage errors are left to
+     * {@link com.backend.app.exception.GlobalExceptionHandler} since the success
+     * body is a stream rather than an {@link ApiResponse}.
+     */
+    @GetMapping("/download/{fileId}")
+    public ResponseEntity<StreamingResponseBody> downloadFile(@PathVariable UUID fileId,
+    		@RequestHeader(value = HttpHeaders.RANGE, required = false) String rangeHeader,
+    		@RequestHeader(value = HttpHeaders.IF_NONE_MATCH, required = false) String ifNoneMatch,
+    		@RequestHeader(value = HttpHeaders.IF_RANGE, required = false) String ifRange) {
+    	FileMetadata metadata = s3Service.getDownloadableFile(fileId);
+    	String eTag = metadata.getChecksum() != null ? "\"" + metadata.getChecksum() + "\"" : null;
+    	
+    	if(eTag != null && ifNoneMatch != null && (ifNoneMatch.trim().equals("*") || ifNoneMatch.contains(eTag))) {
+    		return ResponseEntity.status(HttpStatus.NOT_MODIFIED).eTag(eTag).build();
+    	}
+    	
+    	Long size = metadata.getFileSize();
+    	HttpRange range = resolveRange(rangeHeader, ifRange, eTag, size);
+    	HttpHeaders headers = new HttpHeaders();
+    	headers.set(HttpHeaders.ACCEPT_RANGES, "bytes");
+    	headers.setContentDisposition(ContentDisposition.attachment()
+    			.filename(metadata.getFileName(), StandardCharsets.UTF_8).build());
+    	if(eTag != null) {
+    		headers.setETag(eTag);
+    	}
+    	
+    	if(range != null) {
+    		long start = range.getRangeStart(size);
+    		long end = Math.min(range.getRangeEnd(size), size - 1);
+    		if(start >= size || start > end) {
+    			headers.set(HttpHeaders.CONTENT_RANGE, "bytes */" + size);
+    			return ResponseEntity.status(HttpStatus.REQUESTED_RANGE_NOT_SATISFIABLE).headers(headers).build();
+    		}
+    		
+    		ResponseInputStream<GetObjectResponse> object = s3Service.openObjectStream(metadata, "bytes=" + start + "-" + end);
+    		headers.set(HttpHeaders.CONTENT_RANGE, "bytes " + start + "-" + end + "/" + size);
+    		headers.setContentLength(end - start + 1);
+    		headers.setContentType(contentTypeOf(object.response()));
+    		return ResponseEntity.status(HttpStatus.PARTIAL_CONTENT).headers(headers).body(streamOf(object));
+    	}
+    	
+    	ResponseInputStream<GetObjectResponse> object = s3Service.openObjectStream(metadata, null);
+    	Long contentLength = size != null ? size : object.response().contentLength();
+    	if(contentLength != null) {
+    		headers.setContentLength(contentLength);
+    	}
+    	headers.setContentType(contentTypeOf(object.response()));
+    	return ResponseEntity.ok().headers(headers).body(streamOf(object));
+    }
+    
+    /**
+     * Returns the single range to serve, or null to serve the whole file. Invalid
+     * or multi-part ranges, a stale If-Range and files of unknown size fall back
+     * to the whole file.
+     */
+    private HttpRange resolveRange(String rangeHeader, String ifRange, String eTag, Long size) {
+    	if(rangeHeader == null || size == null) {
+    		return null;
+    	}
+    	if(ifRange != null && !ifRange.equals(eTag)) {
+    		return null;
+    	}
+    	try {
+    		List<HttpRange> ranges = HttpRange.parseRanges(rangeHeader);
+    		return ranges.size() == 1 ? ranges.get(0) : null;
+    	} catch (IllegalArgumentException e) {
+    		return null;
+    	}
+    }
+    
+    private MediaType contentTypeOf(GetObjectResponse response) {
+    	try {
+    		return response.contentType() != null ? MediaType.parseMediaType(response.contentType()) : MediaType.APPLICATION_OCTET_STREAM;
+    	} catch (IllegalArgumentException e) {
+    		return MediaType.APPLICATION_OCTET_STREAM;
+    	}
+    }
+    
+    private StreamingResponseBody streamOf(InputStream object) {
+    	return out -> {
+    		try (InputStream in = object) {
+    			byte[] buffer = new byte[DOWNLOAD_BUFFER_SIZE];
+    			int read;
+    			while((read = in.read(buffer)) != -1) {
+    				out.write(buffer, 0, read);
+    			}
+    		}
+    	};
+    }
 }
-
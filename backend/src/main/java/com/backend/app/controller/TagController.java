@@ -4,8 +4,6 @@ import java.util.List;
 import java.util.UUID;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.cache.annotation.CacheEvict;
-import org.springframework.cache.annotation.Cacheable;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.DeleteMapping;
@@ -34,7 +32,6 @@ import lombok.extern.slf4j.Slf4j;
 public class TagController {
 	private final TagService tagService;
 	
-	@Cacheable("tags") // !!!!!
 	@GetMapping
 	public ResponseEntity<ApiResponse<List<TagDTO>>> getAllTags() {
 		 try {
@@ -83,7 +80,6 @@ public class TagController {
         }
 	}
 	
-	@CacheEvict(value = "tags", allEntries = true) //!!!!
 	@PostMapping
 	public ResponseEntity<ApiResponse<TagDTO>> createTag(@RequestBody TagDTO tagDTO){
 		try {
@@ -27,6 +27,7 @@ import org.springframework.web.multipart.MultipartFile;
 
 import com.backend.app.controller.codes.UserCodes;
 import com.backend.app.controller.messages.UserMessages;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.miscellaneous.ResponseUserDTO;
 import com.backend.app.dto.miscellaneous.UserProfileUpdateDTO;
 import com.backend.app.dto.model.ProjectDTO;
@@ -35,6 +36,7 @@ import com.backend.app.dto.model.UserLoginDTO;
 import com.backend.app.dto.response.ApiResponse;
 import com.backend.app.dto.response.PaginatedResponse;
 import com.backend.app.enums.Role;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.BusinessRuleException;
 import com.backend.app.exception.DuplicateResourceException;
 import com.backend.app.exception.InvalidInputException;
@@ -65,6 +67,7 @@ public class UserController {
 	private static final String DEFAULT_PAGE_SIZE = "10";
 	private static final String DEFAULT_PAGE_NUMBER = "0";
 	private static final String DEFAULT_SORT_BY = "id";
+	private static final int MAX_CHUNK_SIZE = 100;
 
 	private final UserService userService;
 	private final ProjectService projectService;
@@ -77,14 +80,36 @@ public class UserController {
 	public ResponseEntity<PaginatedResponse<UserDTO>> getAllUsers(
 			@Parameter(description = "Page number") @RequestParam(defaultValue = DEFAULT_PAGE_NUMBER) int page,
 			@Parameter(description = "Page size") @RequestParam(defaultValue = DEFAULT_PAGE_SIZE) int size,
-			@Parameter(description = "Sort by field") @RequestParam(defaultValue = DEFAULT_SORT_BY) String sortBy) {
+			@Parameter(description = "Sort by field, defaults to " + DEFAULT_SORT_BY + ". Not supported with a cursor") @RequestParam(required = false) String sortBy,
+			@Parameter(description = "Opaque cursor for keyset pagination in registration order; send an empty value for the first chunk. Omit for page-number pagination")
+			@RequestParam(required = false) String cursor) {
 		  try {
-	            Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy));
+	            if (cursor != null) {
+	                if (sortBy != null) {
+	                    // Chunks always follow registration order, so another order cannot be honoured
+	                    return ResponseEntity.badRequest()
+	                            .body(PaginatedResponse.error(
+	                                    UserMessages.getMessage(UserCodes.INVALID_INPUT),
+	                                    UserCodes.INVALID_INPUT));
+	                }
+	                KeysetPage<UserDTO> chunk = userService.getUsersChunk(cursor, Math.max(1, Math.min(size, MAX_CHUNK_SIZE)));
+	                return ResponseEntity.ok(PaginatedResponse.success(
+	                        chunk,
+	                        UserMessages.getMessage(UserCodes.USERS_FETCHED),
+	                        UserCodes.USERS_FETCHED));
+	            }
+	            Pageable pageable = PageRequest.of(page, size, Sort.by(sortBy != null ? sortBy : DEFAULT_SORT_BY));
 	            Page<UserDTO> usersPage = userService.getAllUsers(pageable);
 	            return ResponseEntity.ok(PaginatedResponse.success(
 	                    usersPage,
 	                    UserMessages.getMessage(UserCodes.USERS_FETCHED),
 	                    UserCodes.USERS_FETCHED));
+	        } catch (InvalidInputException e) {
+	            log.warn("Invalid user cursor: {}", cursor);
+	            return ResponseEntity.badRequest()
+	                    .body(PaginatedResponse.error(
+	                            UserMessages.getMessage(UserCodes.INVALID_CURSOR),
+	                            UserCodes.INVALID_CURSOR));
 	        } catch (UnauthorizedAccessException e) {
 	            log.warn("Unauthorized access attempt to get all users");
 	            return ResponseEntity.status(HttpStatus.FORBIDDEN)
@@ -513,6 +538,27 @@ public class UserController {
 	}
 	
 	
+	@Operation(summary = "Get users with the most publications, patents or research projects")
+	@io.swagger.v3.oas.annotations.responses.ApiResponse(responseCode = "200", description = "Successfully retrieved leaderboard")
+	@GetMapping("/leaderboard")
+	public ResponseEntity<ApiResponse<List<UserDTO>>> getLeaderboard(
+			@Parameter(description = "Counter to rank by") @RequestParam(defaultValue = "PUBLICATIONS") UserCounter metric,
+			@Parameter(description = "Number of users") @RequestParam(defaultValue = "10") int limit) {
+		try {
+			List<UserDTO> leaders = userService.getLeaderboard(metric, limit);
+			return ResponseEntity.ok(ApiResponse.success(
+					leaders,
+					UserMessages.getMessage(UserCodes.LEADERBOARD_FETCHED),
+					UserCodes.LEADERBOARD_FETCHED));
+		} catch (Exception e) {
+			log.error("Error fetching {} leaderboard", metric, e);
+			return ResponseEntity.status(HttpStatus.INTERNAL_SERVER_ERROR)
+					.body(ApiResponse.error(
+							UserMessages.getMessage(UserCodes.SERVER_ERROR),
+							UserCodes.SERVER_ERROR));
+		}
+	}
+	
 	@Operation(summary = "Get recently active users")
 	@GetMapping("/recent-active-users")
 	public ResponseEntity<ApiResponse<List<UserDTO>>> getRecentlyActiveUsers (
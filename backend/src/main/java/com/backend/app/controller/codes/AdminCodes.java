@@ -13,6 +13,7 @@ private AdminCodes() {}
     public static final String PROJECTS_FETCHED = "PROJECTS_FETCHED";
     public static final String COMMENTS_FETCHED = "COMMENTS_FETCHED";
     public static final String COMMENT_DELETED = "COMMENT_DELETED";
+    public static final String COMMENTS_BULK_DELETED = "COMMENTS_BULK_DELETED";
     public static final String LOGINS_FETCHED = "LOGINS_FETCHED";
     public static final String LOGIN_STATS_FETCHED = "LOGIN_STATS_FETCHED";
     
@@ -20,6 +21,7 @@ private AdminCodes() {}
     public static final String ACCESS_DENIED = "ACCESS_DENIED";
     public static final String USER_NOT_FOUND = "USER_NOT_FOUND";
     public static final String COMMENT_NOT_FOUND = "COMMENT_NOT_FOUND";
+    public static final String INVALID_BULK_REQUEST = "INVALID_BULK_REQUEST";
     public static final String ALREADY_ADMIN = "ALREADY_ADMIN";
     public static final String DEMOTE_SELF_OR_NON_ADMIN = "DEMOTE_SELF_OR_NON_ADMIN";
     public static final String SERVER_ERROR = "SERVER_ERROR";
@@ -20,5 +20,6 @@ public class CommentCodes {
 	    public static final String COMMENT_NOT_FOUND = "COMMENT_NOT_FOUND";
 	    public static final String RESOURCE_NOT_FOUND = "RESOURCE_NOT_FOUND";
 	    public static final String BUSINESS_RULE_VIOLATION = "BUSINESS_RULE_VIOLATION";
+	    public static final String INVALID_CURSOR = "INVALID_CURSOR";
 	    public static final String SERVER_ERROR = "SERVER_ERROR";
 }
@@ -28,4 +28,5 @@ public class ProjectCodes {
 	    public static final String ACCESS_DENIED = "ACCESS_DENIED";
 	    public static final String SERVER_ERROR = "SERVER_ERROR";
 	    public static final String INVALID_SEARCH_CRITERIA = "INVALID_SEARCH_CRITERIA";
+	    public static final String INVALID_CURSOR = "INVALID_CURSOR";
 }
@@ -14,6 +14,7 @@ private UserCodes() {}
     public static final String USERS_SEARCHED = "USERS_SEARCHED";
     public static final String COLLABORATORS_FETCHED = "COLLABORATORS_FETCHED";
     public static final String ACTIVE_USERS_FETCHED = "ACTIVE_USERS_FETCHED";
+    public static final String LEADERBOARD_FETCHED = "LEADERBOARD_FETCHED";
     
     // Error codes
     public static final String ACCESS_DENIED = "ACCESS_DENIED";
@@ -21,6 +22,7 @@ private UserCodes() {}
     public static final String USER_EXISTS = "USER_EXISTS";
     public static final String INVALID_INPUT = "INVALID_INPUT";
     public static final String INVALID_FILE = "INVALID_FILE";
+    public static final String INVALID_CURSOR = "INVALID_CURSOR";
     public static final String DELETION_NOT_ALLOWED = "DELETION_NOT_ALLOWED";
     public static final String SERVER_ERROR = "SERVER_ERROR";
 }
@@ -17,6 +17,7 @@ private AdminMessages() {}
             case AdminCodes.PROJECTS_FETCHED -> "Projects fetched successfully";
             case AdminCodes.COMMENTS_FETCHED -> "Comments fetched successfully";
             case AdminCodes.COMMENT_DELETED -> "Comment deleted successfully";
+            case AdminCodes.COMMENTS_BULK_DELETED -> "Comments deleted successfully";
             case AdminCodes.LOGINS_FETCHED -> "Recent logins fetched successfully";
             case AdminCodes.LOGIN_STATS_FETCHED -> "Login statistics fetched successfully";
             
@@ -24,6 +25,7 @@ private AdminMessages() {}
             case AdminCodes.ACCESS_DENIED -> "Access denied. Admin privileges required";
             case AdminCodes.USER_NOT_FOUND -> "User not found";
             case AdminCodes.COMMENT_NOT_FOUND -> "Comment not found";
+            case AdminCodes.INVALID_BULK_REQUEST -> "Provide comment IDs or a user ID";
             case AdminCodes.ALREADY_ADMIN -> "User is already an admin";
             case AdminCodes.DEMOTE_SELF_OR_NON_ADMIN -> "Cannot demote yourself or a non-admin user";
             case AdminCodes.SERVER_ERROR -> "An unexpected error occurred";
@@ -24,6 +24,7 @@ public class CommentMessages {
 	            case CommentCodes.COMMENT_NOT_FOUND -> "Comment not found";
 	            case CommentCodes.RESOURCE_NOT_FOUND -> "Resource not found";
 	            case CommentCodes.BUSINESS_RULE_VIOLATION -> "Business rule violation";
+	            case CommentCodes.INVALID_CURSOR -> "Invalid pagination cursor";
 	            case CommentCodes.SERVER_ERROR -> "An unexpected error occurred";
 	            
 	            default -> "Unknown status";
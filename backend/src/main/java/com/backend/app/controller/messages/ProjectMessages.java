@@ -32,6 +32,7 @@ private ProjectMessages() {}
             case ProjectCodes.ACCESS_DENIED -> "Access denied";
             case ProjectCodes.SERVER_ERROR -> "An unexpected error occurred";
             case ProjectCodes.INVALID_SEARCH_CRITERIA -> "Invalid search criteria";
+            case ProjectCodes.INVALID_CURSOR -> "Invalid pagination cursor";
             
             default -> "Unknown status";
         };
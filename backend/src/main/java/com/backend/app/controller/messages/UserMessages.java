@@ -18,6 +18,7 @@ public class UserMessages {
 	            case UserCodes.USERS_SEARCHED -> "Users search completed successfully";
 	            case UserCodes.COLLABORATORS_FETCHED -> "Collaborators retrieved successfully";
 	            case UserCodes.ACTIVE_USERS_FETCHED -> "Active users retrieved successfully";
+	            case UserCodes.LEADERBOARD_FETCHED -> "Leaderboard retrieved successfully";
 	            
 	            // Error messages
 	            case UserCodes.ACCESS_DENIED -> "Access denied";
@@ -25,6 +26,7 @@ public class UserMessages {
 	            case UserCodes.USER_EXISTS -> "User already exists";
 	            case UserCodes.INVALID_INPUT -> "Invalid input provided";
 	            case UserCodes.INVALID_FILE -> "Invalid file provided";
+	            case UserCodes.INVALID_CURSOR -> "Invalid pagination cursor";
 	            case UserCodes.DELETION_NOT_ALLOWED -> "User deletion not allowed";
 	            case UserCodes.SERVER_ERROR -> "An unexpected error occurred";
 	            
@@ -0,0 +1,45 @@
+package com.backend.app.dto.miscellaneous;
+
+import java.util.List;
+import java.util.function.Function;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * A chunk of results fetched with keyset pagination, together with the
+ * opaque cursor that positions the next chunk (null on the last one)
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class KeysetPage<T> {
+	private List<T> content;
+	private String nextCursor;
+	
+	/**
+	 * Builds a chunk from rows fetched with a limit of {@code size + 1}. The
+	 * extra row is dropped and only signals that another chunk exists.
+	 * 
+	 * @param rows Rows in keyset order, at most {@code size + 1}
+	 * @param size Requested chunk size
+	 * @param cursorOf Encodes the cursor of the last row of the chunk
+	 * @return The chunk with the cursor for the next one, or null if this is the last one
+	 */
+	public static <T> KeysetPage<T> of(List<T> rows, int size, Function<T, String> cursorOf) {
+		if (rows.size() <= size) {
+			return new KeysetPage<>(rows, null);
+		}
+		List<T> content = rows.subList(0, size);
+		return new KeysetPage<>(content, cursorOf.apply(content.get(size - 1)));
+	}
+	
+	public <R> KeysetPage<R> map(Function<? super T, ? extends R> mapper) {
+		return new KeysetPage<>(content.stream().<R>map(mapper).toList(), nextCursor);
+	}
+	
+	public boolean hasNext() {
+		return nextCursor != null;
+	}
+}
@@ -0,0 +1,21 @@
+package com.backend.app.dto.request;
+
+import java.util.List;
+import java.util.UUID;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+/**
+ * Comments to remove in one moderation action: explicit comment IDs, the
+ * whole comment history of a user, or both. Replies are always removed with
+ * their parent.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkCommentDeleteRequest {
+	private List<UUID> commentIds;
+	private Long userId;
+}
@@ -5,6 +5,8 @@ import java.util.List;
 
 import org.springframework.data.domain.Page;
 
+import com.backend.app.dto.miscellaneous.KeysetPage;
+
 import lombok.AllArgsConstructor;
 import lombok.Data;
 
@@ -20,6 +22,7 @@ public class PaginatedResponse<T> {
     private long totalItems;
     private boolean hasNext;
     private String errorCode;
+    private String nextCursor;
     
     public static <T> PaginatedResponse<T> success(Page<T> page) {
     	return new PaginatedResponse<>( true,
@@ -30,6 +33,7 @@ public class PaginatedResponse<T> {
                 page.getTotalPages(),
                 page.getTotalElements(),
                 page.hasNext(),
+    			null,
     			null);
     }
     
@@ -44,6 +48,7 @@ public class PaginatedResponse<T> {
             page.getTotalPages(),
             page.getTotalElements(),
             page.hasNext(),
+            null,
             null
         );
     }
@@ -59,7 +64,28 @@ public class PaginatedResponse<T> {
             page.getTotalPages(),
             page.getTotalElements(),
             page.hasNext(),
-            code
+            code,
+            null
+        );
+    }
+
+    /**
+     * Success in cursor (keyset) mode. No total count is computed, so
+     * totalPages and totalItems are reported as -1; clients continue with
+     * nextCursor while hasNext is true.
+     */
+    public static <T> PaginatedResponse<T> success(KeysetPage<T> page, String message, String code) {
+        return new PaginatedResponse<>(
+            true,
+            message,
+            LocalDateTime.now(),
+            page.getContent(),
+            0,
+            -1,
+            -1,
+            page.hasNext(),
+            code,
+            page.getNextCursor()
         );
     }
 
@@ -74,6 +100,7 @@ public class PaginatedResponse<T> {
             0,
             0,
             false,
+            null,
             null
         );
     }
@@ -89,7 +116,8 @@ public class PaginatedResponse<T> {
             0,
             0,
             false,
-            errorCode
+            errorCode,
+            null
         );
     }
 
@@ -104,7 +132,8 @@ public class PaginatedResponse<T> {
             0,
             0,
             false,
-            errorCode
+            errorCode,
+            null
         );
     }
 
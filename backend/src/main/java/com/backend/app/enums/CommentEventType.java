@@ -0,0 +1,5 @@
+package com.backend.app.enums;
+
+public enum CommentEventType {
+	CREATED, UPDATED, DELETED, LIKES_CHANGED
+}
@@ -0,0 +1,5 @@
+package com.backend.app.enums;
+
+public enum RollupMetric {
+	REGISTRATIONS, COMMENTS, COMMENT_LIKES, PROJECTS, LOGINS
+}
@@ -0,0 +1,8 @@
+package com.backend.app.enums;
+
+/**
+ * Per-user project membership counters kept on {@link com.backend.app.model.User}.
+ */
+public enum UserCounter {
+	PUBLICATIONS, PATENTS, RESEARCH
+}
@@ -0,0 +1,17 @@
+package com.backend.app.event;
+
+import java.util.UUID;
+
+import com.backend.app.dto.model.CommentDTO;
+import com.backend.app.enums.CommentEventType;
+
+/**
+ * Published by {@link com.backend.app.service.CommentService} whenever a
+ * comment of a project changes. The payload carries no per-viewer state:
+ * deletions only fill in the IDs, like changes only the IDs and the count.
+ * @param type What happened to the comment
+ * @param projectId The project the comment belongs to
+ * @param comment The changed comment
+ */
+public record CommentEvent(CommentEventType type, UUID projectId, CommentDTO comment) {
+}
@@ -1,16 +1,10 @@
 package com.backend.app.filter;
 
 import java.io.IOException;
-import java.security.Key;
-import java.util.Base64;
 import java.util.Collections;
-import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
 
-import javax.crypto.spec.SecretKeySpec;
-
-import org.springframework.beans.factory.annotation.Value;
 import org.springframework.lang.NonNull;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.context.SecurityContextHolder;
@@ -21,9 +15,6 @@ import com.backend.app.security.TokenBlacklist;
 import com.backend.app.util.JwtUtil;
 
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.JwtParser;
-import io.jsonwebtoken.Jwts;
-import io.jsonwebtoken.security.Keys;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -41,9 +32,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     private final TokenBlacklist tokenBlacklist;
     private final JwtUtil jwtUtil;
 
-	@Value("${jwt.secret}")
-	private String jwtSecretKey;
-    
 	@Override
 	protected void doFilterInternal(@NonNull HttpServletRequest request, 
 			@NonNull HttpServletResponse response, 
@@ -72,7 +60,7 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 			 throw new SecurityException("Token has been revoked");
 		}
 		
-		  Claims claims = validateAndParseJwt(jwt);
+		  Claims claims = jwtUtil.getVerifiedClaims(jwt);
 	        authenticateRequest(claims);
 	}
 	
@@ -84,13 +72,6 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	        return null;
 	    }
 
-	    private Claims validateAndParseJwt(String jwt) {
-	        JwtParser jwtParser = Jwts.parserBuilder()
-	                .setSigningKey(getSigningKey())
-	                .build();
-	        return jwtParser.parseClaimsJws(jwt).getBody();
-	    }
-
 	    private void authenticateRequest(Claims claims) {
 	        String username = claims.getSubject();
 	        Long userId = claims.get(USER_ID_CLAIM, Long.class);
@@ -114,9 +95,4 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
 	        response.sendError(HttpServletResponse.SC_UNAUTHORIZED, message);
 	    }
 
-	    private Key getSigningKey() {
-	        byte[] decodedKey = Base64.getDecoder().decode(jwtSecretKey);
-	        return Keys.hmacShaKeyFor(decodedKey);
-	    } 
-
 }
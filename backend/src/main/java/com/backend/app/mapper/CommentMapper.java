@@ -4,6 +4,8 @@ import org.springframework.stereotype.Component;
 
 import com.backend.app.dto.model.CommentDTO;
 import com.backend.app.model.Comment;
+import com.backend.app.model.CommentLikeId;
+import com.backend.app.repository.CommentLikeRepository;
 import com.backend.app.security.SecurityUtils;
 
 import lombok.RequiredArgsConstructor;
@@ -12,10 +14,20 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class CommentMapper {
     private final SecurityUtils securityUtils;
+    private final CommentLikeRepository commentLikeRepository;
 
 	public CommentDTO toDTO(Comment comment) {
 		Long currentLongId = securityUtils.getCurrentUserId();
-		boolean isLiked = currentLongId != null && comment.getLikedByUsers().contains(currentLongId);
+		boolean isLiked = currentLongId != null
+				&& commentLikeRepository.existsById(new CommentLikeId(comment.getId(), currentLongId));
+		return toDTO(comment, isLiked);
+	}
+	
+	/**
+	 * Converts a comment when the current user's like state is already known,
+	 * e.g. from a batched lookup for a whole page, so no like query is issued
+	 */
+	public CommentDTO toDTO(Comment comment, boolean isLiked) {
 		return CommentDTO.builder().id(comment.getId())
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
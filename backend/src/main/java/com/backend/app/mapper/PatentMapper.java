@@ -2,6 +2,7 @@ package com.backend.app.mapper;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.UUID;
 import java.util.stream.Collectors;
@@ -16,7 +17,6 @@ import com.backend.app.model.PatentCoInventor;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
 import com.backend.app.repository.ProjectRepository;
-import com.backend.app.repository.UserRepository;
 
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
@@ -31,7 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class PatentMapper {	
 	private final ProjectRepository projectRepository;
-	private final UserRepository userRepository;	
+	private final ReferenceResolver referenceResolver;
     
 	 /**
      * Converts Patent entity to PatentDTO
@@ -76,27 +76,29 @@ public class PatentMapper {
           patent.setId(patentDTO.getId());
           patent.setProject(getProjectById(patentDTO.getProjectId()));
           
-          if (patentDTO.getPrimaryAuthorId() != null) {
-        	  patent.setPrimaryAuthor(getUserById(patentDTO.getPrimaryAuthorId()));
-          } else {
+          if (patentDTO.getPrimaryAuthorId() == null) {
         	  throw new ValidationException("Primary author ID is required");
           }
           
+          // Resolve the primary author and all co-inventors in one query
+          List<Long> coInventorIds = patentDTO.getCoInventors() != null ? patentDTO.getCoInventors() : List.of();
+          List<Long> referencedIds = new ArrayList<>(coInventorIds);
+          referencedIds.add(patentDTO.getPrimaryAuthorId());
+          Map<Long, User> users = referenceResolver.resolveUsers(referencedIds);
+          patent.setPrimaryAuthor(users.get(patentDTO.getPrimaryAuthorId()));
+          
           patent.setRegistrationNumber(patentDTO.getRegistrationNumber());
           patent.setRegistrationDate(patentDTO.getRegistrationDate());
           patent.setIssuingAuthority(patentDTO.getIssuingAuthority());
           
           // Create temporary PatentCoInventor objects for the co-inventors
           List<PatentCoInventor> tempCoInventors = new ArrayList<>();
-          if (patentDTO.getCoInventors() != null) {
-              for (Long userId : patentDTO.getCoInventors()) {
-                  User user = getUserById(userId);
-                  PatentCoInventor coInventor = new PatentCoInventor();
-                  coInventor.setUser(user);
-                  coInventor.setPatent(patent); // This is temporary until saved
-                  tempCoInventors.add(coInventor);
-              }
-          }
+          coInventorIds.stream().filter(Objects::nonNull).distinct().forEach(userId -> {
+              PatentCoInventor coInventor = new PatentCoInventor();
+              coInventor.setUser(users.get(userId));
+              coInventor.setPatent(patent); // This is temporary until saved
+              tempCoInventors.add(coInventor);
+          });
           patent.setCoInventors(tempCoInventors);
           
           return patent;
@@ -135,11 +137,7 @@ public class PatentMapper {
 			return;
 		}
 		
-		coInventorIds.stream()
-		.filter(Objects::nonNull)
-		.map(this::getUserById)
-		.filter(Objects::nonNull)
-		.forEach(user -> {
+		referenceResolver.resolveUsers(coInventorIds).values().forEach(user -> {
 			PatentCoInventor coInventor = new PatentCoInventor();
             coInventor.setPatent(patent);
             coInventor.setUser(user);
@@ -158,17 +156,5 @@ public class PatentMapper {
 					return new ValidationException(message);
 				});
 	}
-	
-	
-	/**
-     * Fetches user by ID with validation
-     */
-	 private User getUserById(Long userId) {
-	     return userRepository.findById(userId)
-	                .orElseThrow(() -> {
-	                    String message = "User not found with ID: " + userId;
-	                    log.error(message);
-	                    return new ValidationException(message);
-	                });
-	    }
+
 }
@@ -17,8 +17,6 @@ import com.backend.app.dto.response.ProjectResponse;
 import com.backend.app.model.Project;
 import com.backend.app.model.Tag;
 import com.backend.app.model.User;
-import com.backend.app.repository.TagRepository;
-import com.backend.app.repository.UserRepository;
 
 import jakarta.validation.ValidationException;
 import lombok.RequiredArgsConstructor;
@@ -33,8 +31,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class ProjectMapper {
     private final TagMapper tagMapper;
-	private final TagRepository tagRepository;
-	private final UserRepository userRepository;
+	private final ReferenceResolver referenceResolver;
 	
 	public ProjectDTO toDTO(Project project) {
 		if(project == null) {
@@ -131,11 +128,7 @@ public class ProjectMapper {
 	}
 	
 	private Set<Tag> getTags(ProjectDTO projectDTO) {
-		return Optional.ofNullable(projectDTO.getTagIds())
-				.filter(ids -> !ids.isEmpty())
-				.map(tagRepository::findAllById)
-				.map(HashSet::new)
-				.orElse(new HashSet<>());
+		return new HashSet<>(referenceResolver.resolveTags(projectDTO.getTagIds()));
 	}
 	
 	private Set<TagDTO> getTagDTOs(Project project) {
@@ -147,8 +140,7 @@ public class ProjectMapper {
 	}
 	
 	private User getCreator(ProjectDTO projectDTO) {
-		  return userRepository.findById(projectDTO.getCreatedBy())
-		            .orElseThrow(() -> new ValidationException("Creator user not found with ID: " + projectDTO.getCreatedBy()));
+		  return referenceResolver.resolveUser(projectDTO.getCreatedBy());
 	}
 	
 	private Long getCreatorId(Project project) {
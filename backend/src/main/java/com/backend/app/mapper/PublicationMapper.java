@@ -1,14 +1,18 @@
 package com.backend.app.mapper;
 
+import java.util.List;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
 import org.hibernate.proxy.HibernateProxy;
 import org.springframework.stereotype.Component;
 
+import com.backend.app.dto.miscellaneous.ResponseUserDTO;
 import com.backend.app.dto.model.PublicationDTO;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.model.Project;
 import com.backend.app.model.Publication;
+import com.backend.app.model.PublicationAuthor;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.PublicationAuthorRepository;
 
@@ -33,6 +37,27 @@ public class PublicationMapper {
             return null;
         }
         
+        return toDTO(publication, publicationAuthorRepository.getAuthorsInfoByPublication(publication));
+    }
+    
+    /**
+     * Converts Publication entity to PublicationDTO using its already fetched authors
+     * @param publication the entity to convert, with publicationAuthors and their users initialized
+     * @return the DTO or null if input is null
+     */
+    public PublicationDTO toDTOWithFetchedAuthors(Publication publication) {
+    	if(publication == null) {
+    		return null;
+    	}
+    	
+    	List<ResponseUserDTO> authors = publication.getPublicationAuthors().stream()
+    			.map(PublicationAuthor::getUser)
+    			.map(user -> new ResponseUserDTO(user.getId(), user.getUsername()))
+    			.collect(Collectors.toList());
+    	return toDTO(publication, authors);
+    }
+    
+    private PublicationDTO toDTO(Publication publication, List<ResponseUserDTO> authors) {
         Project project = resolveProxy(publication.getProject());
         
         return PublicationDTO.builder()
@@ -45,7 +70,7 @@ public class PublicationMapper {
             .endPage(publication.getEndPage())
             .journalVolume(publication.getJournalVolume())
             .issueNumber(publication.getIssueNumber())
-            .authors(publicationAuthorRepository.getAuthorsInfoByPublication(publication))
+            .authors(authors)
             .build();
     }
 
@@ -0,0 +1,79 @@
+package com.backend.app.mapper;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.stereotype.Component;
+
+import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.model.Tag;
+import com.backend.app.model.User;
+import com.backend.app.repository.TagRepository;
+import com.backend.app.repository.UserRepository;
+
+import lombok.RequiredArgsConstructor;
+
+/**
+ * Resolves the users and tags referenced by a request with one
+ * {@code findAllById} per entity type instead of one lookup per ID.
+ */
+@Component
+@RequiredArgsConstructor
+public class ReferenceResolver {
+	private final UserRepository userRepository;
+	private final TagRepository tagRepository;
+	
+	/**
+	 * @param ids User IDs; nulls and duplicates are ignored
+	 * @return Users keyed by ID, in the order the IDs were given
+	 * @throws ResourceNotFoundException listing every ID that does not exist
+	 * */
+	public Map<Long, User> resolveUsers(Collection<Long> ids) {
+		return resolve(ids, userRepository, User::getId, "Users");
+	}
+	
+	public User resolveUser(Long id) {
+		return resolveUsers(List.of(id)).get(id);
+	}
+	
+	/**
+	 * @param ids Tag IDs; nulls and duplicates are ignored
+	 * @return The tags, in the order the IDs were given
+	 * @throws ResourceNotFoundException listing every ID that does not exist
+	 * */
+	public Set<Tag> resolveTags(Collection<UUID> ids) {
+		return new LinkedHashSet<>(resolve(ids, tagRepository, Tag::getId, "Tags").values());
+	}
+	
+	// ========== HELPER FUNCTIONS ========== //
+	
+	private static <T, ID> Map<ID, T> resolve(Collection<ID> ids, JpaRepository<T, ID> repository,
+			Function<T, ID> idOf, String resourceName) {
+		Set<ID> requested = ids == null ? Set.of()
+				: ids.stream().filter(Objects::nonNull).collect(Collectors.toCollection(LinkedHashSet::new));
+		if(requested.isEmpty()) {
+			return Map.of();
+		}
+		
+		Map<ID, T> found = repository.findAllById(requested).stream()
+				.collect(Collectors.toMap(idOf, Function.identity()));
+		
+		List<ID> missing = requested.stream().filter(id -> !found.containsKey(id)).toList();
+		if(!missing.isEmpty()) {
+			throw new ResourceNotFoundException(resourceName + " not found with IDs: " + missing);
+		}
+		
+		Map<ID, T> ordered = new LinkedHashMap<>();
+		requested.forEach(id -> ordered.put(id, found.get(id)));
+		return ordered;
+	}
+}
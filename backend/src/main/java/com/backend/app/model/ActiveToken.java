@@ -28,4 +28,12 @@ public class ActiveToken {
 	
 	@Column(nullable = false)
 	private Instant expiry;
+	
+	@Column(nullable = false)
+	@Builder.Default
+	private boolean revoked = false;
+	
+	public ActiveToken(String token, Long userId, Instant expiry) {
+		this(token, userId, expiry, false);
+	}
 }
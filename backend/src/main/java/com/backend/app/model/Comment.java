@@ -2,22 +2,16 @@ package com.backend.app.model;
 
 import java.time.LocalDateTime;
 import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Set;
 import java.util.UUID;
 
 import org.hibernate.annotations.CreationTimestamp;
 import org.hibernate.annotations.UpdateTimestamp;
 
 import jakarta.persistence.CascadeType;
-import jakarta.persistence.CollectionTable;
 import jakarta.persistence.Column;
-import jakarta.persistence.ElementCollection;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -38,7 +32,7 @@ import lombok.Setter;
 @Builder
 public class Comment {
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@TimeOrderedUuid
     @Column(updatable = false, nullable = false)
 	private UUID id;
 	
@@ -53,7 +47,12 @@ public class Comment {
 	@Column(nullable = false)
 	private LocalDateTime updatedAt;
 	
-	@Column(nullable = false)
+	/**
+	 * Denormalized count of {@link CommentLike} rows, written behind by
+	 * {@link com.backend.app.service.CommentLikeCounter}. Not updatable from the
+	 * entity, so saving a comment never writes back a stale value.
+	 */
+	@Column(nullable = false, updatable = false)
 	@Builder.Default
 	private int likes = 0;
 	
@@ -69,15 +68,17 @@ public class Comment {
 	@JoinColumn(name = "parent_comment_id")
 	private Comment parentComment;
 	
-	@OneToMany(mappedBy = "parentComment", cascade = CascadeType.ALL, orphanRemoval = true)
+	/**
+	 * Materialized IDs of all ancestors, see {@link com.backend.app.util.CommentPath}.
+	 * Written once on insert, since comments never move to another parent.
+	 */
+	@Column(nullable = false, updatable = false, columnDefinition = "TEXT COLLATE \"C\"")
 	@Builder.Default
-	private List<Comment> replies = new ArrayList<>();
+	private String path = "";
 	
-	@ElementCollection
-	@CollectionTable(name = "comment_likes", joinColumns = @JoinColumn(name = "comment_id"))
-	@Column(name = "user_id")
+	@OneToMany(mappedBy = "parentComment", cascade = CascadeType.ALL, orphanRemoval = true)
 	@Builder.Default
-	private Set<Long> likedByUsers = new HashSet<Long>();
+	private List<Comment> replies = new ArrayList<>();
 	
 	public void addReply(Comment reply) {
 		replies.add(reply);
@@ -88,14 +89,4 @@ public class Comment {
 		replies.remove(reply);
 		reply.setParentComment(null);
 	}
-	
-	public void incrementLikes() {
-		this.likes++;
-	}
-	
-	public void decrementLikes() {
-		if(this.likes > 0) {
-			this.likes--;
-		}
-	}
 }
@@ -0,0 +1,33 @@
+package com.backend.app.model;
+
+import java.time.Instant;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * A user's like of a comment. Rows are written with
+ * {@code INSERT ... ON CONFLICT DO NOTHING} by {@link com.backend.app.repository.CommentLikeRepository},
+ * and the primary key on (comment_id, user_id) makes a second like a no-op.
+ */
+@Entity
+@Table(name = "comment_likes")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class CommentLike {
+	@EmbeddedId
+	private CommentLikeId id;
+	
+	@Column(insertable = false, updatable = false)
+	private Instant createdAt;
+}
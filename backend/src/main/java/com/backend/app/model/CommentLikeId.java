@@ -0,0 +1,24 @@
+package com.backend.app.model;
+
+import java.io.Serializable;
+import java.util.UUID;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class CommentLikeId implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Column(name = "comment_id", nullable = false)
+	private UUID commentId;
+	
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+}
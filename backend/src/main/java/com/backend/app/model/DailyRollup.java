@@ -0,0 +1,39 @@
+package com.backend.app.model;
+
+import java.time.LocalDateTime;
+
+import org.hibernate.annotations.UpdateTimestamp;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Pre-aggregated count of one {@link com.backend.app.enums.RollupMetric} for a
+ * single day, optionally split by a dimension such as the project type. Rows
+ * without a dimension use an empty string.
+ */
+@Entity
+@Table(name = "daily_rollups")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class DailyRollup {
+	@EmbeddedId
+	private DailyRollupId id;
+	
+	@Column(nullable = false)
+	private long total;
+	
+	@UpdateTimestamp
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,32 @@
+package com.backend.app.model;
+
+import java.io.Serializable;
+import java.time.LocalDate;
+
+import com.backend.app.enums.RollupMetric;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import jakarta.persistence.EnumType;
+import jakarta.persistence.Enumerated;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class DailyRollupId implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Enumerated(EnumType.STRING)
+	@Column(nullable = false, length = 32)
+	private RollupMetric metric;
+	
+	@Column(nullable = false)
+	private LocalDate bucketDate;
+	
+	@Column(nullable = false, length = 32)
+	private String dimension;
+}
@@ -9,8 +9,6 @@ import jakarta.persistence.CascadeType;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
@@ -38,7 +36,7 @@ import lombok.ToString;
 @Builder
 public class Patent {
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@TimeOrderedUuid
 	@Column(updatable = false, nullable = false)
 	private UUID id;
 	
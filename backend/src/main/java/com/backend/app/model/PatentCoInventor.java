@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -27,7 +28,8 @@ import lombok.ToString;
 @AllArgsConstructor
 public class PatentCoInventor {
 	@Id
-	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "patent_co_inventor_seq")
+	@SequenceGenerator(name = "patent_co_inventor_seq", sequenceName = "patents_co_inventors_id_seq", allocationSize = 50)
 	private Long id;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
@@ -18,8 +18,6 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.EnumType;
 import jakarta.persistence.Enumerated;
 import jakarta.persistence.FetchType;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinTable;
 import jakarta.persistence.ManyToMany;
@@ -45,7 +43,7 @@ import jakarta.persistence.JoinColumn;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class Project {
 	@Id
-	@GeneratedValue(strategy = GenerationType.AUTO)
+	@TimeOrderedUuid
 	@Column(updatable = false, nullable = false)
 	private UUID id;
 	
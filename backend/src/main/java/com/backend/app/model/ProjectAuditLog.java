@@ -12,6 +12,7 @@ import jakarta.persistence.Enumerated;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -28,7 +29,8 @@ import lombok.Setter;
 @Builder
 public class ProjectAuditLog {
 	 @Id
-	    @GeneratedValue(strategy = GenerationType.IDENTITY)
+	    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "project_audit_log_seq")
+	    @SequenceGenerator(name = "project_audit_log_seq", sequenceName = "project_audit_log_id_seq", allocationSize = 50)
 	    private Long id;
 	    
 	    @Column(nullable = false)
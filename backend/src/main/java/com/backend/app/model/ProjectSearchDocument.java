@@ -0,0 +1,35 @@
+package com.backend.app.model;
+
+import java.util.UUID;
+
+import org.hibernate.annotations.Immutable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Id;
+import jakarta.persistence.Table;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+/**
+ * Full-text search document of a project, built from its title, description
+ * and tag names. Rows are maintained by database triggers and are never
+ * written by the application; the entity only exists so search predicates can
+ * be expressed in criteria queries.
+ */
+@Entity
+@Immutable
+@Table(name = "project_search_documents")
+@Getter
+@NoArgsConstructor
+public class ProjectSearchDocument {
+	@Id
+	@Column(name = "project_id", updatable = false, nullable = false)
+	private UUID projectId;
+	
+	@Column(nullable = false, insertable = false, updatable = false, columnDefinition = "tsvector")
+	private String document;
+	
+	@Column(name = "search_text", nullable = false, insertable = false, updatable = false, columnDefinition = "TEXT")
+	private String searchText;
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import jakarta.persistence.Version;
@@ -32,7 +33,8 @@ import lombok.Setter;
 @Builder
 public class PublicationAuthor {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "publication_author_seq")
+	@SequenceGenerator(name = "publication_author_seq", sequenceName = "publications_authors_id_seq", allocationSize = 50)
 	private Long id;
 	
 	@Version
@@ -7,6 +7,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import jakarta.persistence.UniqueConstraint;
 import lombok.AllArgsConstructor;
@@ -24,7 +25,8 @@ import lombok.Setter;
 @Builder
 public class ResearchParticipant {
 	@Id
-	@GeneratedValue(strategy=GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "research_participant_seq")
+	@SequenceGenerator(name = "research_participant_seq", sequenceName = "research_projects_participants_id_seq", allocationSize = 50)
 	private Long id;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
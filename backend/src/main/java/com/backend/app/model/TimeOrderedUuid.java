@@ -0,0 +1,22 @@
+package com.backend.app.model;
+
+import static java.lang.annotation.ElementType.FIELD;
+import static java.lang.annotation.ElementType.METHOD;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import org.hibernate.annotations.IdGeneratorType;
+
+/**
+ * Marks a {@code UUID} identifier as generated by
+ * {@link TimeOrderedUuidGenerator}, replacing
+ * {@code @GeneratedValue(strategy = GenerationType.AUTO)} which yields random
+ * version 4 values.
+ */
+@IdGeneratorType(TimeOrderedUuidGenerator.class)
+@Retention(RUNTIME)
+@Target({ FIELD, METHOD })
+public @interface TimeOrderedUuid {
+}
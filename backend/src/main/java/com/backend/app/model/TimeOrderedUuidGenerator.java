@@ -0,0 +1,30 @@
+package com.backend.app.model;
+
+import java.util.EnumSet;
+
+import org.hibernate.engine.spi.SharedSessionContractImplementor;
+import org.hibernate.generator.BeforeExecutionGenerator;
+import org.hibernate.generator.EventType;
+import org.hibernate.generator.EventTypeSets;
+
+import com.backend.app.util.UuidV7;
+
+/**
+ * Assigns {@link UuidV7} identifiers before insert. Rows inserted in sequence
+ * get increasing keys, which keeps primary-key indexes compact; existing
+ * random ids stay valid since both share the uuid column type.
+ */
+public class TimeOrderedUuidGenerator implements BeforeExecutionGenerator {
+	private static final long serialVersionUID = 1L;
+
+	@Override
+	public Object generate(SharedSessionContractImplementor session, Object owner, Object currentValue,
+			EventType eventType) {
+		return UuidV7.next();
+	}
+
+	@Override
+	public EnumSet<EventType> getEventTypes() {
+		return EventTypeSets.INSERT_ONLY;
+	}
+}
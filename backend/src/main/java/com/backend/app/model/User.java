@@ -29,7 +29,8 @@ import lombok.Setter;
 @JsonIgnoreProperties({"hibernateLazyInitializer", "handler"})
 public class User {
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_seq")
+    @SequenceGenerator(name = "user_seq", sequenceName = "users_id_seq", allocationSize = 50)
     private Long id;
 
     @Column(nullable = false)
@@ -73,15 +74,20 @@ public class User {
     @Column(name = "phone_number")
     private String phoneNumber;
 
-    @Column(name = "publication_count", nullable = false)
+    /*
+     * Denormalized project counters, adjusted in place by
+     * com.backend.app.service.UserCounterService. Not updatable from the
+     * entity, so saving a user never writes back a stale value.
+     */
+    @Column(name = "publication_count", nullable = false, updatable = false)
     @Builder.Default
     private int publicationCount = 0;
 
-    @Column(name = "patent_count", nullable = false)
+    @Column(name = "patent_count", nullable = false, updatable = false)
     @Builder.Default
     private int patentCount = 0;
 
-    @Column(name = "research_count", nullable = false)
+    @Column(name = "research_count", nullable = false, updatable = false)
     @Builder.Default
     private int researchCount = 0;
 
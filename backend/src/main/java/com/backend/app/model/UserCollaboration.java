@@ -0,0 +1,36 @@
+package com.backend.app.model;
+
+import java.time.LocalDateTime;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.EmbeddedId;
+import jakarta.persistence.Entity;
+import jakarta.persistence.Table;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+/**
+ * Directed edge of the collaboration graph: the number of projects the user
+ * shares with the collaborator as creator, author, co-inventor or
+ * participant. Every edge is stored in both directions.
+ */
+@Entity
+@Table(name = "user_collaborations")
+@Getter
+@Setter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class UserCollaboration {
+	@EmbeddedId
+	private UserCollaborationId id;
+	
+	@Column(nullable = false)
+	private int sharedProjects;
+	
+	@Column(nullable = false)
+	private LocalDateTime updatedAt;
+}
@@ -0,0 +1,23 @@
+package com.backend.app.model;
+
+import java.io.Serializable;
+
+import jakarta.persistence.Column;
+import jakarta.persistence.Embeddable;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+@Embeddable
+public class UserCollaborationId implements Serializable {
+	private static final long serialVersionUID = 1L;
+
+	@Column(name = "user_id", nullable = false)
+	private Long userId;
+	
+	@Column(name = "collaborator_id", nullable = false)
+	private Long collaboratorId;
+}
@@ -10,6 +10,7 @@ import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
 import jakarta.persistence.JoinColumn;
 import jakarta.persistence.ManyToOne;
+import jakarta.persistence.SequenceGenerator;
 import jakarta.persistence.Table;
 import lombok.AllArgsConstructor;
 import lombok.Builder;
@@ -24,7 +25,8 @@ import lombok.NoArgsConstructor;
 @Table(name = "user_login")
 public class UserLogin {
 	@Id
-	@GeneratedValue(strategy = GenerationType.IDENTITY)
+	@GeneratedValue(strategy = GenerationType.SEQUENCE, generator = "user_login_seq")
+	@SequenceGenerator(name = "user_login_seq", sequenceName = "user_login_id_seq", allocationSize = 50)
 	private Long id;
 	
 	@ManyToOne(fetch = FetchType.LAZY)
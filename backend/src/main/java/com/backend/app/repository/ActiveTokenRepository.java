@@ -4,6 +4,10 @@ import java.time.Instant;
 import java.util.List;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.app.model.ActiveToken;
 
@@ -13,4 +17,32 @@ public interface ActiveTokenRepository extends JpaRepository<ActiveToken, String
 	void deleteByUserId(Long userId);
 	List<ActiveToken> findByExpiryBefore(Instant expiry);
 	List<ActiveToken> findByExpiryAfter(Instant expiry);
+	List<ActiveToken> findByExpiryAfterAndRevokedFalse(Instant expiry);
+	List<ActiveToken> findByRevokedTrueAndExpiryAfter(Instant expiry);
+	long countByRevokedFalse();
+	
+	/**
+	 * Deletes at most {@code limit} expired tokens in its own short transaction.
+	 * Rows locked by a concurrent sweeper are skipped rather than waited on.
+	 * @param now Tokens expiring before this instant are deleted
+	 * @param limit Maximum number of rows deleted by this call
+	 * @return The number of deleted rows
+	 * */
+	@Modifying
+	@Transactional
+	@Query(value = """
+			DELETE FROM active_tokens WHERE token IN (
+				SELECT token FROM active_tokens WHERE expiry < :now
+				LIMIT :limit FOR UPDATE SKIP LOCKED
+			)
+			""", nativeQuery = true)
+	int deleteExpiredChunk(@Param("now") Instant now, @Param("limit") int limit);
+	
+	@Modifying
+	@Query("UPDATE ActiveToken at SET at.revoked = true WHERE at.token = :token")
+	int revokeByToken(@Param("token") String token);
+	
+	@Modifying
+	@Query("UPDATE ActiveToken at SET at.revoked = true WHERE at.userId = :userId")
+	int revokeByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,48 @@
+package com.backend.app.repository;
+
+import java.util.Collection;
+import java.util.Set;
+import java.util.UUID;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backend.app.model.CommentLike;
+import com.backend.app.model.CommentLikeId;
+
+public interface CommentLikeRepository extends JpaRepository<CommentLike, CommentLikeId> {
+	/**
+	 * Records a like unless the user already liked the comment
+	 * @return 1 if the like was recorded, 0 if it already existed
+	 * */
+	@Modifying
+	@Query(value = """
+			INSERT INTO comment_likes (comment_id, user_id) VALUES (:commentId, :userId)
+			ON CONFLICT (comment_id, user_id) DO NOTHING
+			""", nativeQuery = true)
+	int insertIfAbsent(@Param("commentId") UUID commentId, @Param("userId") Long userId);
+	
+	/**
+	 * @return 1 if the like was removed, 0 if the user had not liked the comment
+	 * */
+	@Modifying
+	@Query("DELETE FROM CommentLike l WHERE l.id.commentId = :commentId AND l.id.userId = :userId")
+	int deleteLike(@Param("commentId") UUID commentId, @Param("userId") Long userId);
+	
+	@Query("""
+			SELECT l.id.commentId FROM CommentLike l, Comment c
+			WHERE c.id = l.id.commentId AND c.project.id = :projectId AND l.id.userId = :userId
+			""")
+	Set<UUID> findLikedCommentIdsByProjectId(@Param("projectId") UUID projectId, @Param("userId") Long userId);
+	
+	/**
+	 * Which of the given comments the user liked, for a whole page in one query
+	 * @param ids The IDs of the comments on the page
+	 * @param userId The ID of the user
+	 * @return The subset of the IDs the user liked
+	 * */
+	@Query("SELECT l.id.commentId FROM CommentLike l WHERE l.id.userId = :userId AND l.id.commentId IN :ids")
+	Set<UUID> findLikedCommentIdsByIdIn(@Param("ids") Collection<UUID> ids, @Param("userId") Long userId);
+}
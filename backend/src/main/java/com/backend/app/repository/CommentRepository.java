@@ -1,15 +1,19 @@
 package com.backend.app.repository;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.app.model.Comment;
 import com.backend.app.model.Project;
@@ -17,6 +21,135 @@ import com.backend.app.model.Project;
 public interface CommentRepository extends JpaRepository<Comment, UUID>{
 	List<Comment> findByProjectIdAndParentCommentIsNull(UUID projectId);
 	
+	/**
+	 * Loads every comment of a project, top-level and replies, in one query
+	 * @param projectId The ID of the project
+	 * @return Comments with their authors fetched, oldest first
+	 * */
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.project.id = :projectId
+			ORDER BY c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findThreadByProjectId(@Param("projectId") UUID projectId);
+	
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.project.id = :projectId AND c.parentComment IS NULL
+			ORDER BY c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findTopLevelByProjectId(@Param("projectId") UUID projectId, Limit limit);
+	
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.project.id = :projectId AND c.parentComment IS NULL
+			AND (c.createdAt > :createdAt OR (c.createdAt = :createdAt AND c.id > :id))
+			ORDER BY c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findTopLevelByProjectIdAfter(@Param("projectId") UUID projectId,
+			@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+	
+	/**
+	 * Collects the IDs of all replies below the given comments, at any depth
+	 * @param rootIds The IDs of the comments whose subtrees are requested
+	 * @return IDs of all descendants, excluding the roots themselves
+	 * */
+	@Query(value = """
+			WITH RECURSIVE thread AS (
+				SELECT c.id FROM comments c WHERE c.parent_comment_id IN (:rootIds)
+				UNION ALL
+				SELECT c.id FROM comments c JOIN thread t ON c.parent_comment_id = t.id
+			)
+			SELECT id FROM thread
+			""", nativeQuery = true)
+	List<UUID> findDescendantIds(@Param("rootIds") Collection<UUID> rootIds);
+	
+	/**
+	 * Loads all replies below a comment, at any depth, as one range scan over
+	 * the (project_id, path) index. The bounds come from
+	 * {@link com.backend.app.util.CommentPath#subtreeStart} and
+	 * {@link com.backend.app.util.CommentPath#subtreeEnd}.
+	 * @return Replies with their authors fetched, grouped by parent and oldest first
+	 * */
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.project.id = :projectId AND c.path >= :from AND c.path < :to
+			ORDER BY c.path ASC, c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findSubtree(@Param("projectId") UUID projectId, @Param("from") String from, @Param("to") String to);
+	
+	/**
+	 * Same range scan as {@link #findSubtree}, limited to replies whose path is
+	 * at most {@code maxLength} characters long, i.e. a number of levels below
+	 * the root given by {@link com.backend.app.util.CommentPath#maxLength}
+	 * */
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.project.id = :projectId AND c.path >= :from AND c.path < :to
+			AND LENGTH(c.path) <= :maxLength
+			ORDER BY c.path ASC, c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findSubtreeToLength(@Param("projectId") UUID projectId, @Param("from") String from,
+			@Param("to") String to, @Param("maxLength") int maxLength);
+	
+	/**
+	 * Counts the replies of every thread of a project in one pass over the
+	 * (project_id, path) index. The first path segment of a reply is the ID
+	 * of its top-level comment.
+	 * @return Rows of top-level comment ID and number of replies at any depth;
+	 * threads without replies are omitted
+	 * */
+	@Query(value = """
+			SELECT CAST(SUBSTRING(c.path, 1, 32) AS uuid), COUNT(*)
+			FROM comments c
+			WHERE c.project_id = :projectId AND c.path > ''
+			GROUP BY SUBSTRING(c.path, 1, 32)
+			""", nativeQuery = true)
+	List<Object[]> countRepliesByThread(@Param("projectId") UUID projectId);
+	
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.id IN :ids
+			ORDER BY c.createdAt ASC, c.id ASC
+			""")
+	List<Comment> findAllWithUserByIdIn(@Param("ids") Collection<UUID> ids);
+	
+	/**
+	 * Deletes comments together with their replies at any depth and all of
+	 * their likes in one statement, without loading any of them
+	 * @param rootIds The IDs of the comments whose threads are removed
+	 * @return One row per creation day of the removed comments: the day, the
+	 * number of comments and the sum of their likes
+	 * */
+	@Query(value = """
+			WITH RECURSIVE subtree AS (
+				SELECT c.id FROM comments c WHERE c.id IN (:rootIds)
+				UNION
+				SELECT c.id FROM comments c JOIN subtree s ON c.parent_comment_id = s.id
+			), removed_likes AS (
+				DELETE FROM comment_likes l WHERE l.comment_id IN (SELECT id FROM subtree)
+			), removed AS (
+				DELETE FROM comments c WHERE c.id IN (SELECT id FROM subtree)
+				RETURNING c.created_at, c.likes
+			)
+			SELECT CAST(created_at AS DATE), COUNT(*), COALESCE(SUM(likes), 0)
+			FROM removed
+			GROUP BY CAST(created_at AS DATE)
+			""", nativeQuery = true)
+	List<Object[]> deleteSubtrees(@Param("rootIds") Collection<UUID> rootIds);
+	
 	@Query("SELECT c FROM Comment c WHERE c.parentComment.id = :parentId ORDER BY c.createdAt ASC")
 	List<Comment> findRepliesByParentId(@Param("parentId") UUID parentId);
 	
@@ -24,8 +157,72 @@ public interface CommentRepository extends JpaRepository<Comment, UUID>{
 	
 	Page<Comment> findByUserId(Long userId, Pageable pageable);
 	
+	@Query("SELECT c.id FROM Comment c WHERE c.user.id = :userId ORDER BY c.id")
+	List<UUID> findIdsByUserId(@Param("userId") Long userId, Limit limit);
+	
+	/**
+	 * First chunk of a user's comments for keyset pagination, newest first
+	 * @param userId The ID of the author
+	 * @param limit Maximum number of comments
+	 * @return Comments with their authors and projects fetched
+	 * */
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.user.id = :userId
+			ORDER BY c.createdAt DESC, c.id DESC
+			""")
+	List<Comment> findByUserIdNewestFirst(@Param("userId") Long userId, Limit limit);
+	
+	@Query("""
+			SELECT c FROM Comment c
+			JOIN FETCH c.user
+			JOIN FETCH c.project
+			WHERE c.user.id = :userId
+			AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id))
+			ORDER BY c.createdAt DESC, c.id DESC
+			""")
+	List<Comment> findByUserIdNewestFirstBefore(@Param("userId") Long userId,
+			@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id, Limit limit);
+	
 	long countByProjectId(UUID projectId);
 	
+	/**
+	 * Adds the same delta to the like counters of several comments in place,
+	 * so concurrent writers cannot overwrite each other. Counters never drop
+	 * below zero.
+	 * @return Number of comments updated
+	 * */
+	@Modifying
+	@Transactional
+	@Query(value = """
+			UPDATE comments SET likes = GREATEST(likes + :delta, 0)
+			WHERE id IN (:ids)
+			""", nativeQuery = true)
+	int adjustLikes(@Param("ids") Collection<UUID> ids, @Param("delta") int delta);
+	
+	@Query("SELECT c.id FROM Comment c WHERE c.id > :afterId ORDER BY c.id ASC")
+	List<UUID> findIdsAfter(@Param("afterId") UUID afterId, Limit limit);
+	
+	/**
+	 * Recounts the likes of the given comments from comment_likes and
+	 * overwrites the counters that drifted.
+	 * @return Number of comments whose counter was repaired
+	 */
+	@Modifying
+	@Transactional
+	@Query(value = """
+			UPDATE comments c SET likes = l.actual
+			FROM (
+				SELECT x.id, (SELECT COUNT(*) FROM comment_likes cl WHERE cl.comment_id = x.id) AS actual
+				FROM comments x
+				WHERE x.id IN (:ids)
+			) l
+			WHERE c.id = l.id AND c.likes <> l.actual
+			""", nativeQuery = true)
+	int reconcileLikes(@Param("ids") Collection<UUID> ids);
+	
 	@Modifying
 	@Query("DELETE FROM Comment c WHERE c.user.id = :userId")
 	void deleteByUserId(@Param("userId") Long userId);
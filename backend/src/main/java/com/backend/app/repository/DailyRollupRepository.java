@@ -0,0 +1,88 @@
+package com.backend.app.repository;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.model.DailyRollup;
+import com.backend.app.model.DailyRollupId;
+
+public interface DailyRollupRepository extends JpaRepository<DailyRollup, DailyRollupId> {
+	@Query("SELECT r FROM DailyRollup r WHERE r.id.metric = :metric " +
+			"AND r.id.bucketDate BETWEEN :startDate AND :endDate ORDER BY r.id.bucketDate")
+	List<DailyRollup> findSeries(@Param("metric") RollupMetric metric,
+			@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+	
+	@Query("SELECT r.id.dimension, SUM(r.total) FROM DailyRollup r WHERE r.id.metric = :metric GROUP BY r.id.dimension")
+	List<Object[]> sumByDimension(@Param("metric") RollupMetric metric);
+	
+	/**
+	 * Adds a delta to a single rollup row, creating it if needed. Runs in its own
+	 * transaction because it is applied after the business transaction commits.
+	 * */
+	@Modifying
+	@Transactional(propagation = Propagation.REQUIRES_NEW)
+	@Query(value = """
+			INSERT INTO daily_rollups (metric, bucket_date, dimension, total, updated_at)
+			VALUES (:metric, :bucketDate, :dimension, :delta, now())
+			ON CONFLICT (metric, bucket_date, dimension)
+			DO UPDATE SET total = daily_rollups.total + EXCLUDED.total, updated_at = now()
+			""", nativeQuery = true)
+	int increment(@Param("metric") String metric, @Param("bucketDate") LocalDate bucketDate,
+			@Param("dimension") String dimension, @Param("delta") long delta);
+	
+	@Modifying
+	@Query("DELETE FROM DailyRollup r WHERE r.id.bucketDate >= :startDate AND r.id.bucketDate < :endDate")
+	int deleteRange(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
+	
+	// ========== RECOMPUTATION FROM LIVE TABLES ========== //
+	
+	@Modifying
+	@Query(value = """
+			INSERT INTO daily_rollups (metric, bucket_date, dimension, total, updated_at)
+			SELECT 'REGISTRATIONS', CAST(u.created_at AS DATE), '', COUNT(*), now()
+			FROM users u
+			WHERE u.created_at >= :from AND u.created_at < :to
+			GROUP BY CAST(u.created_at AS DATE)
+			""", nativeQuery = true)
+	int insertRegistrations(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+	
+	@Modifying
+	@Query(value = """
+			INSERT INTO daily_rollups (metric, bucket_date, dimension, total, updated_at)
+			SELECT m.metric, CAST(c.created_at AS DATE), '',
+				CASE WHEN m.metric = 'COMMENTS' THEN COUNT(*) ELSE COALESCE(SUM(c.likes), 0) END, now()
+			FROM comments c CROSS JOIN (VALUES ('COMMENTS'), ('COMMENT_LIKES')) AS m(metric)
+			WHERE c.created_at >= :from AND c.created_at < :to
+			GROUP BY m.metric, CAST(c.created_at AS DATE)
+			""", nativeQuery = true)
+	int insertCommentsAndLikes(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+	
+	@Modifying
+	@Query(value = """
+			INSERT INTO daily_rollups (metric, bucket_date, dimension, total, updated_at)
+			SELECT 'PROJECTS', CAST(p.created_at AS DATE), p.type, COUNT(*), now()
+			FROM projects p
+			WHERE p.created_at >= :from AND p.created_at < :to
+			GROUP BY CAST(p.created_at AS DATE), p.type
+			""", nativeQuery = true)
+	int insertProjects(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+	
+	@Modifying
+	@Query(value = """
+			INSERT INTO daily_rollups (metric, bucket_date, dimension, total, updated_at)
+			SELECT 'LOGINS', CAST(l.login_time AS DATE), '', COUNT(*), now()
+			FROM user_login l
+			WHERE l.login_time >= :from AND l.login_time < :to
+			GROUP BY CAST(l.login_time AS DATE)
+			""", nativeQuery = true)
+	int insertLogins(@Param("from") LocalDateTime from, @Param("to") LocalDateTime to);
+}
@@ -1,5 +1,6 @@
 package com.backend.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,6 +19,15 @@ import com.backend.app.model.Patent;
 public interface PatentRepository extends JpaRepository<Patent, UUID>, JpaSpecificationExecutor<Patent>{
 	List<Patent> findByProjectId(UUID projectId);
 	
+	@Query("""
+	        SELECT DISTINCT p FROM Patent p
+	        LEFT JOIN FETCH p.primaryAuthor
+	        LEFT JOIN FETCH p.coInventors ci
+	        LEFT JOIN FETCH ci.user
+	        WHERE p.project.id IN :projectIds
+	        """)
+	List<Patent> findAllByProjectIdInWithCoInventors(@Param("projectIds") Collection<UUID> projectIds);
+	
 	@Query("SELECT p FROM Patent p LEFT JOIN FETCH p.coInventors WHERE p.id = :id")
 	Optional<Patent> findByIdWithCoInventors(@Param("id") UUID id);
 	
@@ -1,10 +1,17 @@
 package com.backend.app.repository;
 
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -19,8 +26,49 @@ import com.backend.app.model.Project;
 
 @Repository
 public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpecificationExecutor<Project> {
-	@Query("SELECT p FROM Project p LEFT JOIN FETCH p.publication LEFT JOIN FETCH p.patent LEFT JOIN FETCH p.research")
-	Page<Project> findAllWithDetails(Pageable pageable);
+	/**
+	 * Pages projects with their creator and subtype details in two phases:
+	 * the page of IDs is selected in SQL first, then only those projects are
+	 * loaded with their details, so no fetch join is ever paginated and the
+	 * joins are not evaluated for the skipped rows.
+	 * @param pageable Pagination and sorting configuration
+	 * @return Page of projects in the requested order
+	 * */
+	default Page<Project> findAllWithDetails(Pageable pageable) {
+		Page<UUID> ids = findPageOfIds(pageable);
+		if (ids.isEmpty()) {
+			return new PageImpl<>(List.of(), ids.getPageable(), ids.getTotalElements());
+		}
+		
+		Map<UUID, Project> projects = findAllWithDetailsByIdIn(ids.getContent()).stream()
+				.collect(Collectors.toMap(Project::getId, Function.identity()));
+		List<Project> content = ids.getContent().stream()
+				.map(projects::get)
+				.filter(Objects::nonNull)
+				.toList();
+		return new PageImpl<>(content, ids.getPageable(), ids.getTotalElements());
+	}
+	
+	@Query(value = "SELECT p.id FROM Project p", countQuery = "SELECT COUNT(p) FROM Project p")
+	Page<UUID> findPageOfIds(Pageable pageable);
+	
+	@Query("""
+			SELECT p FROM Project p
+			LEFT JOIN FETCH p.creator
+			LEFT JOIN FETCH p.publication
+			LEFT JOIN FETCH p.patent
+			LEFT JOIN FETCH p.research
+			WHERE p.id IN :ids
+			""")
+	List<Project> findAllWithDetailsByIdIn(@Param("ids") Collection<UUID> ids);
+	
+	/**
+	 * Initializes the tag collections of the given projects in a single query
+	 * @param ids The IDs of the projects
+	 * @return Projects with their tags fetched
+	 * */
+	@Query("SELECT DISTINCT p FROM Project p LEFT JOIN FETCH p.tags WHERE p.id IN :ids")
+	List<Project> findAllWithTagsByIdIn(@Param("ids") Collection<UUID> ids);
 	
 	 @Query("SELECT p FROM Project p LEFT JOIN FETCH p.creator ORDER BY p.createdAt DESC")
 	 Page<Project> findAllWithCreator(Pageable pageable);
@@ -38,6 +86,31 @@ public interface ProjectRepository extends JpaRepository<Project, UUID>, JpaSpec
 	@Query("SELECT p FROM Project p ORDER BY p.createdAt DESC")
 	Page<Project> findNewsestProjects(Pageable pageable);
 	
+	/**
+	 * First chunk of projects for keyset pagination, newest first
+	 * @param limit Maximum number of projects
+	 * @return Projects with their creators fetched
+	 * */
+	@Query("""
+			SELECT p FROM Project p
+			LEFT JOIN FETCH p.creator
+			ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Project> findNewestWithCreator(Limit limit);
+	
+	/**
+	 * Next chunk of projects for keyset pagination, continuing after the
+	 * given position without scanning the skipped rows
+	 * */
+	@Query("""
+			SELECT p FROM Project p
+			LEFT JOIN FETCH p.creator
+			WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)
+			ORDER BY p.createdAt DESC, p.id DESC
+			""")
+	List<Project> findNewestWithCreatorBefore(@Param("createdAt") LocalDateTime createdAt, @Param("id") UUID id,
+			Limit limit);
+	
 
 	@Query("""
 		SELECT new map(
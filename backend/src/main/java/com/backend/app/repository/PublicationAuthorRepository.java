@@ -40,6 +40,9 @@ public interface PublicationAuthorRepository extends JpaRepository<PublicationAu
         @Param("publicationId") UUID publicationId,
         @Param("userIds") List<Long> userIds);
 	
+	@Query("SELECT pa.user.id FROM PublicationAuthor pa WHERE pa.publication.id = :publicationId")
+	List<Long> findUserIdsByPublicationId(@Param("publicationId") UUID publicationId);
+	
 	@Query("SELECT new com.backend.app.dto.miscellaneous.ResponseUserDTO(u.id, u.username) " +
 		       "FROM PublicationAuthor pa JOIN pa.user u WHERE pa.publication = :publication")
 	List<ResponseUserDTO> getAuthorsInfoByPublication(@Param("publication") Publication publication);
@@ -1,5 +1,6 @@
 package com.backend.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -25,6 +26,19 @@ public interface PublicationRepository extends JpaRepository<Publication, UUID>,
 	 * */
 	List<Publication> findByProjectId(UUID projectId);
 	
+	/**
+	 * Finds the publications of several projects with their authors fetched
+	 * @param projectIds The IDs of the projects
+	 * @return List of publications belonging to any of the given projects
+	 * */
+	@Query("""
+	        SELECT DISTINCT p FROM Publication p
+	        LEFT JOIN FETCH p.publicationAuthors pa
+	        LEFT JOIN FETCH pa.user
+	        WHERE p.project.id IN :projectIds
+	        """)
+	List<Publication> findAllByProjectIdInWithAuthors(@Param("projectIds") Collection<UUID> projectIds);
+	
 	/**
      * Finds a publication by ID with all related entities fetched
      * @param id The ID of the publication
@@ -1,5 +1,6 @@
 package com.backend.app.repository;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
@@ -18,6 +19,14 @@ import com.backend.app.model.Research;
 public interface ResearchRepository extends JpaRepository<Research, UUID>, JpaSpecificationExecutor<Research>{
 	List<Research> findByProjectId(UUID projectId);
 	
+	@Query("""
+	        SELECT DISTINCT r FROM Research r
+	        LEFT JOIN FETCH r.researchParticipants rp
+	        LEFT JOIN FETCH rp.user
+	        WHERE r.project.id IN :projectIds
+	        """)
+	List<Research> findAllByProjectIdInWithParticipants(@Param("projectIds") Collection<UUID> projectIds);
+	
 	@Query("SELECT r FROM Research r LEFT JOIN FETCH r.researchParticipants WHERE r.id = :id")
 	Optional<Research> findByIdWithParticipants(@Param("id") UUID id);
 	
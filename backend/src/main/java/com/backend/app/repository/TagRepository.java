@@ -3,9 +3,16 @@ package com.backend.app.repository;
 import java.util.UUID;
 
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
 
 import com.backend.app.model.Tag;
 
 public interface TagRepository extends JpaRepository<Tag, UUID> {
-
+	/**
+	 * Version of the tags table, bumped by a trigger on every change. Used by
+	 * {@link com.backend.app.service.TagCache} to notice changes made by other
+	 * nodes.
+	 * */
+	@Query(value = "SELECT version FROM cache_versions WHERE name = 'tags'", nativeQuery = true)
+	Long findCacheVersion();
 }
@@ -0,0 +1,86 @@
+package com.backend.app.repository;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import com.backend.app.model.User;
+import com.backend.app.model.UserCollaboration;
+import com.backend.app.model.UserCollaborationId;
+
+public interface UserCollaborationRepository extends JpaRepository<UserCollaboration, UserCollaborationId> {
+	/**
+	 * Collaborators of a user, strongest collaboration first
+	 * @param userId The ID of the user
+	 * @param pageable Pagination configuration, its sort is ignored
+	 * @return Page of collaborating users
+	 * */
+	@Query(value = """
+			SELECT u FROM UserCollaboration c
+			JOIN User u ON u.id = c.id.collaboratorId
+			WHERE c.id.userId = :userId
+			ORDER BY c.sharedProjects DESC, u.id ASC
+			""",
+			countQuery = "SELECT COUNT(c) FROM UserCollaboration c WHERE c.id.userId = :userId")
+	Page<User> findCollaborators(@Param("userId") Long userId, Pageable pageable);
+	
+	/**
+	 * Takes a batch of users whose memberships changed off the refresh queue.
+	 * Rows locked by a concurrent drain are skipped.
+	 * */
+	@Query(value = """
+			DELETE FROM collaboration_refresh_queue
+			WHERE user_id IN (
+				SELECT user_id FROM collaboration_refresh_queue
+				ORDER BY queued_at
+				LIMIT :limit
+				FOR UPDATE SKIP LOCKED)
+			RETURNING user_id
+			""", nativeQuery = true)
+	List<Long> pollRefreshQueue(@Param("limit") int limit);
+	
+	@Modifying
+	@Query(value = "DELETE FROM user_collaborations WHERE user_id IN (:userIds) OR collaborator_id IN (:userIds)",
+			nativeQuery = true)
+	int deleteEdgesOf(@Param("userIds") Collection<Long> userIds);
+	
+	/**
+	 * Recomputes every edge that starts or ends at one of the given users from
+	 * the current project memberships. Only projects of those users are scanned.
+	 * */
+	@Modifying
+	@Query(value = """
+			INSERT INTO user_collaborations (user_id, collaborator_id, shared_projects, updated_at)
+			SELECT a.user_id, b.user_id, COUNT(*), now()
+			FROM project_members a
+			JOIN project_members b ON b.project_id = a.project_id AND b.user_id <> a.user_id
+			WHERE a.project_id IN (SELECT project_id FROM project_members WHERE user_id IN (:userIds))
+			AND (a.user_id IN (:userIds) OR b.user_id IN (:userIds))
+			GROUP BY a.user_id, b.user_id
+			""", nativeQuery = true)
+	int insertEdgesOf(@Param("userIds") Collection<Long> userIds);
+	
+	@Modifying
+	@Query(value = "DELETE FROM user_collaborations", nativeQuery = true)
+	int deleteAllEdges();
+	
+	@Modifying
+	@Query(value = """
+			INSERT INTO user_collaborations (user_id, collaborator_id, shared_projects, updated_at)
+			SELECT a.user_id, b.user_id, COUNT(*), now()
+			FROM project_members a
+			JOIN project_members b ON b.project_id = a.project_id AND b.user_id <> a.user_id
+			GROUP BY a.user_id, b.user_id
+			""", nativeQuery = true)
+	int insertAllEdges();
+	
+	@Modifying
+	@Query(value = "DELETE FROM collaboration_refresh_queue", nativeQuery = true)
+	int clearRefreshQueue();
+}
@@ -2,14 +2,18 @@ package com.backend.app.repository;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
+import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.app.enums.Role;
 import com.backend.app.model.User;
@@ -26,6 +30,22 @@ public interface UserRepository extends JpaRepository<User, Long>{
 	@Query("SELECT u FROM User u WHERE u.resetToken IS NOT NULL AND u.tokenExpiration < CURRENT_TIMESTAMP")
 	List<User> findExpiredResetTokens();
 	
+    /**
+     * First chunk of users for keyset pagination, in registration order
+     * @param limit Maximum number of users
+     * @return Users ordered by (createdAt, id)
+     * */
+    @Query("SELECT u FROM User u ORDER BY u.createdAt ASC, u.id ASC")
+    List<User> findRegistrationOrdered(Limit limit);
+    
+    @Query("""
+    		SELECT u FROM User u
+    		WHERE u.createdAt > :createdAt OR (u.createdAt = :createdAt AND u.id > :id)
+    		ORDER BY u.createdAt ASC, u.id ASC
+    		""")
+    List<User> findRegistrationOrderedAfter(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id,
+    		Limit limit);
+    
     @Query("SELECT u FROM User u WHERE LOWER(u.username) LIKE LOWER(concat('%', :query, '%')) OR LOWER(u.email) LIKE LOWER(concat('%', :query, '%'))")
     Page<User> searchUsers(String query, Pageable pageable);
     
@@ -39,12 +59,103 @@ public interface UserRepository extends JpaRepository<User, Long>{
 
     	@Query("SELECT COUNT(DISTINCT at.userId) " +
     	       "FROM ActiveToken at " +
-    	       "WHERE DATE(at.expiry) >= :date")
+    	       "WHERE DATE(at.expiry) >= :date AND at.revoked = false")
     	Long countActiveUsersOnDate(@Param("date") LocalDate date);
+
+    	/**
+    	 * Builds the whole user growth series in one statement: one row per day in
+    	 * the range, including days without registrations. Registrations come from
+    	 * the daily rollups. A user counts as active on a day while one of their
+    	 * unrevoked tokens expires on or after it, so the active count is a running
+    	 * sum of users by their last expiry day, taken from the end of the range.
+    	 * @return Rows of {date, new users, active users} ordered by date
+    	 * */
+    	@Query(value = """
+    			WITH days AS (
+    				SELECT CAST(d AS DATE) AS day
+    				FROM generate_series(CAST(:startDate AS DATE), CAST(:endDate AS DATE), INTERVAL '1 day') AS d
+    			),
+    			last_active AS (
+    				SELECT LEAST(CAST(MAX(at.expiry) AS DATE), CAST(:endDate AS DATE)) AS day
+    				FROM active_tokens at
+    				WHERE at.revoked = false
+    				GROUP BY at.user_id
+    			),
+    			expiring AS (
+    				SELECT day, COUNT(*) AS users FROM last_active WHERE day >= :startDate GROUP BY day
+    			)
+    			SELECT days.day, COALESCE(r.total, 0),
+    				SUM(COALESCE(e.users, 0)) OVER (ORDER BY days.day DESC)
+    			FROM days
+    			LEFT JOIN daily_rollups r ON r.metric = 'REGISTRATIONS' AND r.dimension = '' AND r.bucket_date = days.day
+    			LEFT JOIN expiring e ON e.day = days.day
+    			ORDER BY days.day
+    			""", nativeQuery = true)
+    	List<Object[]> getUserGrowthSeries(@Param("startDate") LocalDate startDate, @Param("endDate") LocalDate endDate);
     
     @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
     List<Object[]> countUsersByRole();
     
     long countByActiveTrue();
     
+    // ========== MEMBERSHIP COUNTERS ========== //
+    
+    /**
+     * Adds a delta to the publication counter of the given users in place,
+     * without loading them. Must run in the transaction that changed the
+     * memberships.
+     * @return Number of users updated
+     * */
+    @Modifying
+    @Query("UPDATE User u SET u.publicationCount = u.publicationCount + :delta WHERE u.id IN :userIds")
+    int adjustPublicationCount(@Param("userIds") Collection<Long> userIds, @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.patentCount = u.patentCount + :delta WHERE u.id IN :userIds")
+    int adjustPatentCount(@Param("userIds") Collection<Long> userIds, @Param("delta") int delta);
+    
+    @Modifying
+    @Query("UPDATE User u SET u.researchCount = u.researchCount + :delta WHERE u.id IN :userIds")
+    int adjustResearchCount(@Param("userIds") Collection<Long> userIds, @Param("delta") int delta);
+    
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterId ORDER BY u.id ASC")
+    List<Long> findIdsAfter(@Param("afterId") Long afterId, Limit limit);
+    
+    /**
+     * Recounts the memberships of the given users and overwrites the counters
+     * that drifted. A patent counts once per user whether they are its primary
+     * author, a co-inventor or both.
+     * @return Number of users whose counters were repaired
+     * */
+    @Modifying
+    @Transactional
+    @Query(value = """
+    		UPDATE users u
+    		SET publication_count = c.publications, patent_count = c.patents, research_count = c.research
+    		FROM (
+    			SELECT x.id,
+    				(SELECT COUNT(*) FROM publications_authors pa WHERE pa.user_id = x.id) AS publications,
+    				(SELECT COUNT(*) FROM (
+    					SELECT pt.id FROM patents pt WHERE pt.primary_author = x.id
+    					UNION
+    					SELECT pci.patent_id FROM patents_co_inventors pci WHERE pci.user_id = x.id) owned) AS patents,
+    				(SELECT COUNT(*) FROM research_projects_participants rpp WHERE rpp.user_id = x.id) AS research
+    			FROM users x
+    			WHERE x.id IN (:userIds)
+    		) c
+    		WHERE u.id = c.id
+    		AND (u.publication_count <> c.publications OR u.patent_count <> c.patents OR u.research_count <> c.research)
+    		""", nativeQuery = true)
+    int reconcileCounters(@Param("userIds") Collection<Long> userIds);
+    
+    // ========== LEADERBOARDS ========== //
+    
+    @Query("SELECT u FROM User u WHERE u.active = true AND u.publicationCount > 0 ORDER BY u.publicationCount DESC, u.id ASC")
+    List<User> findPublicationLeaders(Limit limit);
+    
+    @Query("SELECT u FROM User u WHERE u.active = true AND u.patentCount > 0 ORDER BY u.patentCount DESC, u.id ASC")
+    List<User> findPatentLeaders(Limit limit);
+    
+    @Query("SELECT u FROM User u WHERE u.active = true AND u.researchCount > 0 ORDER BY u.researchCount DESC, u.id ASC")
+    List<User> findResearchLeaders(Limit limit);
 }
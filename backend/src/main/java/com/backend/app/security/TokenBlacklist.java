@@ -1,23 +1,138 @@
 package com.backend.app.security;
 
-import java.util.Set;
-import java.util.concurrent.ConcurrentHashMap;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
 
+import com.backend.app.model.ActiveToken;
+import com.backend.app.repository.ActiveTokenRepository;
+import com.backend.app.util.JwtUtil;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.JwtException;
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Store of revoked tokens. Tokens are kept as {@link TokenDigest} values
+ * together with their expiry and are evicted once they expire, so memory is
+ * bounded by the number of revoked tokens that are still valid. A Bloom filter
+ * in front of the store answers the common "not revoked" case. Revocations are
+ * persisted in active_tokens and reloaded on startup.
+ */
+@Slf4j
 @Component
 public class TokenBlacklist {
-	private final Set<String> blacklistedTokens = ConcurrentHashMap.newKeySet();
-	
+	private static final double BLOOM_FALSE_POSITIVE_RATE = 0.01;
+
+	private final VerifiedClaimsCache verifiedClaimsCache;
+	private final JwtUtil jwtUtil;
+	private final ActiveTokenRepository activeTokenRepository;
+	private final long expectedEntries;
+	private final Cache<String, Instant> revokedTokens;
+	private final Object bloomLock = new Object();
+	private volatile TokenBloomFilter bloomFilter;
+
+	public TokenBlacklist(VerifiedClaimsCache verifiedClaimsCache, JwtUtil jwtUtil,
+			ActiveTokenRepository activeTokenRepository,
+			@Value("${jwt.revocation.expected-entries:100000}") long expectedEntries) {
+		this.verifiedClaimsCache = verifiedClaimsCache;
+		this.jwtUtil = jwtUtil;
+		this.activeTokenRepository = activeTokenRepository;
+		this.expectedEntries = expectedEntries;
+		this.bloomFilter = new TokenBloomFilter(expectedEntries, BLOOM_FALSE_POSITIVE_RATE);
+		this.revokedTokens = Caffeine.newBuilder()
+				.expireAfter(new Expiry<String, Instant>() {
+					@Override
+					public long expireAfterCreate(String digest, Instant expiry, long currentTime) {
+						return remainingLifetime(expiry);
+					}
+
+					@Override
+					public long expireAfterUpdate(String digest, Instant expiry, long currentTime, long currentDuration) {
+						return remainingLifetime(expiry);
+					}
+
+					@Override
+					public long expireAfterRead(String digest, Instant expiry, long currentTime, long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
+	}
+
+	/**
+	 * Reloads revocations that are still in force so a restart does not make
+	 * revoked tokens usable again.
+	 */
+	@PostConstruct
+	void loadPersistedRevocations() {
+		List<ActiveToken> revoked = activeTokenRepository.findByRevokedTrueAndExpiryAfter(Instant.now());
+		revoked.forEach(token -> addToBlacklist(token.getToken(), token.getExpiry()));
+		log.info("Loaded {} revoked tokens", revoked.size());
+	}
+
+	/**
+	 * Revokes a token until its own expiry. Tokens that are already expired or
+	 * invalid are ignored since they cannot authenticate anyway.
+	 */
 	public void addToBlacklist(String token) {
-		blacklistedTokens.add(token);
+		try {
+			addToBlacklist(token, jwtUtil.getVerifiedClaims(token).getExpiration().toInstant());
+		} catch (JwtException | IllegalArgumentException e) {
+			log.debug("Skipping revocation of unusable token: {}", e.getMessage());
+			verifiedClaimsCache.invalidate(token);
+		}
 	}
-	
+
+	public void addToBlacklist(String token, Instant expiry) {
+		verifiedClaimsCache.invalidate(token);
+		if (expiry == null || !expiry.isAfter(Instant.now())) {
+			return;
+		}
+
+		String digest = TokenDigest.of(token);
+		synchronized (bloomLock) {
+			revokedTokens.put(digest, expiry);
+			bloomFilter.add(digest);
+		}
+	}
+
 	public boolean isBlacklisted(String token) {
-		return blacklistedTokens.contains(token);
+		String digest = TokenDigest.of(token);
+		return bloomFilter.mightContain(digest) && revokedTokens.getIfPresent(digest) != null;
 	}
-	
+
 	public void removeFromBlacklist(String token) {
-		blacklistedTokens.remove(token);
+		revokedTokens.invalidate(TokenDigest.of(token));
+	}
+
+	public long size() {
+		revokedTokens.cleanUp();
+		return revokedTokens.estimatedSize();
+	}
+
+	/**
+	 * Bloom filters cannot forget entries, so the filter is rebuilt from the
+	 * live entries to drop bits of expired tokens.
+	 */
+	@Scheduled(fixedRate = 600000)
+	public void rebuildBloomFilter() {
+		synchronized (bloomLock) {
+			revokedTokens.cleanUp();
+			TokenBloomFilter rebuilt = new TokenBloomFilter(expectedEntries, BLOOM_FALSE_POSITIVE_RATE);
+			revokedTokens.asMap().keySet().forEach(rebuilt::add);
+			bloomFilter = rebuilt;
+		}
+	}
+
+	private static long remainingLifetime(Instant expiry) {
+		return Math.max(0, Duration.between(Instant.now(), expiry).toNanos());
 	}
 }
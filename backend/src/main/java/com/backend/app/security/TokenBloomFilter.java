@@ -0,0 +1,56 @@
+package com.backend.app.security;
+
+import java.nio.ByteBuffer;
+import java.util.Base64;
+import java.util.concurrent.atomic.AtomicLongArray;
+
+/**
+ * Fixed-size Bloom filter over {@link TokenDigest} values. Answers "definitely
+ * not present" without touching the backing store; a positive answer must be
+ * confirmed there. Entries cannot be removed, so the owner rebuilds the filter
+ * from its live entries periodically.
+ */
+class TokenBloomFilter {
+	private final AtomicLongArray bits;
+	private final long bitCount;
+	private final int hashCount;
+
+	TokenBloomFilter(long expectedEntries, double falsePositiveRate) {
+		long n = Math.max(1, expectedEntries);
+		long m = (long) Math.ceil(-n * Math.log(falsePositiveRate) / (Math.log(2) * Math.log(2)));
+		this.bitCount = Math.max(64, m);
+		this.hashCount = Math.max(1, (int) Math.round((double) bitCount / n * Math.log(2)));
+		this.bits = new AtomicLongArray((int) ((bitCount + 63) / 64));
+	}
+
+	void add(String digest) {
+		ByteBuffer hash = ByteBuffer.wrap(Base64.getUrlDecoder().decode(digest));
+		long h1 = hash.getLong();
+		long h2 = hash.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitCount);
+			int word = (int) (bit >>> 6);
+			long mask = 1L << bit;
+			long current;
+			do {
+				current = bits.get(word);
+				if ((current & mask) != 0) {
+					break;
+				}
+			} while (!bits.compareAndSet(word, current, current | mask));
+		}
+	}
+
+	boolean mightContain(String digest) {
+		ByteBuffer hash = ByteBuffer.wrap(Base64.getUrlDecoder().decode(digest));
+		long h1 = hash.getLong();
+		long h2 = hash.getLong();
+		for (int i = 0; i < hashCount; i++) {
+			long bit = Math.floorMod(h1 + i * h2, bitCount);
+			if ((bits.get((int) (bit >>> 6)) & (1L << bit)) == 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+}
@@ -1,53 +1,90 @@
 package com.backend.app.security;
 
 import java.time.Instant;
-import java.util.List;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Component;
-import org.springframework.transaction.annotation.Transactional;
 
-import com.backend.app.model.ActiveToken;
 import com.backend.app.repository.ActiveTokenRepository;
 
-import lombok.RequiredArgsConstructor;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Removes expired rows from active_tokens in bounded chunks, each deleted in
+ * its own short transaction. A sweep that stops at its chunk budget leaves a
+ * backlog, so the next sweep is brought forward; otherwise the task backs off
+ * to the idle interval.
+ */
 @Slf4j
 @Component
-@RequiredArgsConstructor
 public class TokenCleanupTask {
 	private final ActiveTokenRepository activeTokenRepository;
-	private final TokenBlacklist tokenBlacklist;
+	private final Counter deletedTokensCounter;
+	private final int chunkSize;
+	private final int maxChunksPerRun;
+	private final long idleIntervalMs;
+	private final long backlogIntervalMs;
+	private volatile Instant nextRunAt = Instant.MIN;
 	
-	@Scheduled(fixedRate = 3600000)
-	@Transactional
-	public void cleanupExpiredTokens() {
+	public TokenCleanupTask(ActiveTokenRepository activeTokenRepository, MeterRegistry meterRegistry,
+			@Value("${jwt.cleanup.chunk-size:1000}") int chunkSize,
+			@Value("${jwt.cleanup.max-chunks-per-run:50}") int maxChunksPerRun,
+			@Value("${jwt.cleanup.idle-interval-ms:3600000}") long idleIntervalMs,
+			@Value("${jwt.cleanup.backlog-interval-ms:60000}") long backlogIntervalMs) {
+		this.activeTokenRepository = activeTokenRepository;
+		this.deletedTokensCounter = Counter.builder("tokens.cleanup.deleted")
+				.description("Expired active tokens removed by the cleanup task")
+				.register(meterRegistry);
+		this.chunkSize = chunkSize;
+		this.maxChunksPerRun = maxChunksPerRun;
+		this.idleIntervalMs = idleIntervalMs;
+		this.backlogIntervalMs = backlogIntervalMs;
+	}
+	
+	@Scheduled(fixedDelayString = "${jwt.cleanup.tick-ms:30000}")
+	public void sweepIfDue() {
+		if(Instant.now().isBefore(nextRunAt)) {
+			return;
+		}
+		cleanupExpiredTokens();
+	}
+	
+	/**
+	 * Runs one sweep and schedules the next one.
+	 * @return The number of deleted tokens
+	 * */
+	public int cleanupExpiredTokens() {
+		Instant now = Instant.now();
+		int totalDeleted = 0;
+		boolean backlogLeft = false;
+		
 		try {
-			Instant now = Instant.now();
 			log.debug("Starting token cleanup at {}", now);
 			
-			List<ActiveToken> expiredTokens = activeTokenRepository.findByExpiryBefore(now);
-			
-			if(!expiredTokens.isEmpty()) {
-				log.info("Found {} expired tokens to clean up", expiredTokens.size());
+			for(int chunk = 0; chunk < maxChunksPerRun; chunk++) {
+				int deleted = activeTokenRepository.deleteExpiredChunk(now, chunkSize);
+				totalDeleted += deleted;
+				deletedTokensCounter.increment(deleted);
 				
-				expiredTokens.forEach(token -> {
-					try {
-						tokenBlacklist.removeFromBlacklist(token.getToken());
-						activeTokenRepository.delete(token);
-						log.debug("Removed expired token for user {}", token.getUserId());
-                    } catch (Exception e) {
-                        log.error("Failed to remove token {}: {}", token.getToken(), e.getMessage());
-                    }
-				});
-				 
-                log.info("Successfully cleaned up {} expired tokens", expiredTokens.size());
-            } else {
-                log.debug("No expired tokens found to clean up");
-            }
-        } catch (Exception e) {
-            log.error("Error during token cleanup: ", e);
-        }
+				if(deleted < chunkSize) {
+					break;
+				}
+				backlogLeft = chunk == maxChunksPerRun - 1;
+			}
+			
+			if(totalDeleted > 0) {
+				log.info("Cleaned up {} expired tokens{}", totalDeleted, backlogLeft ? ", backlog remains" : "");
+			} else {
+				log.debug("No expired tokens found to clean up");
+			}
+		} catch (Exception e) {
+			log.error("Error during token cleanup: ", e);
+		}
+		
+		nextRunAt = Instant.now().plusMillis(backlogLeft ? backlogIntervalMs : idleIntervalMs);
+		return totalDeleted;
 	}
 }
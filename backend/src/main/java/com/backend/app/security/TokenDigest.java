@@ -0,0 +1,23 @@
+package com.backend.app.security;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+
+/**
+ * Compact, fixed-size fingerprint of a JWT used as a key in in-memory token
+ * stores instead of the full token string.
+ */
+public final class TokenDigest {
+	private TokenDigest() {}
+
+	public static String of(String token) {
+		try {
+			byte[] hash = MessageDigest.getInstance("SHA-256").digest(token.getBytes(StandardCharsets.US_ASCII));
+			return Base64.getUrlEncoder().withoutPadding().encodeToString(hash);
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("SHA-256 is not available", e);
+		}
+	}
+}
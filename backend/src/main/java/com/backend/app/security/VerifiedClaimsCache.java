@@ -0,0 +1,66 @@
+package com.backend.app.security;
+
+import java.time.Duration;
+import java.util.Date;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
+
+import io.jsonwebtoken.Claims;
+
+/**
+ * Bounded cache of JWT claims whose signature has already been verified.
+ * Entries are keyed by {@link TokenDigest} and expire together with the token.
+ */
+@Component
+public class VerifiedClaimsCache {
+	private final Cache<String, Claims> cache;
+
+	public VerifiedClaimsCache(@Value("${jwt.claims-cache.max-size:10000}") long maxSize) {
+		this.cache = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfter(new Expiry<String, Claims>() {
+					@Override
+					public long expireAfterCreate(String key, Claims claims, long currentTime) {
+						return remainingLifetime(claims);
+					}
+
+					@Override
+					public long expireAfterUpdate(String key, Claims claims, long currentTime, long currentDuration) {
+						return remainingLifetime(claims);
+					}
+
+					@Override
+					public long expireAfterRead(String key, Claims claims, long currentTime, long currentDuration) {
+						return currentDuration;
+					}
+				})
+				.build();
+	}
+
+	public Claims get(String token) {
+		return cache.getIfPresent(TokenDigest.of(token));
+	}
+
+	public void put(String token, Claims claims) {
+		if (claims.getExpiration() != null && remainingLifetime(claims) > 0) {
+			cache.put(TokenDigest.of(token), claims);
+		}
+	}
+
+	public void invalidate(String token) {
+		cache.invalidate(TokenDigest.of(token));
+	}
+
+	private static long remainingLifetime(Claims claims) {
+		Date expiration = claims.getExpiration();
+		if (expiration == null) {
+			return 0;
+		}
+		return Math.max(0, Duration.ofMillis(expiration.getTime() - System.currentTimeMillis()).toNanos());
+	}
+}
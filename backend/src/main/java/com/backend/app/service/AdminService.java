@@ -4,6 +4,8 @@ import java.time.LocalDateTime;
 import java.util.List;
 import java.util.UUID;
 
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
@@ -11,12 +13,12 @@ import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.app.dto.model.UserDTO;
+import com.backend.app.dto.request.BulkCommentDeleteRequest;
 import com.backend.app.enums.Role;
 import com.backend.app.exception.BusinessRuleException;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.exception.UnauthorizedAccessException;
 import com.backend.app.mapper.UserMapper;
-import com.backend.app.model.Comment;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
 import com.backend.app.repository.ActiveTokenRepository;
@@ -48,6 +50,11 @@ public class AdminService {
 	private final FileMetadataRepository fileMetadataRepository;
 	private final ProjectRepository projectRepository;
 	private final ActiveTokenRepository activeTokenRepository;
+	private final DashboardService dashboardService;
+	private final CommentService commentService;
+	
+	@Value("${comments.moderation.chunk-size:500}")
+	private int moderationChunkSize;
 	
 	
 	public Page<UserDTO> getAllUsers(Pageable pageable) {
@@ -147,6 +154,7 @@ public class AdminService {
 //		after the user deletion files should be moved somewhere to be still available
 		
 		userRepository.delete(targetUser);
+		dashboardService.markStale();
 	    log.info("User {} permanently deleted by admin {}", userId, currentAdminEmail);
 	}
 	
@@ -172,21 +180,61 @@ public class AdminService {
 	
 	@Transactional
 	public void deleteComment(UUID commentId, String adminEmail) {
-		User admin = userRepository.findByEmail(adminEmail).orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+		requireAdmin(adminEmail);
 		
-		if(admin.getRole() != Role.ADMIN && admin.getRole() != Role.SUPER_ADMIN) {
-			throw new UnauthorizedAccessException("Only admins can perform this action");
+		if(!commentRepository.existsById(commentId)) {
+			throw new ResourceNotFoundException("Comment not found");
 		}
 		
-		Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+		long removed = commentService.deleteThreads(List.of(commentId));
+		log.info("Comment {} deleted with {} replies by admin {}", commentId, removed - 1, adminEmail);
+	}
+	
+	/**
+	 * Removes the listed comments and, when a user is given, that user's whole
+	 * comment history, each together with its replies and likes. The work is
+	 * split into chunks of {@code comments.moderation.chunk-size} comments that
+	 * are deleted in separate transactions, so a large history does not hold
+	 * locks on the comments table for the whole operation. Chunks that were
+	 * deleted stay deleted if a later one fails.
+	 * 
+	 * @return Number of comments removed, replies included
+	 */
+	public long bulkDeleteComments(BulkCommentDeleteRequest request, String adminEmail) {
+		requireAdmin(adminEmail);
+		
+		List<UUID> commentIds = request.getCommentIds() == null ? List.of() : request.getCommentIds().stream().distinct().toList();
+		Long userId = request.getUserId();
+		if(commentIds.isEmpty() && userId == null) {
+			throw new BusinessRuleException("Provide comment IDs or a user ID");
+		}
+		if(userId != null && !userRepository.existsById(userId)) {
+			throw new ResourceNotFoundException("User not found");
+		}
 		
-		if(!comment.getReplies().isEmpty()) {
-			commentRepository.deleteAll(comment.getReplies());
-			
+		long removed = 0;
+		for(int from = 0; from < commentIds.size(); from += moderationChunkSize) {
+			removed += commentService.deleteThreads(commentIds.subList(from, Math.min(from + moderationChunkSize, commentIds.size())));
 		}
 		
-		commentRepository.delete(comment);
-		log.info("Comment {} deleted by admin {}", commentId, adminEmail);
+		if(userId != null) {
+			List<UUID> chunk;
+			while(!(chunk = commentRepository.findIdsByUserId(userId, Limit.of(moderationChunkSize))).isEmpty()) {
+				removed += commentService.deleteThreads(chunk);
+			}
+		}
+		
+		log.info("{} comments removed in bulk by admin {}", removed, adminEmail);
+		return removed;
+	}
+	
+	private User requireAdmin(String adminEmail) {
+		User admin = userRepository.findByEmail(adminEmail).orElseThrow(() -> new ResourceNotFoundException("Admin not found"));
+		
+		if(admin.getRole() != Role.ADMIN && admin.getRole() != Role.SUPER_ADMIN) {
+			throw new UnauthorizedAccessException("Only admins can perform this action");
+		}
+		return admin;
 	}
 	
 	private User validateAdminAction(String adminEmail, Long targetUserId) {
@@ -218,10 +266,9 @@ public class AdminService {
 				}
 	
 	private void revokeUserSessions(Long userId) {
-		activeTokenRepository.findByUserId(userId).forEach(token -> {
-			tokenBlacklist.addToBlacklist(token.getToken());
-			activeTokenRepository.delete(token);
-		});
+		activeTokenRepository.findByUserId(userId)
+				.forEach(token -> tokenBlacklist.addToBlacklist(token.getToken(), token.getExpiry()));
+		activeTokenRepository.revokeByUserId(userId);
 		
 		log.info("Revoked all sessions for user ID: {}", userId);
 	}
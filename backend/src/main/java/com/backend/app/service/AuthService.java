@@ -12,8 +12,12 @@ import lombok.RequiredArgsConstructor;
 public class AuthService {
 	private final ActiveTokenRepository activeTokenRepository;
 	
+	/**
+	 * Marks the token as revoked. The row is kept until the token expires so
+	 * the revocation survives restarts; the cleanup task removes it afterwards.
+	 */
 	@Transactional
 	public void revokeToken(String token) {
-		activeTokenRepository.deleteByToken(token);
+		activeTokenRepository.revokeByToken(token);
 	}
 }
@@ -0,0 +1,79 @@
+package com.backend.app.service;
+
+import java.util.List;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import com.backend.app.repository.UserCollaborationRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the user_collaborations edge store read by
+ * {@link UserService#getUserCollaborators}.
+ *
+ * Database triggers on the membership tables (project creators, publication
+ * authors, patent co-inventors and primary authors, research participants)
+ * queue the affected users in collaboration_refresh_queue. A scheduled job
+ * drains the queue and recomputes the edges of those users only, and a
+ * nightly job rebuilds the whole graph.
+ */
+@Slf4j
+@Service
+public class CollaborationGraphService {
+	private final UserCollaborationRepository collaborationRepository;
+	private final int batchSize;
+	private volatile boolean initialized;
+	
+	public CollaborationGraphService(UserCollaborationRepository collaborationRepository,
+			@Value("${collaboration.refresh.batch-size:500}") int batchSize) {
+		this.collaborationRepository = collaborationRepository;
+		this.batchSize = batchSize;
+	}
+	
+	// ========== SCHEDULED RECOMPUTATION ========== //
+	
+	/**
+	 * Recomputes the edges of one batch of queued users, or backfills the
+	 * whole graph on the first run when the edge table is still empty.
+	 * @return Number of users refreshed
+	 * */
+	@Scheduled(fixedDelayString = "${collaboration.refresh.delay-ms:5000}")
+	@Transactional
+	public int refreshQueuedUsers() {
+		if(!initialized && collaborationRepository.count() == 0) {
+			rebuild();
+			initialized = true;
+			return 0;
+		}
+		initialized = true;
+		
+		List<Long> userIds = collaborationRepository.pollRefreshQueue(batchSize);
+		if(userIds.isEmpty()) {
+			return 0;
+		}
+		
+		collaborationRepository.deleteEdgesOf(userIds);
+		int edges = collaborationRepository.insertEdgesOf(userIds);
+		log.debug("Refreshed {} collaboration edges for {} users", edges, userIds.size());
+		return userIds.size();
+	}
+	
+	@Scheduled(cron = "${collaboration.rebuild-cron:0 45 3 * * *}")
+	@Transactional
+	public void rebuildAll() {
+		rebuild();
+	}
+	
+	// ========== HELPER FUNCTIONS ========== //
+	
+	private void rebuild() {
+		collaborationRepository.clearRefreshQueue();
+		collaborationRepository.deleteAllEdges();
+		int edges = collaborationRepository.insertAllEdges();
+		log.info("Rebuilt collaboration graph with {} edges", edges);
+	}
+}
@@ -0,0 +1,299 @@
+package com.backend.app.service;
+
+import java.time.Duration;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.app.repository.CommentRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Write-behind buffer for the like counters on comments. Likes and unlikes
+ * add their delta to a per-comment {@link LongAdder} once their transaction
+ * commits, so a burst of likes on one comment no longer queues up on its
+ * row lock. A scheduled job writes the aggregated deltas back, one
+ * {@code UPDATE ... WHERE id IN (...)} per distinct delta value, and the
+ * buffer is drained on shutdown. The likes rows themselves stay the source
+ * of truth. While the application runs, stored counters trail them by at
+ * most one flush interval. Deltas still buffered when the process dies are
+ * lost, so a nightly job recounts the counters from comment_likes in
+ * id-ordered batches and repairs the ones that drifted.
+ *
+ * The COMMENT_LIKES daily rollup is fed the same way: deltas are summed per
+ * creation day of the liked comments and written in the same flush, one
+ * increment per day instead of one per like on the same hot row.
+ *
+ * Entries that stay idle for a flush are retired. A writer registers itself
+ * on the entry before checking whether it was retired, and a retired entry is
+ * only dropped once no writer is registered, so no delta is lost to a retired
+ * entry.
+ */
+@Slf4j
+@Service
+public class CommentLikeCounter {
+	private static final int MAX_IDS_PER_UPDATE = 1000;
+	private static final UUID MIN_ID = new UUID(0L, 0L);
+	
+	private final CommentRepository commentRepository;
+	private final AnalyticsRollupService analyticsRollupService;
+	private final int reconcileBatchSize;
+	private final Map<UUID, PendingLikes> pending = new ConcurrentHashMap<>();
+	private final Map<UUID, PendingLikes> retiring = new ConcurrentHashMap<>();
+	/** Rollup deltas by creation day; removed atomically by the flush, so none is lost. */
+	private final Map<LocalDate, Long> dailyLikes = new ConcurrentHashMap<>();
+	private volatile Instant lastFlush = Instant.now();
+	private volatile boolean closed;
+
+	public CommentLikeCounter(CommentRepository commentRepository, AnalyticsRollupService analyticsRollupService,
+			MeterRegistry meterRegistry,
+			@Value("${comments.likes.reconcile-batch-size:1000}") int reconcileBatchSize) {
+		this.commentRepository = commentRepository;
+		this.analyticsRollupService = analyticsRollupService;
+		this.reconcileBatchSize = reconcileBatchSize;
+		Gauge.builder("comments.likes.buffer.size", pending, Map::size)
+				.description("Comments with like deltas buffered in memory")
+				.register(meterRegistry);
+		Gauge.builder("comments.likes.flush.lag.seconds", this, CommentLikeCounter::getFlushLagSeconds)
+				.description("Time since buffered like deltas were last written to the database")
+				.register(meterRegistry);
+	}
+
+	// ========== WRITE PATH ========== //
+
+	/**
+	 * Buffers a like counter change once the surrounding transaction commits,
+	 * so rolled back likes are never counted.
+	 * @param commentId The ID of the liked comment
+	 * @param commentCreatedAt Creation time of the liked comment, the day its likes are reported under
+	 * @param delta +1 for a like, -1 for an unlike
+	 * */
+	public void record(UUID commentId, LocalDateTime commentCreatedAt, int delta) {
+		LocalDate createdOn = commentCreatedAt != null ? commentCreatedAt.toLocalDate() : LocalDate.now();
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					add(commentId, createdOn, delta);
+				}
+			});
+		} else {
+			add(commentId, createdOn, delta);
+		}
+	}
+
+	/**
+	 * @return The like delta of a comment that has not been written to the database yet
+	 * */
+	public long getPendingDelta(UUID commentId) {
+		PendingLikes likes = pending.get(commentId);
+		return likes == null ? 0 : likes.delta.sum() - likes.flushed;
+	}
+
+	void add(UUID commentId, LocalDate createdOn, long delta) {
+		if(closed) {
+			// Shutting down, nothing will flush the buffer any more
+			commentRepository.adjustLikes(List.of(commentId), Math.toIntExact(delta));
+			analyticsRollupService.recordCommentLikes(createdOn, delta);
+			return;
+		}
+
+		dailyLikes.merge(createdOn, delta, Long::sum);
+
+		while(true) {
+			PendingLikes likes = pending.computeIfAbsent(commentId, id -> new PendingLikes());
+			likes.writers.incrementAndGet();
+			try {
+				if(!likes.retired) {
+					likes.delta.add(delta);
+					return;
+				}
+			} finally {
+				likes.writers.decrementAndGet();
+			}
+		}
+	}
+
+	// ========== FLUSHING ========== //
+
+	@Scheduled(fixedDelayString = "${comments.likes.flush-ms:1000}")
+	public synchronized void flush() {
+		List<Delta> deltas = new ArrayList<>();
+		for(Map.Entry<UUID, PendingLikes> entry : pending.entrySet()) {
+			PendingLikes likes = entry.getValue();
+			long total = likes.delta.sum();
+			if(total != likes.flushed) {
+				deltas.add(new Delta(entry.getKey(), likes, total, false));
+			} else if(pending.remove(entry.getKey(), likes)) {
+				likes.retired = true;
+				retiring.put(entry.getKey(), likes);
+			}
+		}
+
+		// Retired entries may still receive a delta from writers that fetched them before retirement
+		for(Map.Entry<UUID, PendingLikes> entry : retiring.entrySet()) {
+			PendingLikes likes = entry.getValue();
+			if(likes.writers.get() == 0) {
+				deltas.add(new Delta(entry.getKey(), likes, likes.delta.sum(), true));
+			}
+		}
+
+		write(deltas);
+		writeRollups();
+	}
+
+	@PreDestroy
+	public void drain() {
+		closed = true;
+		flush();
+		// A second pass picks up entries retired during the first one
+		flush();
+		long unflushed = pending.values().stream().filter(likes -> likes.delta.sum() != likes.flushed).count();
+		if(unflushed > 0) {
+			log.warn("Shutting down with unwritten like deltas for {} comments", unflushed);
+		}
+	}
+
+	/**
+	 * Recounts the like counters from comment_likes in batches of
+	 * {@code reconcileBatchSize} comments, each batch in its own transaction.
+	 * Comments with buffered deltas are skipped, since their stored counter is
+	 * expected to trail the rows; they are checked again on the next run. Each
+	 * batch holds the flush lock, so no delta is written while it recounts. A
+	 * like committing during a recount, before its delta is buffered, can leave
+	 * its comment off by one until the next run.
+	 * @return Number of comments whose counter was repaired
+	 * */
+	@Scheduled(cron = "${comments.likes.reconcile-cron:0 45 4 * * *}")
+	public int reconcileCounters() {
+		int repaired = 0;
+		UUID lastId = MIN_ID;
+		List<UUID> batch;
+		do {
+			batch = commentRepository.findIdsAfter(lastId, Limit.of(reconcileBatchSize));
+			if(batch.isEmpty()) {
+				break;
+			}
+			synchronized(this) {
+				List<UUID> settled = batch.stream()
+						.filter(id -> !pending.containsKey(id) && !retiring.containsKey(id))
+						.toList();
+				if(!settled.isEmpty()) {
+					repaired += commentRepository.reconcileLikes(settled);
+				}
+			}
+			lastId = batch.get(batch.size() - 1);
+		} while(batch.size() == reconcileBatchSize);
+
+		if(repaired > 0) {
+			log.warn("Repaired like counters of {} comments", repaired);
+		}
+		return repaired;
+	}
+
+	public double getFlushLagSeconds() {
+		return Duration.between(lastFlush, Instant.now()).toMillis() / 1000.0;
+	}
+
+	// ========== HELPER FUNCTIONS ========== //
+
+	/**
+	 * Groups comments by delta so each distinct value takes a single UPDATE
+	 * per {@value #MAX_IDS_PER_UPDATE} comments. Updates that fail stay
+	 * pending and are retried on the next flush.
+	 */
+	private void write(List<Delta> deltas) {
+		Map<Long, List<Delta>> byDelta = new TreeMap<>();
+		for(Delta delta : deltas) {
+			long change = delta.total() - delta.likes().flushed;
+			if(change != 0) {
+				byDelta.computeIfAbsent(change, key -> new ArrayList<>()).add(delta);
+			} else if(delta.retired()) {
+				retiring.remove(delta.commentId(), delta.likes());
+			}
+		}
+
+		boolean failed = false;
+		int updates = 0;
+		for(Map.Entry<Long, List<Delta>> group : byDelta.entrySet()) {
+			List<Delta> comments = group.getValue();
+			for(int from = 0; from < comments.size(); from += MAX_IDS_PER_UPDATE) {
+				List<Delta> chunk = comments.subList(from, Math.min(from + MAX_IDS_PER_UPDATE, comments.size()));
+				try {
+					commentRepository.adjustLikes(chunk.stream().map(Delta::commentId).toList(),
+							Math.toIntExact(group.getKey()));
+					updates++;
+				} catch (Exception e) {
+					failed = true;
+					log.warn("Failed to write like delta {} for {} comments, retrying on the next flush: {}",
+							group.getKey(), chunk.size(), e.getMessage());
+					continue;
+				}
+
+				for(Delta delta : chunk) {
+					delta.likes().flushed = delta.total();
+					if(delta.retired()) {
+						retiring.remove(delta.commentId(), delta.likes());
+					}
+				}
+			}
+		}
+
+		if(!failed) {
+			lastFlush = Instant.now();
+		}
+		if(updates > 0) {
+			log.debug("Flushed like deltas for {} comments in {} updates", deltas.size(), updates);
+		}
+	}
+
+	/**
+	 * The rollup service logs and skips failed increments and its periodic
+	 * recomputation corrects them, so deltas are not retried here.
+	 */
+	private void writeRollups() {
+		for(LocalDate createdOn : dailyLikes.keySet()) {
+			Long delta = dailyLikes.remove(createdOn);
+			if(delta != null && delta != 0) {
+				analyticsRollupService.recordCommentLikes(createdOn, delta);
+			}
+		}
+	}
+
+	private static final class PendingLikes {
+		private final LongAdder delta = new LongAdder();
+		/**
+		 * Writers currently adding to this entry. A single counter rather than a
+		 * {@link LongAdder}: the striped cells of an adder are summed one by one,
+		 * so a writer backing off from a retired entry could cancel out one that
+		 * is still registered and let its delta be dropped.
+		 */
+		private final AtomicInteger writers = new AtomicInteger();
+		private volatile boolean retired;
+		/** Part of {@link #delta} already written, only changed by the flushing thread. */
+		private volatile long flushed;
+	}
+
+	private record Delta(UUID commentId, PendingLikes likes, long total, boolean retired) {
+	}
+}
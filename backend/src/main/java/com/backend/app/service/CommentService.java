@@ -1,17 +1,29 @@
 package com.backend.app.service;
 
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 import java.util.UUID;
-import java.util.stream.Collectors;
 
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import com.backend.app.dto.create.CreateCommentDTO;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.model.CommentDTO;
-import com.backend.app.dto.response.PaginatedResponse;
+import com.backend.app.enums.CommentEventType;
+import com.backend.app.event.CommentEvent;
 import com.backend.app.exception.AuthorizationException;
 import com.backend.app.exception.BusinessRuleException;
 import com.backend.app.exception.ResourceNotFoundException;
@@ -20,9 +32,14 @@ import com.backend.app.model.Comment;
 import com.backend.app.model.Project;
 import com.backend.app.model.Research;
 import com.backend.app.model.User;
+import com.backend.app.repository.CommentLikeRepository;
 import com.backend.app.repository.CommentRepository;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+import com.backend.app.security.SecurityUtils;
+import com.backend.app.util.CommentPath;
+import com.backend.app.util.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -33,18 +50,66 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class CommentService {
     private final CommentRepository commentRepository;
+    private final CommentLikeRepository commentLikeRepository;
+    private final CommentLikeCounter commentLikeCounter;
     private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
     private final CommentMapper commentMapper;
+    private final SecurityUtils securityUtils;
+    private final AnalyticsRollupService analyticsRollupService;
+    private final ApplicationEventPublisher eventPublisher;
     
     public Page<Comment> findAllComments(Pageable pageable) {
 		return commentRepository.findAll(pageable);
 	}
     
+    /**
+     * Loads the whole comment thread of a project with a single query and
+     * assembles the reply tree in memory.
+     */
     @Transactional(readOnly = true)
     public List<CommentDTO> getCommentsByProjectId(UUID projectId) {
-    	return commentRepository.findByProjectIdAndParentCommentIsNull(projectId).stream().map(
-    			this::mapCommentWithReplies).collect(Collectors.toList());
+    	List<Comment> comments = commentRepository.findThreadByProjectId(projectId);
+    	Long currentUserId = securityUtils.getCurrentUserId();
+    	Set<UUID> likedIds = currentUserId == null || comments.isEmpty()
+    			? Collections.emptySet()
+    			: commentLikeRepository.findLikedCommentIdsByProjectId(projectId, currentUserId);
+    	return assembleThread(comments, likedIds);
+    }
+    
+    /**
+     * Streams top-level comments of a project in chunks using keyset pagination
+     * on (createdAt, id). Each top-level comment is returned with its full reply tree.
+     * 
+     * @param projectId The ID of the project
+     * @param cursor Opaque cursor from the previous chunk, or null for the first one
+     * @param size Maximum number of top-level comments in the chunk
+     * @return The chunk of comment trees and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<CommentDTO> getCommentThreadChunk(UUID projectId, String cursor, int size) {
+    	KeysetCursor position = KeysetCursor.decode(cursor);
+    	Limit limit = Limit.of(size + 1);
+    	List<Comment> roots = position == null
+    			? commentRepository.findTopLevelByProjectId(projectId, limit)
+    			: commentRepository.findTopLevelByProjectIdAfter(projectId, position.getCreatedAt(), position.uuidId(), limit);
+    	
+    	boolean hasNext = roots.size() > size;
+    	if (hasNext) {
+    		roots = roots.subList(0, size);
+    	}
+    	
+    	List<Comment> comments = new ArrayList<>(roots);
+    	if (!roots.isEmpty()) {
+    		List<UUID> descendantIds = commentRepository.findDescendantIds(roots.stream().map(Comment::getId).toList());
+    		if (!descendantIds.isEmpty()) {
+    			comments.addAll(commentRepository.findAllWithUserByIdIn(descendantIds));
+    		}
+    	}
+    	
+    	Comment last = roots.isEmpty() ? null : roots.get(roots.size() - 1);
+    	String nextCursor = hasNext ? KeysetCursor.encode(last.getCreatedAt(), last.getId()) : null;
+    	return new KeysetPage<>(assembleThread(comments, findLikedIds(comments)), nextCursor);
     }
     
     @Transactional(readOnly = true)
@@ -52,9 +117,65 @@ public class CommentService {
     	return commentRepository.findByUserId(userId, pageable).map(commentMapper::toDTO);    	
     }
     
+    /**
+     * Lists a user's comments newest first using keyset pagination on
+     * (createdAt, id) instead of OFFSET and a total count.
+     * 
+     * @param userId The ID of the author
+     * @param cursor Opaque cursor from the previous chunk, or null for the first one
+     * @param size Maximum number of comments in the chunk
+     * @return The chunk of comments and the cursor for the next one
+     */
+    @Transactional(readOnly = true)
+    public KeysetPage<CommentDTO> getCommentsByUserIdChunk(Long userId, String cursor, int size) {
+    	KeysetCursor position = KeysetCursor.decode(cursor);
+    	Limit limit = Limit.of(size + 1);
+    	List<Comment> comments = position == null
+    			? commentRepository.findByUserIdNewestFirst(userId, limit)
+    			: commentRepository.findByUserIdNewestFirstBefore(userId, position.getCreatedAt(), position.uuidId(), limit);
+    	return KeysetPage.of(comments, size, comment -> KeysetCursor.encode(comment.getCreatedAt(), comment.getId()))
+    			.map(commentMapper::toDTO);
+    }
+    
     @Transactional(readOnly = true)
-    public List<CommentDTO> getRepliesForComment(UUID parentCommentId) {    	
-    	return commentRepository.findRepliesByParentId(parentCommentId).stream().map(this::mapCommentWithReplies).collect(Collectors.toList());
+    public List<CommentDTO> getRepliesForComment(UUID parentCommentId) {
+    	return getRepliesForComment(parentCommentId, null);
+    }
+    
+    /**
+     * Loads the replies below a comment with a single range scan over the
+     * materialized comment paths instead of walking the thread level by level.
+     * 
+     * @param parentCommentId The ID of the comment whose replies are requested
+     * @param depth How many levels of replies to include, or null for all of them
+     * @return Reply trees of the direct replies, oldest first
+     */
+    @Transactional(readOnly = true)
+    public List<CommentDTO> getRepliesForComment(UUID parentCommentId, Integer depth) {
+    	Comment parent = commentRepository.findById(parentCommentId).orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
+    	UUID projectId = parent.getProject().getId();
+    	String from = CommentPath.subtreeStart(parent);
+    	String to = CommentPath.subtreeEnd(parent);
+    	
+    	// Depths too large to bound the path length are the same as no limit
+    	int maxLength = depth == null ? Integer.MAX_VALUE : CommentPath.maxLength(parent, depth);
+    	List<Comment> replies = maxLength == Integer.MAX_VALUE
+    			? commentRepository.findSubtree(projectId, from, to)
+    			: commentRepository.findSubtreeToLength(projectId, from, to, maxLength);
+    	return assembleThread(replies, findLikedIds(replies));
+    }
+    
+    /**
+     * @return Number of replies at any depth per top-level comment of the
+     * project; top-level comments without replies are left out
+     */
+    @Transactional(readOnly = true)
+    public Map<UUID, Long> getReplyCountsByProjectId(UUID projectId) {
+    	Map<UUID, Long> counts = new HashMap<>();
+    	for (Object[] thread : commentRepository.countRepliesByThread(projectId)) {
+    		counts.put((UUID) thread[0], ((Number) thread[1]).longValue());
+    	}
+    	return counts;
     }
     
     @Transactional
@@ -78,28 +199,68 @@ public class CommentService {
                 throw new BusinessRuleException("Self-replies are not allowed. Edit your comment instead.");}
     		
     		comment.setParentComment(parentComment);
+    		comment.setPath(CommentPath.childOf(parentComment));
     	}
-    	return commentMapper.toDTO(commentRepository.save(comment));
+    	Comment saved = commentRepository.save(comment);
+    	analyticsRollupService.recordCommentCreated();
+    	// Nobody can have liked a comment that was just created
+    	CommentDTO dto = commentMapper.toDTO(saved, false);
+    	publish(CommentEventType.CREATED, saved, dto);
+    	return dto;
     }
     
     @Transactional
     public CommentDTO updateComment(UUID commentId, String content, Long userId) {
     	Comment comment = getCommentAndValidateOwnership(commentId, userId);
     	comment.setContent(content);
-    	return commentMapper.toDTO(commentRepository.save(comment));
+    	Comment saved = commentRepository.save(comment);
+    	publish(CommentEventType.UPDATED, saved, commentMapper.toDTO(saved, false));
+    	return commentMapper.toDTO(saved);
     }
     
     @Transactional
     public void deleteComment(UUID commentId, Long userId) {
-    	Comment comment = getCommentAndValidateOwnership(commentId, userId);
-
-    	if(!comment.getReplies().isEmpty()) {
-    		commentRepository.deleteAll(comment.getReplies());
+    	getCommentAndValidateOwnership(commentId, userId);
+    	deleteThreads(List.of(commentId));
+    }
+    
+    /**
+     * Removes comments with all their replies and likes in a single set-based
+     * statement, so large threads are never loaded into the persistence context.
+     * 
+     * @param rootIds The IDs of the comments to remove
+     * @return Number of comments removed, replies included
+     */
+    @Transactional
+    public long deleteThreads(Collection<UUID> rootIds) {
+    	if (rootIds.isEmpty()) {
+    		return 0;
     	}
     	
-    	commentRepository.delete(comment);
+    	// Viewers drop the replies together with the deleted comment
+    	for (Comment root : commentRepository.findAllById(rootIds)) {
+    		publish(CommentEventType.DELETED, root, CommentDTO.builder()
+    				.id(root.getId())
+    				.projectId(root.getProject().getId())
+    				.parentCommentId(root.getParentComment() != null ? root.getParentComment().getId() : null)
+    				.build());
+    	}
+    	
+    	long removed = 0;
+    	for (Object[] day : commentRepository.deleteSubtrees(rootIds)) {
+    		long comments = ((Number) day[1]).longValue();
+    		analyticsRollupService.recordCommentsRemoved(toLocalDate(day[0]), comments, ((Number) day[2]).longValue());
+    		removed += comments;
+    	}
+    	return removed;
     }
     
+    /**
+     * Records a like with a single conditional insert into comment_likes and
+     * hands the counter change to {@link CommentLikeCounter}, so the cost does
+     * not depend on how many likes the comment already has and bursts of likes
+     * do not queue up on the comment row.
+     */
     @Transactional
     public CommentDTO likeComment(UUID commentId, Long userId) {
     	Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
@@ -108,27 +269,48 @@ public class CommentService {
     		throw new BusinessRuleException("You cannot like your own comment");
     	}
     	
-    	 if(comment.getLikedByUsers().contains(userId)) {
-    	        throw new BusinessRuleException("You already liked this comment");
-    	    }
+    	if(commentLikeRepository.insertIfAbsent(commentId, userId) == 0) {
+    		throw new BusinessRuleException("You already liked this comment");
+    	}
     	
-    	 comment.getLikedByUsers().add(userId);
-    	comment.setLikes(comment.getLikes() + 1);
-    	return commentMapper.toDTO(commentRepository.save(comment));
+    	commentLikeCounter.record(commentId, comment.getCreatedAt(), 1);
+    	return toDTOWithLikes(comment, 1, true);
     }
     
     @Transactional
     public CommentDTO unlikeComment(UUID commentId, Long userId) {
     	Comment comment = commentRepository.findById(commentId).orElseThrow(() -> new ResourceNotFoundException("Comment not found"));
     	
-    	if(!comment.getLikedByUsers().contains(userId)) {
+    	if(commentLikeRepository.deleteLike(commentId, userId) == 0) {
             throw new BusinessRuleException("You haven't liked this comment");
         }
     	
-
-   	 comment.getLikedByUsers().remove(userId);
-   	comment.setLikes(Math.max(0, comment.getLikes() - 1) );
-    	return commentMapper.toDTO(commentRepository.save(comment));
+    	commentLikeCounter.record(commentId, comment.getCreatedAt(), -1);
+    	return toDTOWithLikes(comment, -1, false);
+    }
+    
+    /**
+     * The stored counter trails the buffered deltas, and the change just made
+     * is only buffered after commit, so both are added to the returned count.
+     */
+    private CommentDTO toDTOWithLikes(Comment comment, int change, boolean isLiked) {
+    	CommentDTO dto = commentMapper.toDTO(comment, isLiked);
+    	long likes = comment.getLikes() + commentLikeCounter.getPendingDelta(comment.getId()) + change;
+    	dto.setLikes((int) Math.max(0, likes));
+    	publish(CommentEventType.LIKES_CHANGED, comment, CommentDTO.builder()
+    			.id(comment.getId())
+    			.projectId(comment.getProject().getId())
+    			.likes(dto.getLikes())
+    			.build());
+    	return dto;
+    }
+    
+    /**
+     * Announces a change to the project's comment stream; delivered by
+     * {@link CommentStreamService} once the transaction commits.
+     */
+    private void publish(CommentEventType type, Comment comment, CommentDTO payload) {
+    	eventPublisher.publishEvent(new CommentEvent(type, comment.getProject().getId(), payload));
     }
     
     private Comment getCommentAndValidateOwnership(UUID commentId, Long userId) {
@@ -141,9 +323,39 @@ public class CommentService {
     	return comment;
     }
     
-    private CommentDTO mapCommentWithReplies(Comment comment) {
-    	CommentDTO dto = commentMapper.toDTO(comment);
-    	dto.setReplies(getRepliesForComment(comment.getId()));
-    	return dto;
+    private static LocalDate toLocalDate(Object value) {
+    	return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+    }
+    
+    private Set<UUID> findLikedIds(List<Comment> comments) {
+    	Long currentUserId = securityUtils.getCurrentUserId();
+    	if (currentUserId == null || comments.isEmpty()) {
+    		return Collections.emptySet();
+    	}
+    	return commentLikeRepository.findLikedCommentIdsByIdIn(comments.stream().map(Comment::getId).toList(), currentUserId);
+    }
+    
+    /**
+     * Builds reply trees from a flat list of comments ordered by creation time.
+     * Comments whose parent is not part of the list become roots.
+     */
+    private List<CommentDTO> assembleThread(List<Comment> comments, Set<UUID> likedIds) {
+    	Map<UUID, CommentDTO> byId = new LinkedHashMap<>();
+    	for (Comment comment : comments) {
+    		CommentDTO dto = commentMapper.toDTO(comment, likedIds.contains(comment.getId()));
+    		dto.setReplies(new ArrayList<>());
+    		byId.put(comment.getId(), dto);
+    	}
+    	
+    	List<CommentDTO> roots = new ArrayList<>();
+    	for (CommentDTO dto : byId.values()) {
+    		CommentDTO parent = dto.getParentCommentId() != null ? byId.get(dto.getParentCommentId()) : null;
+    		if (parent != null) {
+    			parent.getReplies().add(dto);
+    		} else {
+    			roots.add(dto);
+    		}
+    	}
+    	return roots;
     }
 }
@@ -0,0 +1,271 @@
+package com.backend.app.service;
+
+import java.io.IOException;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.scheduling.concurrent.CustomizableThreadFactory;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.event.TransactionalEventListener;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.backend.app.event.CommentEvent;
+import com.backend.app.exception.RateLimitExceededException;
+import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.repository.ProjectRepository;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Pushes comment changes of a project to its viewers as server-sent events,
+ * replacing polling of the whole comment tree. An idle subscriber is only an
+ * open async request and a small bounded queue; no thread is held while it
+ * waits.
+ *
+ * {@link CommentEvent}s are fanned out once their transaction commits. Each
+ * event is serialized once and offered to the queue of every subscriber of
+ * the project, and a small pool of sender threads drains the queues, at most
+ * one task per subscriber at a time. A subscriber that falls
+ * {@code comments.stream.buffer-size} events behind has its queue replaced by
+ * a single {@code resync} event, telling the client to reload the thread
+ * instead of slowing down everyone else. Heartbeats keep idle connections
+ * open through proxies and detect clients that went away. Streams can only be
+ * opened for existing projects, and each user may hold at most
+ * {@code comments.stream.max-per-user} of them at a time.
+ */
+@Slf4j
+@Service
+public class CommentStreamService {
+	static final String RESYNC = "resync";
+
+	private static final StreamEvent HEARTBEAT = new StreamEvent(null, null);
+	private static final StreamEvent RESYNC_EVENT = new StreamEvent(RESYNC, "{}");
+
+	private final Map<UUID, Set<Subscriber>> subscribers = new ConcurrentHashMap<>();
+	private final Map<Long, Integer> streamsPerUser = new ConcurrentHashMap<>();
+	private final AtomicInteger subscriberCount = new AtomicInteger();
+	private final ObjectMapper objectMapper;
+	private final ProjectRepository projectRepository;
+	private final ExecutorService senders;
+	private final Counter resyncs;
+	private final int bufferSize;
+	private final long timeoutMs;
+	private final int maxPerUser;
+
+	public CommentStreamService(ObjectMapper objectMapper, ProjectRepository projectRepository, MeterRegistry meterRegistry,
+			@Value("${comments.stream.buffer-size:64}") int bufferSize,
+			@Value("${comments.stream.timeout-ms:1800000}") long timeoutMs,
+			@Value("${comments.stream.sender-threads:4}") int senderThreads,
+			@Value("${comments.stream.max-per-user:5}") int maxPerUser) {
+		// SSE data lines must not contain line breaks
+		this.objectMapper = objectMapper.copy().disable(SerializationFeature.INDENT_OUTPUT);
+		this.projectRepository = projectRepository;
+		this.bufferSize = bufferSize;
+		this.timeoutMs = timeoutMs;
+		this.maxPerUser = maxPerUser;
+
+		CustomizableThreadFactory threadFactory = new CustomizableThreadFactory("comment-stream-");
+		threadFactory.setDaemon(true);
+		this.senders = Executors.newFixedThreadPool(senderThreads, threadFactory);
+
+		Gauge.builder("comments.stream.subscribers", subscriberCount, AtomicInteger::get)
+				.description("Open comment event streams")
+				.register(meterRegistry);
+		this.resyncs = Counter.builder("comments.stream.resyncs")
+				.description("Subscribers whose buffer overflowed and were told to reload")
+				.register(meterRegistry);
+	}
+
+	// ========== SUBSCRIPTIONS ========== //
+
+	/**
+	 * Opens an event stream for the comments of a project. The stream is
+	 * completed when it times out, and clients reconnect on their own.
+	 * @param projectId The ID of the project
+	 * @param userId The ID of the subscribing user
+	 * @return The emitter to return from the controller
+	 * @throws ResourceNotFoundException If the project does not exist
+	 * @throws RateLimitExceededException If the user already has the maximum number of open streams
+	 * */
+	public SseEmitter subscribe(UUID projectId, Long userId) {
+		if(!projectRepository.existsById(projectId)) {
+			throw new ResourceNotFoundException("Project not found with ID: " + projectId);
+		}
+		streamsPerUser.compute(userId, (id, open) -> {
+			int streams = open == null ? 0 : open;
+			if(streams >= maxPerUser) {
+				throw new RateLimitExceededException("Too many open comment streams", timeoutMs / 1000);
+			}
+			return streams + 1;
+		});
+
+		SseEmitter emitter = new SseEmitter(timeoutMs);
+		Subscriber subscriber = new Subscriber(projectId, userId, emitter);
+
+		emitter.onCompletion(() -> remove(subscriber));
+		emitter.onTimeout(() -> {
+			remove(subscriber);
+			// Ends the response cleanly instead of going through async timeout handling
+			emitter.complete();
+		});
+		emitter.onError(error -> remove(subscriber));
+
+		subscribers.compute(projectId, (id, set) -> {
+			Set<Subscriber> projectSubscribers = set == null ? ConcurrentHashMap.newKeySet() : set;
+			projectSubscribers.add(subscriber);
+			return projectSubscribers;
+		});
+		subscriberCount.incrementAndGet();
+
+		// Sends the response headers right away so the client sees the stream open
+		subscriber.offer(HEARTBEAT);
+		return emitter;
+	}
+
+	public int getSubscriberCount(UUID projectId) {
+		Set<Subscriber> projectSubscribers = subscribers.get(projectId);
+		return projectSubscribers == null ? 0 : projectSubscribers.size();
+	}
+
+	// ========== FAN-OUT ========== //
+
+	@TransactionalEventListener(fallbackExecution = true)
+	public void onCommentEvent(CommentEvent event) {
+		Set<Subscriber> projectSubscribers = subscribers.get(event.projectId());
+		if(projectSubscribers == null || projectSubscribers.isEmpty()) {
+			return;
+		}
+
+		String data;
+		try {
+			data = objectMapper.writeValueAsString(event.comment());
+		} catch (JsonProcessingException e) {
+			log.warn("Could not serialize {} event for comment {}: {}", event.type(), event.comment().getId(), e.getMessage());
+			return;
+		}
+
+		StreamEvent streamEvent = new StreamEvent(event.type().name().toLowerCase(Locale.ROOT), data);
+		for(Subscriber subscriber : projectSubscribers) {
+			subscriber.offer(streamEvent);
+		}
+	}
+
+	@Scheduled(fixedDelayString = "${comments.stream.heartbeat-ms:25000}")
+	public void heartbeat() {
+		for(Set<Subscriber> projectSubscribers : subscribers.values()) {
+			for(Subscriber subscriber : projectSubscribers) {
+				// Subscribers with pending events are already about to be written to
+				if(subscriber.queue.isEmpty()) {
+					subscriber.offer(HEARTBEAT);
+				}
+			}
+		}
+	}
+
+	@PreDestroy
+	public void shutdown() throws InterruptedException {
+		for(Set<Subscriber> projectSubscribers : subscribers.values()) {
+			projectSubscribers.forEach(subscriber -> subscriber.emitter.complete());
+		}
+		senders.shutdown();
+		senders.awaitTermination(5, TimeUnit.SECONDS);
+	}
+
+	// ========== HELPER FUNCTIONS ========== //
+
+	private void remove(Subscriber subscriber) {
+		if(!subscriber.closed.compareAndSet(false, true)) {
+			return;
+		}
+		subscribers.computeIfPresent(subscriber.projectId, (id, set) -> {
+			set.remove(subscriber);
+			return set.isEmpty() ? null : set;
+		});
+		streamsPerUser.computeIfPresent(subscriber.userId, (id, open) -> open <= 1 ? null : open - 1);
+		subscriberCount.decrementAndGet();
+	}
+
+	private record StreamEvent(String name, String data) {
+	}
+
+	private final class Subscriber {
+		private final UUID projectId;
+		private final Long userId;
+		private final SseEmitter emitter;
+		private final BlockingQueue<StreamEvent> queue = new ArrayBlockingQueue<>(bufferSize);
+		private final AtomicBoolean scheduled = new AtomicBoolean();
+		private final AtomicBoolean closed = new AtomicBoolean();
+
+		private Subscriber(UUID projectId, Long userId, SseEmitter emitter) {
+			this.projectId = projectId;
+			this.userId = userId;
+			this.emitter = emitter;
+		}
+
+		private void offer(StreamEvent event) {
+			if(closed.get()) {
+				return;
+			}
+			if(!queue.offer(event)) {
+				// Too far behind: the client has to reload the thread anyway
+				queue.clear();
+				queue.offer(RESYNC_EVENT);
+				resyncs.increment();
+			}
+			schedule();
+		}
+
+		private void schedule() {
+			if(scheduled.compareAndSet(false, true)) {
+				try {
+					senders.execute(this::drain);
+				} catch (RejectedExecutionException e) {
+					scheduled.set(false);
+					remove(this);
+				}
+			}
+		}
+
+		private void drain() {
+			try {
+				StreamEvent event;
+				while(!closed.get() && (event = queue.poll()) != null) {
+					emitter.send(event.name() == null
+							? SseEmitter.event().comment("heartbeat")
+							: SseEmitter.event().name(event.name()).data(event.data()));
+				}
+			} catch (IOException | IllegalStateException e) {
+				log.debug("Comment stream for project {} closed: {}", projectId, e.getMessage());
+				// The container reports the broken connection to the emitter itself
+				remove(this);
+			} finally {
+				scheduled.set(false);
+			}
+
+			// Events offered after the last poll but before the flag was cleared
+			if(!closed.get() && !queue.isEmpty()) {
+				schedule();
+			}
+		}
+	}
+}
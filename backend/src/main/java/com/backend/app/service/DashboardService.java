@@ -1,17 +1,35 @@
 package com.backend.app.service;
 
+import java.time.Duration;
+import java.time.Instant;
 import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
 
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.dao.DataAccessException;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import com.backend.app.dto.miscellaneous.DashboardMetricsDTO;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.UserRepository;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+/**
+ * Serves dashboard metrics from an in-memory snapshot so the landing page does
+ * not query the database. The snapshot is refreshed in the background when it
+ * gets older than the configured maximum age or after projects or users
+ * change. Concurrent refreshes share a single database round trip.
+ */
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -23,33 +41,115 @@ public class DashboardService {
 	
 	private final ProjectRepository projectRepository;
     private final UserRepository userRepository;
+    private final MeterRegistry meterRegistry;
+    
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>();
+    private final AtomicReference<CompletableFuture<DashboardMetricsDTO>> inFlight = new AtomicReference<>();
+    private final AtomicBoolean stale = new AtomicBoolean();
+    
+    @Value("${dashboard.snapshot.max-age-ms:60000}")
+    private long maxAgeMs;
+    
+    @PostConstruct
+    void registerMetrics() {
+    	Gauge.builder("dashboard.snapshot.age.seconds", this, DashboardService::getSnapshotAgeSeconds)
+    			.description("Age of the dashboard metrics snapshot")
+    			.register(meterRegistry);
+    }
 
     public DashboardMetricsDTO getDashboardMetrics() {
-    	 try {
-             Map<String, Long> projectCounts = projectRepository.getProjectTypeAggregates();
-             return buildDashboardMetrics(projectCounts);
-         } catch (DataAccessException e) {
-             log.error("Database error while fetching dashboard metrics: {}", e.getMessage());
-             return buildDefaultDashboardMetrics();
-         } catch (Exception e) {
-             log.error("Unexpected error while fetching dashboard metrics", e);
-             return buildDefaultDashboardMetrics();
-         }
-    }
-    
-    private DashboardMetricsDTO buildDashboardMetrics(Map<String, Long> projectCounts) {
+    	Snapshot current = snapshot.get();
+    	if(current != null) {
+    		return current.metrics();
+    	}
+    	
     	try {
-    		return DashboardMetricsDTO.builder().totalProjects(getSafeLongValue(projectCounts, TOTAL_PROJECTS_KEY))
-                    .totalPublications(getSafeLongValue(projectCounts, TOTAL_PUBLICATIONS_KEY))
-                    .totalPatents(getSafeLongValue(projectCounts, TOTAL_PATENTS_KEY))
-                    .totalResearch(getSafeLongValue(projectCounts, TOTAL_RESEARCH_KEY))
-                    .totalUsers(userRepository.count())
-                    .build();
+    		return refreshSnapshot();
 		} catch (Exception e) {
-			log.error("Error while building dashboard metrics", e);
+			log.error("Unexpected error while fetching dashboard metrics", e);
 			return buildDefaultDashboardMetrics();
 		}
+    }
+    
+    /**
+     * Marks the snapshot as outdated once the current transaction commits, so the
+     * next background check reloads it.
+     */
+    public void markStale() {
+    	if(TransactionSynchronizationManager.isSynchronizationActive()) {
+    		TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+    			@Override
+    			public void afterCommit() {
+    				stale.set(true);
+    			}
+    		});
+    	} else {
+    		stale.set(true);
+    	}
+    }
+    
+    @Scheduled(fixedDelayString = "${dashboard.snapshot.check-ms:5000}")
+    public void refreshIfDue() {
+    	Snapshot current = snapshot.get();
+    	boolean expired = current == null || Duration.between(current.takenAt(), Instant.now()).toMillis() >= maxAgeMs;
+    	if(stale.get() || expired) {
+    		try {
+    			refreshSnapshot();
+			} catch (Exception e) {
+				log.warn("Dashboard snapshot refresh failed, keeping the previous one: {}", e.getMessage());
+			}
+    	}
+    }
+    
+    /**
+     * Reloads the snapshot. Callers arriving while a reload is running wait for
+     * that reload instead of starting their own.
+     * @return The freshly loaded metrics
+     */
+    public DashboardMetricsDTO refreshSnapshot() {
+    	CompletableFuture<DashboardMetricsDTO> flight = new CompletableFuture<>();
+    	CompletableFuture<DashboardMetricsDTO> running = inFlight.compareAndExchange(null, flight);
+    	if(running != null) {
+    		return running.join();
+    	}
     	
+    	try {
+    		stale.set(false);
+    		DashboardMetricsDTO metrics = loadDashboardMetrics();
+    		snapshot.set(new Snapshot(metrics, Instant.now()));
+    		flight.complete(metrics);
+    		return metrics;
+		} catch (RuntimeException e) {
+			stale.set(true);
+			flight.completeExceptionally(e);
+			throw e;
+		} finally {
+			inFlight.set(null);
+		}
+    }
+    
+    private double getSnapshotAgeSeconds() {
+    	Snapshot current = snapshot.get();
+    	return current == null ? Double.NaN : Duration.between(current.takenAt(), Instant.now()).toMillis() / 1000.0;
+    }
+    
+    private DashboardMetricsDTO loadDashboardMetrics() {
+    	try {
+    		Map<String, Long> projectCounts = projectRepository.getProjectTypeAggregates();
+    		return buildDashboardMetrics(projectCounts);
+    	} catch (DataAccessException e) {
+    		log.error("Database error while fetching dashboard metrics: {}", e.getMessage());
+    		throw e;
+    	}
+    }
+    
+    private DashboardMetricsDTO buildDashboardMetrics(Map<String, Long> projectCounts) {
+    	return DashboardMetricsDTO.builder().totalProjects(getSafeLongValue(projectCounts, TOTAL_PROJECTS_KEY))
+                .totalPublications(getSafeLongValue(projectCounts, TOTAL_PUBLICATIONS_KEY))
+                .totalPatents(getSafeLongValue(projectCounts, TOTAL_PATENTS_KEY))
+                .totalResearch(getSafeLongValue(projectCounts, TOTAL_RESEARCH_KEY))
+                .totalUsers(userRepository.count())
+                .build();
     }
     
     private DashboardMetricsDTO buildDefaultDashboardMetrics() {
@@ -65,4 +165,7 @@ public class DashboardService {
     private Long getSafeLongValue(Map<String, Long> map, String key) {
         return map != null ? map.getOrDefault(key, 0L) : 0L;
     }
+    
+    private record Snapshot(DashboardMetricsDTO metrics, Instant takenAt) {
+    }
 }
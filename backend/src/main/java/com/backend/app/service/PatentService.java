@@ -2,6 +2,7 @@ package com.backend.app.service;
 import java.util.ArrayList;
 import java.util.Iterator;
 import java.util.List;
+import java.util.Map;
 import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
@@ -10,11 +11,12 @@ import java.util.stream.Collectors;
 
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import com.backend.app.dto.create.CreatePatentRequest;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.model.Patent;
 import com.backend.app.model.PatentCoInventor;
 import com.backend.app.model.Project;
@@ -36,6 +38,8 @@ public class PatentService {
 	private final PatentRepository patentRepository;
 	private final ProjectRepository projectRepository;
 	private final UserRepository userRepository;
+	private final UserCounterService userCounterService;
+	private final ReferenceResolver referenceResolver;
 	
 	public List<Patent> findAllPatents(){
 		return patentRepository.findAll();
@@ -56,6 +60,8 @@ public class PatentService {
 	@Transactional
     public Optional<Patent> updatePatent(UUID id, Patent newPatent) {
         return patentRepository.findByIdWithCoInventors(id).map(existing -> {
+        	
+        Set<Long> originalMembers = UserCounterService.membersOf(existing);
             
         if(!existing.getProject().getId().equals(newPatent.getProject().getId())) {
         	throw new IllegalStateException("Changing project association is not allowed through this endpoint");
@@ -64,6 +70,9 @@ public class PatentService {
         updatePatentFields(existing, newPatent);
         
         updateCoInventors(existing, newPatent);
+        
+        userCounterService.applyMembershipChange(UserCounter.PATENTS, originalMembers,
+        		UserCounterService.membersOf(existing));
             
             // Save and return the updated patent
             return patentRepository.save(existing);
@@ -75,9 +84,11 @@ public class PatentService {
 		Project project = projectRepository.findById(request.getProjectId())
 				.orElseThrow(() -> new ResourceNotFoundException
 						("Project not found with ID: " + request.getProjectId()));
-		User primaryAuthor = userRepository.findById(request.getPrimaryAuthorId())
-				.orElseThrow(() -> new ResourceNotFoundException
-						("Primary author not found with ID: " + request.getPrimaryAuthorId()));;
+		List<Long> coInventorIds = request.getCoInventorIds() != null ? request.getCoInventorIds() : List.of();
+		List<Long> referencedIds = new ArrayList<>(coInventorIds);
+		referencedIds.add(request.getPrimaryAuthorId());
+		Map<Long, User> users = referenceResolver.resolveUsers(referencedIds);
+		User primaryAuthor = users.get(request.getPrimaryAuthorId());
 		Patent patent = Patent.builder().project(project)
 				.primaryAuthor(primaryAuthor)
 				.registrationNumber(request.getRegistrationNumber())
@@ -88,39 +99,16 @@ public class PatentService {
 		
 		
 		
-		if(request.getCoInventorIds() != null) {
-			
-			request.getCoInventorIds().forEach(coInventorId -> {
-				User coInventor = userRepository.findById(coInventorId)   .orElseThrow(() -> new ResourceNotFoundException("Co-inventor not found with ID: " + coInventorId));
-				
-				PatentCoInventor patentCoInventor = new PatentCoInventor();
-				patentCoInventor.setPatent(patent);
-				patentCoInventor.setUser(coInventor);
-				patent.addCoInventor(patentCoInventor);
-			});
-		}
+		coInventorIds.stream().filter(Objects::nonNull).distinct().forEach(coInventorId -> {
+			PatentCoInventor patentCoInventor = new PatentCoInventor();
+			patentCoInventor.setPatent(patent);
+			patentCoInventor.setUser(users.get(coInventorId));
+			patent.addCoInventor(patentCoInventor);
+		});
 		
-		return patentRepository.save(patent);
-	}
-	
-	public List<UUID> findProjectsByFilters(String registrationNumber, String issuingAuthority) {
-	    Specification<Patent> spec = Specification.where(null);
-	    
-	    if (registrationNumber != null && !registrationNumber.isEmpty()) {
-	        spec = spec.and((root, query, cb) -> 
-	            cb.like(cb.lower(root.get("registrationNumber")), "%" + registrationNumber.toLowerCase() + "%"));
-	    }
-	    
-	    if (issuingAuthority != null && !issuingAuthority.isEmpty()) {
-	        spec = spec.and((root, query, cb) -> 
-	            cb.like(cb.lower(root.get("issuingAuthority")), "%" + issuingAuthority.toLowerCase() + "%"));
-	    }
-	    
-	    return patentRepository.findAll(spec)
-	        .stream()
-	        .map(p -> p.getProject().getId())
-	        .distinct()
-	        .collect(Collectors.toList());
+		Patent savedPatent = patentRepository.save(patent);
+		userCounterService.applyMembershipChange(UserCounter.PATENTS, Set.of(), UserCounterService.membersOf(savedPatent));
+		return savedPatent;
 	}
 	
 	public Patent savePatent(Patent patent) {
@@ -168,12 +156,11 @@ public class PatentService {
 
        toRemove.forEach(existingPatent::removeCoInventor);
        
+       // Fails with the full list of unknown users before anything is added
+       referenceResolver.resolveUsers(newCoInventorIds);
+       
        newPatent.getCoInventors().forEach(newCoInventor -> {
     	   Long userId = newCoInventor.getUser().getId();
-    	   if (!userRepository.existsById(userId)) {
-    	        throw new ResourceNotFoundException("User not found with ID: " + userId);
-    	    }
-    	   
     	   boolean exists = existingPatent.getCoInventors().stream().anyMatch(ci -> ci.getUser().getId().equals(userId));
     	   
     	   if(!exists) {
@@ -194,9 +181,7 @@ public class PatentService {
 	            return;
 	        }
 
-	      for(Long coInventorId: coInventorIds) {
-	    	  User user = userRepository.findById(coInventorId) .orElseThrow(() -> new RuntimeException("User not found with ID: " + coInventorId));
-	    	  
+	      for(User user: referenceResolver.resolveUsers(coInventorIds).values()) {
 	    	  PatentCoInventor coInventor = new PatentCoInventor();
 	    	  coInventor.setPatent(patent);
 	    	  coInventor.setUser(user);
@@ -206,6 +191,8 @@ public class PatentService {
 	    }
 	
 	public void deletePatent(UUID id) {
+		patentRepository.findByIdWithCoInventors(id).ifPresent(patent ->
+				userCounterService.applyMembershipChange(UserCounter.PATENTS, UserCounterService.membersOf(patent), Set.of()));
 		patentRepository.deleteById(id);
 	}
 }
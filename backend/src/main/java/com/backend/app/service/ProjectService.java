@@ -1,11 +1,16 @@
 package com.backend.app.service;
 
+import java.util.Collections;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
+import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
@@ -13,12 +18,14 @@ import org.springframework.data.domain.Sort;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.miscellaneous.ProjectSearchCriteria;
 import com.backend.app.dto.miscellaneous.ProjectWithDetailsDTO;
 import com.backend.app.dto.model.PatentDTO;
 import com.backend.app.dto.model.ProjectDTO;
 import com.backend.app.dto.model.PublicationDTO;
 import com.backend.app.dto.model.ResearchDTO;
+import com.backend.app.enums.ProjectType;
 import com.backend.app.mapper.PatentMapper;
 import com.backend.app.mapper.ProjectMapper;
 import com.backend.app.mapper.PublicationMapper;
@@ -34,6 +41,8 @@ import com.backend.app.repository.PublicationRepository;
 import com.backend.app.repository.ResearchRepository;
 import com.backend.app.repository.TagRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+import com.backend.app.util.KeysetCursor;
 
 import io.jsonwebtoken.lang.Assert;
 import jakarta.persistence.EntityManager;
@@ -64,6 +73,9 @@ public class ProjectService {
 	private final ProjectSpecificationService specificationService;
 	private final ProjectMapper projectMapper;
 	private final UserRepository userRepository;
+	private final AnalyticsRollupService analyticsRollupService;
+	private final DashboardService dashboardService;
+	private final UserCounterService userCounterService;
 
 	@PersistenceContext
 	private EntityManager entityManager;
@@ -81,6 +93,24 @@ public class ProjectService {
 				Sort.by(Sort.Direction.DESC, "createdAt")));
 	}
 	
+	/**
+	 * Lists projects newest first using keyset pagination on (createdAt, id),
+	 * so deep chunks cost the same as the first one and no count is run.
+	 * 
+	 * @param cursor Opaque cursor from the previous chunk, or null for the first one
+	 * @param size Maximum number of projects in the chunk
+	 * @return The chunk of projects and the cursor for the next one
+	 */
+	public KeysetPage<Project> findProjectsChunk(String cursor, int size) {
+		Assert.isTrue(size > 0, "Size must be positive");
+		KeysetCursor position = KeysetCursor.decode(cursor);
+		Limit limit = Limit.of(size + 1);
+		List<Project> projects = position == null
+				? projectRepository.findNewestWithCreator(limit)
+				: projectRepository.findNewestWithCreatorBefore(position.getCreatedAt(), position.uuidId(), limit);
+		return KeysetPage.of(projects, size, project -> KeysetCursor.encode(project.getCreatedAt(), project.getId()));
+	}
+	
 	public List<Project> findAllProjects() {
         return projectRepository.findAll(Sort.by(Sort.Direction.DESC, "createdAt"));
     }
@@ -106,7 +136,13 @@ public class ProjectService {
 	 */
 	public Page<Project> searchProjects(ProjectSearchCriteria criteria, Pageable pageable) {
 		Specification<Project> spec = specificationService.buildSpecification(criteria);
-		return projectRepository.findAll(spec, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), Sort.by(Sort.Direction.DESC, "createdAt")));
+		// Text searches are ordered by relevance inside the specification
+		Sort sort = hasSearchTerm(criteria) ? Sort.unsorted() : Sort.by(Sort.Direction.DESC, "createdAt");
+		return projectRepository.findAll(spec, PageRequest.of(pageable.getPageNumber(), pageable.getPageSize(), sort));
+	}
+	
+	private boolean hasSearchTerm(ProjectSearchCriteria criteria) {
+		return criteria.getSearch() != null && !criteria.getSearch().isBlank();
 	}
 	
 	public Page<Project> searchUserProjects(Long userId, ProjectSearchCriteria criteria, Pageable pageable) {
@@ -160,37 +196,40 @@ public class ProjectService {
         );
 	}
 	
+	/**
+	 * Retrieves a page of projects together with their type-specific details.
+	 * Details are loaded in bulk for the whole page (one query per subtype)
+	 * rather than per project, so the number of queries does not depend on
+	 * the page size.
+	 * 
+	 * @param pageable Pagination configuration
+	 * @return Page of projects with their publication, patent or research details
+	 */
+	@Transactional
 	public Page<ProjectWithDetailsDTO<?>> findAllProjectsWithDetails(Pageable pageable) {
 		Page<Project> projects = projectRepository.findAllWithDetails(pageable);
 		
-		return projects.map(project ->{
+		Set<UUID> projectIds = projects.stream().map(Project::getId).collect(Collectors.toSet());
+		if (!projectIds.isEmpty()) {
+			projectRepository.findAllWithTagsByIdIn(projectIds);
+		}
+		
+		Map<UUID, PublicationDTO> publications = loadPublicationDetails(projects.getContent());
+		Map<UUID, PatentDTO> patents = loadPatentDetails(projects.getContent());
+		Map<UUID, ResearchDTO> research = loadResearchDetails(projects.getContent());
+		
+		return projects.map(project -> {
 			ProjectDTO projectDTO = projectMapper.toDTO(project);
 			
 			switch (project.getType()) {
-			case PUBLICATION: 
-				
-				PublicationDTO pubDto = publicationRepository.findByProjectId(project.getId())
-						.stream().findFirst().map(publicationMapper::toDTO).orElse(null);
-				return new ProjectWithDetailsDTO<PublicationDTO>(projectDTO, pubDto);
-				
+			case PUBLICATION:
+				return new ProjectWithDetailsDTO<PublicationDTO>(projectDTO, publications.get(project.getId()));
 			case PATENT:
-                PatentDTO patentDto = patentRepository.findByProjectId(project.getId())
-                    .stream()
-                    .findFirst()
-                    .map(patentMapper::toDTO)
-                    .orElse(null);
-                return new ProjectWithDetailsDTO<PatentDTO>(projectDTO, patentDto);
-                
-            case RESEARCH:
-                ResearchDTO researchDto = researchRepository.findByProjectId(project.getId())
-                    .stream()
-                    .findFirst()
-                    .map(researchMapper::toDTO)
-                    .orElse(null);
-                return new ProjectWithDetailsDTO<ResearchDTO>(projectDTO, researchDto);
-                
-            default:
-                return new ProjectWithDetailsDTO<>(projectDTO, null);
+				return new ProjectWithDetailsDTO<PatentDTO>(projectDTO, patents.get(project.getId()));
+			case RESEARCH:
+				return new ProjectWithDetailsDTO<ResearchDTO>(projectDTO, research.get(project.getId()));
+			default:
+				return new ProjectWithDetailsDTO<>(projectDTO, null);
 			}
 		});
 	}
@@ -218,7 +257,10 @@ public class ProjectService {
 		validateProjectType(project);
 		setProjectTags(project, projectDTO.getTagIds());
 
-		return projectRepository.save(project);
+		Project saved = projectRepository.save(project);
+		analyticsRollupService.recordProjectCreated(project.getType());
+		dashboardService.markStale();
+		return saved;
 	}
 
 	// ========== UPDATE OPERATIONS ========== //
@@ -263,7 +305,10 @@ public class ProjectService {
 		Project project = projectRepository.findById(id)
 				.orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
 		deleteAssociatedFiles(project.getId());
+		userCounterService.recordProjectRemoved(project);
 		projectRepository.delete(project);
+		analyticsRollupService.recordProjectRemoved(project.getType(), project.getCreatedAt());
+		dashboardService.markStale();
 	}
 
 	// ========== HELPER FUNCTIONS ========== //
@@ -296,6 +341,46 @@ public class ProjectService {
 		project.setTags(newTags);
 	}
 
+	private Set<UUID> projectIdsOfType(List<Project> projects, ProjectType type) {
+		return projects.stream()
+				.filter(project -> project.getType() == type)
+				.map(Project::getId)
+				.collect(Collectors.toSet());
+	}
+
+	private Map<UUID, PublicationDTO> loadPublicationDetails(List<Project> projects) {
+		Set<UUID> ids = projectIdsOfType(projects, ProjectType.PUBLICATION);
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<UUID, PublicationDTO> details = new HashMap<>();
+		publicationRepository.findAllByProjectIdInWithAuthors(ids)
+				.forEach(publication -> details.putIfAbsent(publication.getProject().getId(), publicationMapper.toDTOWithFetchedAuthors(publication)));
+		return details;
+	}
+
+	private Map<UUID, PatentDTO> loadPatentDetails(List<Project> projects) {
+		Set<UUID> ids = projectIdsOfType(projects, ProjectType.PATENT);
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<UUID, PatentDTO> details = new HashMap<>();
+		patentRepository.findAllByProjectIdInWithCoInventors(ids)
+				.forEach(patent -> details.putIfAbsent(patent.getProject().getId(), patentMapper.toDTO(patent)));
+		return details;
+	}
+
+	private Map<UUID, ResearchDTO> loadResearchDetails(List<Project> projects) {
+		Set<UUID> ids = projectIdsOfType(projects, ProjectType.RESEARCH);
+		if (ids.isEmpty()) {
+			return Collections.emptyMap();
+		}
+		Map<UUID, ResearchDTO> details = new HashMap<>();
+		researchRepository.findAllByProjectIdInWithParticipants(ids)
+				.forEach(research -> details.putIfAbsent(research.getProject().getId(), researchMapper.toDTO(research)));
+		return details;
+	}
+
 	private void deleteAssociatedFiles(UUID projectId) {
 		List<FileMetadata> files = fileMetadataRepository.findByEntityId(projectId);
 
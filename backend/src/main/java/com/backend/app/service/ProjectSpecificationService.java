@@ -5,15 +5,22 @@ import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.UUID;
 
+import org.hibernate.query.criteria.HibernateCriteriaBuilder;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
+import com.backend.app.config.SearchFunctionContributor;
 import com.backend.app.dto.miscellaneous.ProjectSearchCriteria;
 import com.backend.app.enums.ProjectType;
+import com.backend.app.model.Patent;
 import com.backend.app.model.Project;
+import com.backend.app.model.ProjectSearchDocument;
+import com.backend.app.model.Publication;
+import com.backend.app.model.Research;
 import com.backend.app.model.Tag;
 import com.backend.app.repository.TagRepository;
 
@@ -26,9 +33,7 @@ import jakarta.persistence.criteria.*;
 @Service
 @RequiredArgsConstructor
 public class ProjectSpecificationService {
-	private final PublicationService publicationService;
-	private final PatentService patentService;
-	private final ResearchService researchService;	
+	private static final char LIKE_ESCAPE = '\\';
 	
 	public Specification<Project> buildSpecification(ProjectSearchCriteria criteria) {
 		return Specification.where(withSearchQuery(criteria.getSearch()))
@@ -41,11 +46,43 @@ public class ProjectSpecificationService {
                 .and(withPatentFilters(criteria.getRegistrationNumber(), criteria.getIssuingAuthority()));
 	}
 	
+	/**
+	 * Matches projects whose search document (title, description and tag names)
+	 * satisfies the full-text query, falling back to trigram matching for
+	 * partial words and typos. Result queries are ordered by relevance first.
+	 * The search term is bound as a parameter rather than inlined, so every
+	 * search shares the same SQL text and cached statement.
+	 */
 	private Specification<Project> withSearchQuery(String search) {
-		return (root, query, cb) -> search == null || search.isEmpty() ? cb.conjunction() : cb.or(
-                cb.like(cb.lower(root.get("title")), "%" + search.toLowerCase() + "%"),
-                cb.like(cb.lower(root.get("description")), "%" + search.toLowerCase() + "%")
-            );
+		return (root, query, cb) -> {
+			if (search == null || search.isBlank()) {
+				return cb.conjunction();
+			}
+			HibernateCriteriaBuilder hcb = (HibernateCriteriaBuilder) cb;
+			String term = search.trim();
+			String normalized = term.toLowerCase(Locale.ROOT);
+			
+			Subquery<UUID> matches = query.subquery(UUID.class);
+			Root<ProjectSearchDocument> document = matches.from(ProjectSearchDocument.class);
+			matches.select(document.get("projectId")).where(
+					cb.equal(document.get("projectId"), root.get("id")),
+					cb.or(
+							cb.isTrue(cb.function(SearchFunctionContributor.FTS_MATCH, Boolean.class,
+									document.get("document"), hcb.value(term))),
+							cb.isTrue(cb.function(SearchFunctionContributor.TRGM_MATCH, Boolean.class,
+									document.get("searchText"), hcb.value(normalized),
+									hcb.value("%" + escapeLike(normalized) + "%")))));
+			
+			if (!isCountQuery(query)) {
+				Subquery<Double> rank = query.subquery(Double.class);
+				Root<ProjectSearchDocument> ranked = rank.from(ProjectSearchDocument.class);
+				rank.select(cb.function(SearchFunctionContributor.SEARCH_RANK, Double.class,
+						ranked.get("document"), hcb.value(term), ranked.get("searchText")))
+					.where(cb.equal(ranked.get("projectId"), root.get("id")));
+				query.orderBy(cb.desc(rank), cb.desc(root.get("createdAt")));
+			}
+			return cb.exists(matches);
+		};
 	}
 	
 	private Specification<Project> withTypes(List<ProjectType> types) {
@@ -99,10 +136,18 @@ public class ProjectSpecificationService {
 	                return cb.conjunction();
 	            }
 	            
-	            List<UUID> matchingProjectIds = publicationService.findProjectsByFilters(source, doiIsbn);
+	            Subquery<Integer> subquery = query.subquery(Integer.class);
+	            Root<Publication> publication = subquery.from(Publication.class);
+	            List<Predicate> predicates = new ArrayList<>();
+	            predicates.add(cb.equal(publication.get("project"), root));
+	            if (!isNullOrEmpty(source)) {
+	            	predicates.add(containsIgnoreCase(cb, publication.get("publicationSource"), source));
+	            }
+	            if (!isNullOrEmpty(doiIsbn)) {
+	            	predicates.add(containsIgnoreCase(cb, publication.get("doiIsbn"), doiIsbn));
+	            }
 	            
-	            return getProjectIdSpecification(cb, root, matchingProjectIds);
-
+	            return cb.exists(subquery.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new)));
 	        };
 	    }
 	 
@@ -112,9 +157,21 @@ public class ProjectSpecificationService {
 	                return cb.conjunction();
 	            }
 	            
-	            List<UUID> matchingProjectIds = researchService.findProjectsByFilters(minBudget, maxBudget, fundingSource);
+	            Subquery<Integer> subquery = query.subquery(Integer.class);
+	            Root<Research> research = subquery.from(Research.class);
+	            List<Predicate> predicates = new ArrayList<>();
+	            predicates.add(cb.equal(research.get("project"), root));
+	            if (minBudget != null) {
+	            	predicates.add(cb.greaterThanOrEqualTo(research.get("budget"), minBudget));
+	            }
+	            if (maxBudget != null) {
+	            	predicates.add(cb.lessThanOrEqualTo(research.get("budget"), maxBudget));
+	            }
+	            if (!isNullOrEmpty(fundingSource)) {
+	            	predicates.add(containsIgnoreCase(cb, research.get("fundingSource"), fundingSource));
+	            }
 	            
-	            return getProjectIdSpecification(cb, root, matchingProjectIds);
+	            return cb.exists(subquery.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new)));
 	        };
 	    }
 	 
@@ -124,16 +181,34 @@ public class ProjectSpecificationService {
 	                return cb.conjunction();
 	            }
 	            
-	            List<UUID> matchingProjectIds = patentService.findProjectsByFilters(registrationNumber, issuingAuthority);
+	            Subquery<Integer> subquery = query.subquery(Integer.class);
+	            Root<Patent> patent = subquery.from(Patent.class);
+	            List<Predicate> predicates = new ArrayList<>();
+	            predicates.add(cb.equal(patent.get("project"), root));
+	            if (!isNullOrEmpty(registrationNumber)) {
+	            	predicates.add(containsIgnoreCase(cb, patent.get("registrationNumber"), registrationNumber));
+	            }
+	            if (!isNullOrEmpty(issuingAuthority)) {
+	            	predicates.add(containsIgnoreCase(cb, patent.get("issuingAuthority"), issuingAuthority));
+	            }
 	            
-	            return getProjectIdSpecification(cb, root, matchingProjectIds);
-
+	            return cb.exists(subquery.select(cb.literal(1)).where(predicates.toArray(Predicate[]::new)));
 	        };
 	    }
 	 
-	 private Predicate getProjectIdSpecification(CriteriaBuilder cb, Root<Project> root, List<UUID> projectIds) {
-		 return projectIds.isEmpty() ? cb.disjunction() : root.get("id").in(projectIds);
+	 private Predicate containsIgnoreCase(CriteriaBuilder cb, Path<String> path, String value) {
+		 return cb.like(cb.lower(path), "%" + escapeLike(value.toLowerCase(Locale.ROOT)) + "%", LIKE_ESCAPE);
 	 }
+	 
+	 private boolean isCountQuery(CriteriaQuery<?> query) {
+		 return Long.class.equals(query.getResultType()) || long.class.equals(query.getResultType());
+	 }
+	 
+	 private String escapeLike(String value) {
+		 String escape = String.valueOf(LIKE_ESCAPE);
+		 return value.replace(escape, escape + escape).replace("%", escape + "%").replace("_", escape + "_");
+	 }
+	 
 	 private boolean isNullOrEmpty(String value) {
 		 return value == null || value.isEmpty();
 	 }
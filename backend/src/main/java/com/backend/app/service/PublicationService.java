@@ -13,7 +13,6 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Propagation;
@@ -24,8 +23,10 @@ import com.backend.app.dto.miscellaneous.ProjectWithDetailsDTO;
 import com.backend.app.dto.miscellaneous.ResponseUserDTO;
 import com.backend.app.dto.model.ProjectDTO;
 import com.backend.app.dto.model.PublicationDTO;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.mapper.PublicationMapper;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.model.Project;
 import com.backend.app.model.Publication;
 import com.backend.app.model.PublicationAuthor;
@@ -49,6 +50,8 @@ public class PublicationService {
 	private final UserRepository userRepository;
 	private final PublicationAuthorRepository publicationAuthorRepository;
 	private final PublicationMapper publicationMapper;
+	private final UserCounterService userCounterService;
+	private final ReferenceResolver referenceResolver;
 
 	@PersistenceContext
 	private final EntityManager entityManager;
@@ -90,6 +93,8 @@ public class PublicationService {
 
 			if (request.getAuthors() != null && !request.getAuthors().isEmpty()) {
 				addAuthorsToPublication(savedPublication, request.getAuthors());
+				userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, List.of(),
+						UserCounterService.membersOf(savedPublication));
 			}
 
 			return savedPublication;
@@ -156,6 +161,8 @@ public class PublicationService {
 	            
 	            publicationAuthorRepository.saveAll(newAuthors);
 	        }
+	        
+	        userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, authorsToRemove, authorsToAdd);
 	    } catch (Exception e) {
 	        log.error("Failed to update authors for publication {}", publicationId, e);
 	        throw e;
@@ -172,7 +179,9 @@ public class PublicationService {
 		}
 
 		PublicationAuthor publicationAuthor = new PublicationAuthor(publication, user);
-		return publicationAuthorRepository.save(publicationAuthor);
+		PublicationAuthor saved = publicationAuthorRepository.save(publicationAuthor);
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, List.of(), List.of(userId));
+		return saved;
 	}
 
 	@Transactional
@@ -184,6 +193,7 @@ public class PublicationService {
 				.orElseThrow(() -> new ResourceNotFoundException("This user is not an author of the publication"));
 
 		publicationAuthorRepository.delete(publicationAuthor);
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, List.of(userId), List.of());
 	}
 
 	@Transactional
@@ -203,14 +213,15 @@ public class PublicationService {
 		}
 		publication.getPublicationAuthors().clear();
 
-		if (newAuthorIds != null) {
-			newAuthorIds.forEach(userId -> {
-				User user = getUserById(userId);
-				PublicationAuthor author = new PublicationAuthor(publication, user);
-				publicationAuthorRepository.save(author);
-				publication.addPublicationAuthor(author);
-			});
-		}
+		referenceResolver.resolveUsers(newAuthorIds).values().forEach(user -> {
+			PublicationAuthor author = new PublicationAuthor(publication, user);
+			publicationAuthorRepository.save(author);
+			publication.addPublicationAuthor(author);
+		});
+		
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS,
+				currentAuthors.stream().map(author -> author.getUser().getId()).toList(),
+				newAuthorIds != null ? newAuthorIds : List.of());
 	}
 
 	public Publication savePublication(Publication publication) {
@@ -219,7 +230,9 @@ public class PublicationService {
 
 	@Transactional
 	public void deleteProject(UUID id) {
+		List<Long> authorIds = publicationAuthorRepository.findUserIdsByPublicationId(id);
 		publicationRepository.deleteById(id);
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, authorIds, List.of());
 	}
 
 	public List<ResponseUserDTO> getPublicationAuthorsInfo(UUID publicationId) {
@@ -227,33 +240,14 @@ public class PublicationService {
 		return publicationAuthorRepository.getAuthorsInfoByPublication(publication);
 	}
 
-	public List<UUID> findProjectsByFilters(String source, String doiIsbn) {
-		Specification<Publication> spec = Specification.where(null);
-
-		if (source != null && !source.isEmpty()) {
-			spec = spec.and((root, query, cb) -> cb.like(cb.lower(root.get("publicationSource")),
-					"%" + source.toLowerCase() + "%"));
-		}
-
-		if (doiIsbn != null && !doiIsbn.isEmpty()) {
-			spec = spec.and(
-					(root, query, cb) -> cb.like(cb.lower(root.get("doiIsbn")), "%" + doiIsbn.toLowerCase() + "%"));
-		}
-
-		return publicationRepository.findAll(spec).stream().map(p -> p.getProject().getId()).distinct()
-				.collect(Collectors.toList());
-	}
-
 	private User getUserById(Long id) {
 		return userRepository.findById(id)
 				.orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
 	}
 
 	private void addAuthorsToPublication(Publication publication, List<Long> authorIds) {
-		authorIds.forEach(userId -> {
-			User user = getUserById(userId);
-			publication.addPublicationAuthor(new PublicationAuthor(publication, user));
-		});
+		referenceResolver.resolveUsers(authorIds).values()
+				.forEach(user -> publication.addPublicationAuthor(new PublicationAuthor(publication, user)));
 	}
 
 	@Transactional
@@ -263,6 +257,7 @@ public class PublicationService {
 		}
 
 		List<PublicationAuthor> currentAuthors = new ArrayList<PublicationAuthor>(publication.getPublicationAuthors());
+		Set<Long> originalAuthorIds = UserCounterService.membersOf(publication);
 
 		for (PublicationAuthor author : currentAuthors) {
 			if (!newAuthorIds.contains(author.getUser().getId())) {
@@ -274,14 +269,14 @@ public class PublicationService {
 		Set<Long> currentAuthorIds = publication.getPublicationAuthors().stream().map(pa -> pa.getUser().getId())
 				.collect(Collectors.toSet());
 
-		for (Long userId : newAuthorIds) {
-			if (!currentAuthorIds.contains(userId)) {
-				User user = getUserById(userId);
-				PublicationAuthor author = new PublicationAuthor(publication, user);
-				publicationAuthorRepository.save(author);
-				publication.addPublicationAuthor(author);
-			}
-		}
+		List<Long> addedAuthorIds = newAuthorIds.stream().filter(userId -> !currentAuthorIds.contains(userId)).toList();
+		referenceResolver.resolveUsers(addedAuthorIds).values().forEach(user -> {
+			PublicationAuthor author = new PublicationAuthor(publication, user);
+			publicationAuthorRepository.save(author);
+			publication.addPublicationAuthor(author);
+		});
+		
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, originalAuthorIds, UserCounterService.membersOf(publication));
 	}
 
 	private Publication getPublicationById(UUID id) {
@@ -1,10 +1,8 @@
 package com.backend.app.service;
 
-import java.math.BigDecimal;
 import java.util.Collections;
 import java.util.Iterator;
 import java.util.List;
-import java.util.Objects;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -13,18 +11,18 @@ import java.util.stream.Collectors;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
-import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
 
 import com.backend.app.dto.create.CreateResearchRequest;
 import com.backend.app.dto.model.ResearchDTO;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.mapper.ResearchMapper;
 import com.backend.app.model.Patent;
 import com.backend.app.model.Project;
 import com.backend.app.model.Research;
 import com.backend.app.model.ResearchParticipant;
-import com.backend.app.model.User;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.ResearchRepository;
 import com.backend.app.repository.UserRepository;
@@ -43,6 +41,8 @@ public class ResearchService {
 	private final ProjectRepository projectRepository;
 	private final UserRepository userRepository;
 	private final ResearchMapper researchMapper;
+	private final UserCounterService userCounterService;
+	private final ReferenceResolver referenceResolver;
 	
 	 @PersistenceContext
 		private final EntityManager entityManager;
@@ -78,16 +78,21 @@ public class ResearchService {
                 .build();
 		
 		addParticipantsToResearch(research, request.getParticipantIds());
-		return researchRepository.save(research);
+		Research savedResearch = researchRepository.save(research);
+		userCounterService.applyMembershipChange(UserCounter.RESEARCH, Set.of(), UserCounterService.membersOf(savedResearch));
+		return savedResearch;
 	}
 	
 	@Transactional 
 	public ResearchDTO updateResearch(UUID id, ResearchDTO researchDTO) {
 		 return researchRepository.findById(id).map(existingResearch -> {
 			 	Research researchUpdate = researchMapper.toEntity(researchDTO);
+			 	Set<Long> originalParticipants = UserCounterService.membersOf(existingResearch);
 	            updateResearchDetails(existingResearch, researchUpdate);
 	            
 	            updateResearchParticipantsByIds(existingResearch, researchDTO.getParticipantIds());
+	            userCounterService.applyMembershipChange(UserCounter.RESEARCH, originalParticipants,
+	            		UserCounterService.membersOf(existingResearch));
 	            
 	            Research updateResearch = researchRepository.save(existingResearch);
 	            return researchMapper.toDTO(updateResearch);
@@ -100,47 +105,16 @@ public class ResearchService {
 	
 	@Transactional
 	public void deleteResearch(UUID id) {
-		if(!researchRepository.existsById(id)) {
-			throw new ResourceNotFoundException("Research not found with ID: " + id);
-		}
+		Research research = researchRepository.findById(id)
+				.orElseThrow(() -> new ResourceNotFoundException("Research not found with ID: " + id));
+		Set<Long> participants = UserCounterService.membersOf(research);
 		researchRepository.deleteById(id);
+		userCounterService.applyMembershipChange(UserCounter.RESEARCH, participants, Set.of());
 	}
 	
-	public List<UUID> findProjectsByFilters(BigDecimal minBudget, BigDecimal maxBudget, String fundingSource) {
-	    Specification<Research> spec = buildSearchSpecification(minBudget, maxBudget, fundingSource);
-	    
-	    return researchRepository.findAll(spec)
-	        .stream()
-	        .map(r -> r.getProject().getId())
-	        .distinct()
-	        .collect(Collectors.toList());
-	}
-	
-	 private Specification<Research> buildSearchSpecification(BigDecimal minBudget, BigDecimal maxBudget, String fundingSource) {
-		 Specification<Research> spec = Specification.where(null);
-		 
-		 if (minBudget != null) {
-		        spec = spec.and((root, query, cb) -> 
-		            cb.greaterThanOrEqualTo(root.get("budget"), minBudget));
-		    }
-		    
-		    if (maxBudget != null) {
-		        spec = spec.and((root, query, cb) -> 
-		            cb.lessThanOrEqualTo(root.get("budget"), maxBudget));
-		    }
-		    
-		    if (fundingSource != null && !fundingSource.isEmpty()) {
-		        spec = spec.and((root, query, cb) -> 
-		            cb.like(cb.lower(root.get("fundingSource")), 
-		                "%" + fundingSource.toLowerCase() + "%"));
-		    }
-		    
-		    return spec;
-	    }
-	
 	private void addParticipantsToResearch(Research research, List<Long> participantIds) {
-		Optional.ofNullable(participantIds).ifPresent(ids ->
-		ids.stream().filter(Objects::nonNull).map(userRepository::findById).filter(Optional::isPresent).map(Optional::get).forEach(user -> research.addParticipant(new ResearchParticipant(research, user))));
+		referenceResolver.resolveUsers(participantIds).values()
+				.forEach(user -> research.addParticipant(new ResearchParticipant(research, user)));
 	}
 	
 	private void updateResearchDetails(Research existing, Research update) {
@@ -171,10 +145,9 @@ public class ResearchService {
 			participantIds = Collections.emptyList();
 		}
 		
-		participantIds.stream().filter(Objects::nonNull).filter(id -> !existingUserIds.contains(id)).forEach(id -> {
-			User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + id));
-			research.addParticipant(new ResearchParticipant(research, user));
-		});
+		List<Long> addedIds = participantIds.stream().filter(id -> !existingUserIds.contains(id)).toList();
+		referenceResolver.resolveUsers(addedIds).values()
+				.forEach(user -> research.addParticipant(new ResearchParticipant(research, user)));
 		
 		Iterator<ResearchParticipant> iterator = currentParticipants.iterator();
 		while(iterator.hasNext()) {
@@ -1,7 +1,14 @@
 package com.backend.app.service;
 
+import java.io.ByteArrayInputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HexFormat;
 import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
@@ -9,11 +16,11 @@ import java.util.stream.Collectors;
 
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.stereotype.Service;
-import org.springframework.util.DigestUtils;
 import org.springframework.web.multipart.MultipartFile;
 
 import com.backend.app.dto.model.FileMetadataDTO;
 import com.backend.app.enums.ProjectType;
+import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.model.FileMetadata;
 import com.backend.app.repository.FileMetadataRepository;
 
@@ -22,15 +29,26 @@ import lombok.extern.slf4j.Slf4j;
 import software.amazon.awssdk.core.ResponseInputStream;
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompletedMultipartUpload;
+import software.amazon.awssdk.services.s3.model.CompletedPart;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectRequest;
 import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+import software.amazon.awssdk.services.s3.model.NoSuchKeyException;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
 
 @Slf4j
 @Service
 @RequiredArgsConstructor
 public class S3Service {
+	/** Prefix of the temporary keys large uploads are streamed to before their checksum is known. */
+	private static final String STAGING_PREFIX = "staging/";
+	
 	private final S3Client s3Client;
     private final FileMetadataRepository fileMetadataRepository;
 
@@ -41,6 +59,14 @@ public class S3Service {
 	@Value("${aws.region}")
 	private String region;
 	
+	/**
+	 * Size of the single buffer an upload is read through. Files that fit are
+	 * sent with one PUT, larger ones as multipart uploads with parts of this
+	 * size. S3 requires at least 5 MiB for every part but the last.
+	 */
+	@Value("${aws.s3.part-size:8388608}")
+	private int partSize = 8 * 1024 * 1024;
+	
 	void setBucketName(String bucketName) {
 		this.bucketName = bucketName;
 	}
@@ -49,6 +75,10 @@ public class S3Service {
 		this.region = region;
 	}
 	
+	void setPartSize(int partSize) {
+		this.partSize = partSize;
+	}
+	
 	public String getPublicFileUrl(String fileName) {
 		return String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
 	}
@@ -65,51 +95,71 @@ public class S3Service {
 		return newFiles.stream()
 		        .filter(f -> !f.isEmpty())
 		        .map(file -> {
-		            try {
-		                String checksum = DigestUtils.md5DigestAsHex(file.getBytes());
-		                Optional<FileMetadata> existingMetadata = fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(checksum, entityType, entityId);
-		                
-		                if(existingMetadata.isPresent()) {
-		                	return convertToDTO(existingMetadata.get()); 
-		                } else {
-		                	String url = uploadFile(file, entityType, entityId);
-		                	FileMetadata newMetadata = fileMetadataRepository.findByFileUrl(url).orElseThrow(() -> new RuntimeException("Failed to retrieve saved metadata"));
-		                    return convertToDTO(newMetadata);
-		                }
-		            } catch (IOException e) {
-		                throw new RuntimeException("Error processing file", e);
-		            }
+		        	String url = uploadFile(file, entityType, entityId);
+		        	FileMetadata metadata = fileMetadataRepository.findByFileUrl(url).orElseThrow(() -> new RuntimeException("Failed to retrieve saved metadata"));
+		        	return convertToDTO(metadata);
 		        })
 		        .collect(Collectors.toList());
 	}
 	
+	/**
+	 * Stores a file of an entity unless the entity already has a file with the
+	 * same content. Files that fit into one part are hashed before anything is
+	 * sent, so duplicates are never uploaded. Larger ones are streamed to a
+	 * unique staging key first and only copied to their final key once the
+	 * hash shows they are new, so an object already stored under the same name
+	 * is never overwritten by a duplicate.
+	 */
 	public String uploadFile(MultipartFile file, ProjectType entityType, UUID projectId) {
 		String fileName = entityType.toString().toLowerCase() + "/" + projectId + "/" + file.getOriginalFilename();
 		String fileUrl = String.format("https://%s.s3.%s.amazonaws.com/%s", bucketName, region, fileName);
+		MessageDigest md5 = newMd5();
 		
-		try {
-			 String checksum = DigestUtils.md5DigestAsHex(file.getBytes());
-		        long fileSize = file.getSize();
-		        
-		        Optional<FileMetadata> existingFile = fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(checksum,  entityType, projectId);
-		        if (existingFile.isPresent()) {
-		            return existingFile.get().getFileUrl();
-		        }
-		        
-			s3Client.putObject(PutObjectRequest.builder().bucket(bucketName).key(fileName).contentType(file.getContentType()).build(), RequestBody.fromBytes(file.getBytes()));
-						
-			 FileMetadata metadata = FileMetadata.builder()
-			            .fileName(file.getOriginalFilename())
-			            .fileUrl(fileUrl)
-			            .entityType(entityType)
-			            .entityId(projectId)
-			            .uploadedAt(LocalDateTime.now())
-			            .fileSize(fileSize)
-			            .checksum(checksum)
-			            .build();
-			 
-	        fileMetadataRepository.save(metadata);
-	        
+		try (InputStream in = new DigestInputStream(file.getInputStream(), md5)) {
+			byte[] buffer = newBuffer(file);
+			int read = in.readNBytes(buffer, 0, buffer.length);
+			String checksum;
+			long size;
+			
+			if(read < buffer.length) {
+				checksum = HexFormat.of().formatHex(md5.digest());
+				size = read;
+				Optional<FileMetadata> existingFile = fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(checksum, entityType, projectId);
+				if(existingFile.isPresent()) {
+					return existingFile.get().getFileUrl();
+				}
+				putObject(fileName, file.getContentType(), buffer, read);
+			} else {
+				String stagingKey = STAGING_PREFIX + UUID.randomUUID();
+				size = multipartUpload(in, buffer, read, stagingKey, file.getContentType());
+				checksum = HexFormat.of().formatHex(md5.digest());
+				try {
+					Optional<FileMetadata> existingFile = fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(checksum, entityType, projectId);
+					if(existingFile.isPresent()) {
+						return existingFile.get().getFileUrl();
+					}
+					// A single copy handles objects up to 5 GB, well above the multipart request limit
+					s3Client.copyObject(CopyObjectRequest.builder()
+							.sourceBucket(bucketName).sourceKey(stagingKey)
+							.destinationBucket(bucketName).destinationKey(fileName)
+							.build());
+				} finally {
+					deleteFile(stagingKey);
+				}
+			}
+			
+			FileMetadata metadata = FileMetadata.builder()
+					.fileName(file.getOriginalFilename())
+					.fileUrl(fileUrl)
+					.entityType(entityType)
+					.entityId(projectId)
+					.uploadedAt(LocalDateTime.now())
+					.fileSize(size)
+					.checksum(checksum)
+					.build();
+			
+			fileMetadataRepository.save(metadata);
+			
 			return fileUrl;
 		}
 		catch (IOException e) {
@@ -121,14 +171,7 @@ public class S3Service {
 	        String fileUrl = getPublicFileUrl(fileName);
 	        
 	        try {
-	            s3Client.putObject(
-	                PutObjectRequest.builder()
-	                    .bucket(bucketName)
-	                    .key(fileName)
-	                    .contentType(file.getContentType())
-	                    .build(), 
-	                RequestBody.fromBytes(file.getBytes()));
-	            
+	            streamToS3(file, fileName);
 	            return fileUrl;
 	        } catch (IOException e) {
 	            throw new RuntimeException("Error uploading independent file", e);
@@ -142,35 +185,38 @@ public class S3Service {
 			}
 			
 			try {
-				String checksum = DigestUtils.md5DigestAsHex(newFile.getBytes());
-				
-				boolean fileExists = fileMetadataRepository.existsByChecksumAndEntityTypeAndEntityId(checksum, entityType, entityId);
-				
-				if(!fileExists) {
-					uploadFile(newFile, entityType, entityId);
-				}
+				uploadFile(newFile, entityType, entityId);
 			} catch (Exception e) {
 	            log.error("Error processing file: " + newFile.getOriginalFilename(), e);
 			}
 		}
 	}
-	public byte[] downloadFile(String fileName) {
-		try(ResponseInputStream<GetObjectResponse> response = s3Client.getObject(GetObjectRequest.builder()
-                .bucket(bucketName)
-                .key(fileName)
-                .build())){
-			return response.readAllBytes();
-		}
-		catch (IOException e) {
-			throw new RuntimeException("Error downloading file: " + e.getMessage());
+	public FileMetadata getDownloadableFile(UUID fileId) {
+		return fileMetadataRepository.findById(fileId).orElseThrow(() -> new ResourceNotFoundException("File not found"));
+	}
+	
+	/**
+	 * Opens the stored object for streaming without buffering it. The caller
+	 * owns the returned stream and must close it.
+	 * @param metadata The file to open
+	 * @param range Byte range in HTTP syntax such as {@code bytes=0-1023}, or null for the whole object
+	 * @return The object content together with the S3 response headers
+	 * @throws ResourceNotFoundException if the object is missing from the bucket
+	 */
+	public ResponseInputStream<GetObjectResponse> openObjectStream(FileMetadata metadata, String range) {
+		try {
+			return s3Client.getObject(GetObjectRequest.builder()
+	                .bucket(bucketName)
+	                .key(objectKey(metadata))
+	                .range(range)
+	                .build());
+		} catch (NoSuchKeyException e) {
+			throw new ResourceNotFoundException("File not found in storage");
 		}
-		
 	}
 	
 	public void deleteFile(FileMetadata fileMetadata) {
-		String filePath = fileMetadata.getEntityType().toString().toLowerCase() + "/" + 
-                fileMetadata.getEntityId() + "/" + fileMetadata.getFileName();
-		deleteFile(filePath);
+		deleteFile(objectKey(fileMetadata));
 		fileMetadataRepository.delete(fileMetadata);
 	}
 	
@@ -223,6 +269,91 @@ public class S3Service {
 	         throw e; 
 		}}
 	
+	/**
+	 * Uploads a multipart file in a single pass over its stream, hashing it on the
+	 * way. Only one buffer of at most {@code partSize} bytes is held on the heap.
+	 * Content that fills the buffer goes through an S3 multipart upload.
+	 * @return MD5 checksum and size of the uploaded content
+	 */
+	private UploadedObject streamToS3(MultipartFile file, String key) throws IOException {
+		MessageDigest md5 = newMd5();
+		byte[] buffer = newBuffer(file);
+		
+		try (InputStream in = new DigestInputStream(file.getInputStream(), md5)) {
+			int read = in.readNBytes(buffer, 0, buffer.length);
+			if(read < buffer.length) {
+				putObject(key, file.getContentType(), buffer, read);
+				return new UploadedObject(HexFormat.of().formatHex(md5.digest()), read);
+			}
+			
+			long size = multipartUpload(in, buffer, read, key, file.getContentType());
+			return new UploadedObject(HexFormat.of().formatHex(md5.digest()), size);
+		}
+	}
+	
+	/**
+	 * One byte larger than the file, so a file that fits into one part is
+	 * recognised by a short read, but never larger than {@code partSize}.
+	 */
+	private byte[] newBuffer(MultipartFile file) {
+		long size = file.getSize();
+		return new byte[size < 0 ? partSize : (int) Math.min(partSize, size + 1)];
+	}
+	
+	private void putObject(String key, String contentType, byte[] buffer, int length) {
+		s3Client.putObject(PutObjectRequest.builder().bucket(bucketName).key(key).contentType(contentType).build(),
+				RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, length), length));
+	}
+	
+	/**
+	 * Sends the already read first part and the rest of the stream as an S3
+	 * multipart upload, which is aborted if any part fails.
+	 * @return Number of bytes uploaded
+	 */
+	private long multipartUpload(InputStream in, byte[] buffer, int read, String key, String contentType) throws IOException {
+		String uploadId = s3Client.createMultipartUpload(CreateMultipartUploadRequest.builder()
+				.bucket(bucketName).key(key).contentType(contentType).build()).uploadId();
+		try {
+			List<CompletedPart> parts = new ArrayList<>();
+			long size = 0;
+			while(read > 0) {
+				int partNumber = parts.size() + 1;
+				String eTag = s3Client.uploadPart(UploadPartRequest.builder()
+						.bucket(bucketName).key(key).uploadId(uploadId).partNumber(partNumber).contentLength((long) read).build(),
+						RequestBody.fromInputStream(new ByteArrayInputStream(buffer, 0, read), read)).eTag();
+				parts.add(CompletedPart.builder().partNumber(partNumber).eTag(eTag).build());
+				size += read;
+				read = in.readNBytes(buffer, 0, buffer.length);
+			}
+			
+			s3Client.completeMultipartUpload(CompleteMultipartUploadRequest.builder()
+					.bucket(bucketName).key(key).uploadId(uploadId)
+					.multipartUpload(CompletedMultipartUpload.builder().parts(parts).build())
+					.build());
+			return size;
+		} catch (IOException | RuntimeException e) {
+			log.warn("Aborting multipart upload of {}: {}", key, e.getMessage());
+			s3Client.abortMultipartUpload(AbortMultipartUploadRequest.builder()
+					.bucket(bucketName).key(key).uploadId(uploadId).build());
+			throw e;
+		}
+	}
+	
+	private static String objectKey(FileMetadata metadata) {
+		return metadata.getEntityType().toString().toLowerCase() + "/" + metadata.getEntityId() + "/" + metadata.getFileName();
+	}
+	
+	private static MessageDigest newMd5() {
+		try {
+			return MessageDigest.getInstance("MD5");
+		} catch (NoSuchAlgorithmException e) {
+			throw new IllegalStateException("MD5 is not available", e);
+		}
+	}
+	
+	private record UploadedObject(String checksum, long size) {
+	}
+	
 	private FileMetadataDTO convertToDTO(FileMetadata metadata) {
 	    return new FileMetadataDTO(
 	        metadata.getId(),
@@ -0,0 +1,127 @@
+package com.backend.app.service;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.app.dto.model.TagDTO;
+import com.backend.app.repository.TagRepository;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.binder.cache.CaffeineCacheMetrics;
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Bounded, time-limited cache of tags in front of {@link TagService}.
+ *
+ * Writes through {@link TagService} evict the affected entries once their
+ * transaction commits. Changes made on other nodes, or through project saves
+ * that cascade new tags, bump the "tags" row of cache_versions from a database
+ * trigger; every node polls that version and drops its entries when it moves.
+ * Hit and miss counts are published as the "tags" and "tags.all" caches.
+ */
+@Slf4j
+@Component
+public class TagCache {
+	private static final String ALL_TAGS_KEY = "all";
+	
+	private final TagRepository tagRepository;
+	private final Cache<UUID, TagDTO> tagsById;
+	private final Cache<String, List<TagDTO>> allTags;
+	private volatile Long knownVersion;
+	
+	public TagCache(TagRepository tagRepository, MeterRegistry meterRegistry,
+			@Value("${tags.cache.max-size:10000}") long maxSize,
+			@Value("${tags.cache.ttl-ms:600000}") long ttlMs) {
+		this.tagRepository = tagRepository;
+		this.tagsById = Caffeine.newBuilder()
+				.maximumSize(maxSize)
+				.expireAfterWrite(Duration.ofMillis(ttlMs))
+				.recordStats()
+				.build();
+		this.allTags = Caffeine.newBuilder()
+				.maximumSize(1)
+				.expireAfterWrite(Duration.ofMillis(ttlMs))
+				.recordStats()
+				.build();
+		CaffeineCacheMetrics.monitor(meterRegistry, tagsById, "tags");
+		CaffeineCacheMetrics.monitor(meterRegistry, allTags, "tags.all");
+	}
+	
+	// ========== READS ========== //
+	
+	public List<TagDTO> getAll(Supplier<List<TagDTO>> loader) {
+		return allTags.get(ALL_TAGS_KEY, key -> List.copyOf(loader.get()));
+	}
+	
+	/**
+	 * Missing tags are not cached, so a tag created on another node is found
+	 * as soon as it is committed.
+	 * */
+	public Optional<TagDTO> get(UUID id, Function<UUID, Optional<TagDTO>> loader) {
+		return Optional.ofNullable(tagsById.get(id, key -> loader.apply(key).orElse(null)));
+	}
+	
+	// ========== EVICTION ========== //
+	
+	/**
+	 * Evicts the tag and the tag list after the current transaction commits,
+	 * or immediately when there is none.
+	 * @param id The changed tag, or null for a newly created one
+	 * */
+	public void evict(UUID id) {
+		Runnable apply = () -> {
+			allTags.invalidateAll();
+			if(id != null) {
+				tagsById.invalidate(id);
+			}
+		};
+		
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		} else {
+			apply.run();
+		}
+	}
+	
+	public void invalidateAll() {
+		allTags.invalidateAll();
+		tagsById.invalidateAll();
+	}
+	
+	/**
+	 * Drops every entry when the shared tag version changed since the last
+	 * check. A failed check also drops them, since changes may have been missed.
+	 * */
+	@Scheduled(fixedDelayString = "${tags.cache.sync-ms:2000}")
+	public void syncWithDatabase() {
+		try {
+			Long version = tagRepository.findCacheVersion();
+			if(knownVersion != null && !knownVersion.equals(version)) {
+				log.debug("Tag version moved from {} to {}, invalidating cached tags", knownVersion, version);
+				invalidateAll();
+			}
+			knownVersion = version;
+		} catch (Exception e) {
+			log.warn("Failed to check tag cache version, invalidating cached tags: {}", e.getMessage());
+			invalidateAll();
+			knownVersion = null;
+		}
+	}
+}
@@ -24,23 +24,29 @@ import lombok.extern.slf4j.Slf4j;
 public class TagService {
 	private final TagRepository tagRepository;
 	private final TagMapper tagMapper;
+	private final TagCache tagCache;
 	
 	@Transactional(readOnly = true)
 	public List<TagDTO> findAllTags(){
-		log.debug("Fetching all tags");
-		return tagRepository.findAll().stream().map(tagMapper::toDTO).collect(Collectors.toList());
+		return tagCache.getAll(() -> {
+			log.debug("Loading all tags");
+			return tagRepository.findAll().stream().map(tagMapper::toDTO).collect(Collectors.toList());
+		});
 	}
 	
 	@Transactional(readOnly = true)
 	public Optional<TagDTO> findTagById(UUID id) {
-        log.debug("Fetching tag by id: {}", id);
-		return tagRepository.findById(id).map(tagMapper::toDTO);
+		return tagCache.get(id, key -> {
+			log.debug("Loading tag by id: {}", key);
+			return tagRepository.findById(key).map(tagMapper::toDTO);
+		});
 	}
 	
 	public TagDTO createTag(TagDTO tagDTO) {
         log.debug("Creating new tag with name: {}", tagDTO.getName());
 		Tag tag = tagMapper.toEntity(tagDTO);
 		Tag savedTag = tagRepository.save(tag);
+		tagCache.evict(savedTag.getId());
 		return tagMapper.toDTO(savedTag);
 	}
 	
@@ -49,6 +55,7 @@ public class TagService {
 		  return tagRepository.findById(id).map(existingTag -> {
 	            existingTag.setName(tagDTO.getName());
 	            Tag updatedTag = tagRepository.save(existingTag);
+	            tagCache.evict(id);
 	            return tagMapper.toDTO(updatedTag);
 	        });
 	}
@@ -56,5 +63,6 @@ public class TagService {
 	public void deleteTag(UUID id) {
         log.debug("Deleting tag with id: {}", id);
 		tagRepository.deleteById(id);
+		tagCache.evict(id);
 	}
 }
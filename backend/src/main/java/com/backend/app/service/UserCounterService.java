@@ -0,0 +1,139 @@
+package com.backend.app.service;
+
+import java.util.Collection;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import com.backend.app.enums.UserCounter;
+import com.backend.app.model.Patent;
+import com.backend.app.model.Project;
+import com.backend.app.model.Publication;
+import com.backend.app.model.Research;
+import com.backend.app.repository.UserRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the publication, patent and research counters on users.
+ *
+ * Write paths report membership changes through
+ * {@link #applyMembershipChange}, which adjusts the counters with a single
+ * set-based UPDATE in the caller's transaction. A scheduled job walks all
+ * users in batches and repairs counters that drifted, for instance through
+ * cascading deletes of users.
+ */
+@Slf4j
+@Service
+public class UserCounterService {
+	private final UserRepository userRepository;
+	private final int batchSize;
+	
+	public UserCounterService(UserRepository userRepository,
+			@Value("${user.counters.reconcile-batch-size:1000}") int batchSize) {
+		this.userRepository = userRepository;
+		this.batchSize = batchSize;
+	}
+	
+	// ========== WRITE-PATH HOOKS ========== //
+	
+	/**
+	 * Increments the counter of users that joined and decrements it for users
+	 * that left. Users present in both collections are left untouched.
+	 * @param counter The counter to adjust
+	 * @param before Member IDs before the change
+	 * @param after Member IDs after the change
+	 * */
+	public void applyMembershipChange(UserCounter counter, Collection<Long> before, Collection<Long> after) {
+		Set<Long> added = new HashSet<>(after);
+		added.removeAll(before);
+		Set<Long> removed = new HashSet<>(before);
+		removed.removeAll(after);
+		
+		adjust(counter, added, 1);
+		adjust(counter, removed, -1);
+	}
+	
+	/**
+	 * Decrements the counters of everyone attached to the project's
+	 * publication, patent or research, which are removed with it.
+	 * */
+	public void recordProjectRemoved(Project project) {
+		if(project.getPublication() != null) {
+			applyMembershipChange(UserCounter.PUBLICATIONS, membersOf(project.getPublication()), Set.of());
+		}
+		if(project.getPatent() != null) {
+			applyMembershipChange(UserCounter.PATENTS, membersOf(project.getPatent()), Set.of());
+		}
+		if(project.getResearch() != null) {
+			applyMembershipChange(UserCounter.RESEARCH, membersOf(project.getResearch()), Set.of());
+		}
+	}
+	
+	public static Set<Long> membersOf(Publication publication) {
+		return publication.getPublicationAuthors().stream().map(author -> author.getUser().getId())
+				.collect(Collectors.toSet());
+	}
+	
+	/** The primary author and the co-inventors; a patent counts once per user. */
+	public static Set<Long> membersOf(Patent patent) {
+		Set<Long> members = patent.getCoInventors().stream().map(coInventor -> coInventor.getUser().getId())
+				.collect(Collectors.toCollection(HashSet::new));
+		if(patent.getPrimaryAuthor() != null) {
+			members.add(patent.getPrimaryAuthor().getId());
+		}
+		return members;
+	}
+	
+	public static Set<Long> membersOf(Research research) {
+		return research.getResearchParticipants().stream().map(participant -> participant.getUser().getId())
+				.collect(Collectors.toSet());
+	}
+	
+	// ========== SCHEDULED RECONCILIATION ========== //
+	
+	/**
+	 * Recounts every user's memberships in batches of {@code batchSize} users,
+	 * each batch in its own transaction.
+	 * @return Number of users whose counters were repaired
+	 * */
+	@Scheduled(cron = "${user.counters.reconcile-cron:0 15 4 * * *}")
+	public int reconcileCounters() {
+		int repaired = 0;
+		long lastId = 0;
+		List<Long> batch;
+		do {
+			batch = userRepository.findIdsAfter(lastId, Limit.of(batchSize));
+			if(batch.isEmpty()) {
+				break;
+			}
+			repaired += userRepository.reconcileCounters(batch);
+			lastId = batch.get(batch.size() - 1);
+		} while(batch.size() == batchSize);
+		
+		if(repaired > 0) {
+			log.warn("Repaired membership counters of {} users", repaired);
+		}
+		return repaired;
+	}
+	
+	// ========== HELPER FUNCTIONS ========== //
+	
+	private void adjust(UserCounter counter, Set<Long> userIds, int delta) {
+		if(userIds.isEmpty()) {
+			return;
+		}
+		
+		switch(counter) {
+		case PUBLICATIONS -> userRepository.adjustPublicationCount(userIds, delta);
+		case PATENTS -> userRepository.adjustPatentCount(userIds, delta);
+		case RESEARCH -> userRepository.adjustResearchCount(userIds, delta);
+		}
+	}
+}
@@ -12,6 +12,7 @@ import com.backend.app.mapper.UserLoginMapper;
 import com.backend.app.model.User;
 import com.backend.app.model.UserLogin;
 import com.backend.app.repository.UserLoginRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
 
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -21,6 +22,7 @@ import lombok.RequiredArgsConstructor;
 public class UserLoginService {
 	private final UserLoginRepository userLoginRepository;
 	private final UserLoginMapper userLoginMapper;
+	private final AnalyticsRollupService analyticsRollupService;
 	
 	@Transactional
 	public void recordUserLogin(User user, HttpServletRequest request) {
@@ -30,6 +32,7 @@ public class UserLoginService {
                 .userAgent(request.getHeader("User-Agent"))
                 .build();
 		userLoginRepository.save(login);
+		analyticsRollupService.recordLogin();
 	}
 	
 	public long getRecentLoginCount(int hours) { 
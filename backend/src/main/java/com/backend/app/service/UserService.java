@@ -2,34 +2,37 @@ package com.backend.app.service;
 
 import java.time.Instant;
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
-import java.util.Set;
 import java.util.stream.Collectors;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.multipart.MultipartFile;
 
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.miscellaneous.ResponseUserDTO;
 import com.backend.app.dto.miscellaneous.UserProfileUpdateDTO;
 import com.backend.app.dto.model.UserDTO;
 import com.backend.app.enums.Role;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.ResourceAlreadyExistsException;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.mapper.UserMapper;
 import com.backend.app.model.ActiveToken;
-import com.backend.app.model.Project;
 import com.backend.app.model.User;
 import com.backend.app.repository.ActiveTokenRepository;
+import com.backend.app.repository.UserCollaborationRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
 import com.backend.app.util.CreationUtils;
+import com.backend.app.util.KeysetCursor;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -38,16 +41,17 @@ import lombok.extern.slf4j.Slf4j;
 @Service
 @RequiredArgsConstructor
 public class UserService {
+	private static final int MAX_LEADERBOARD_SIZE = 100;
+
 	private final UserRepository userRepository;
 	private final EmailService emailService;
 	private final S3Service s3Service;
 	private final UserMapper userMapper;
-	private final ProjectService projectService;
-	private final PublicationService publicationService;
-	private final PatentService patentService;
-	private final ResearchService researchService;
+	private final UserCollaborationRepository collaborationRepository;
 	private final PasswordEncoder passwordEncoder;
 	private final ActiveTokenRepository activeTokenRepository;
+	private final AnalyticsRollupService analyticsRollupService;
+	private final DashboardService dashboardService;
 
 	@Transactional
 	public void savePendingUser(String username, String email, String password, Role role) {
@@ -59,6 +63,8 @@ public class UserService {
 				.verificationCode(emailService.generateVerificationCode())
 				.avatarUrl(CreationUtils.getDefaultAvatarUrl()).build();
 		userRepository.save(user);
+		analyticsRollupService.recordRegistration();
+		dashboardService.markStale();
 
 		emailService.sendVerificationCode(email, user.getVerificationCode());
 
@@ -118,72 +124,40 @@ public class UserService {
 		return userRepository.findAll(pageable).map(userMapper::mapToDTO);
 	}
 
+	/**
+	 * Lists users in registration order using keyset pagination on
+	 * (createdAt, id), so deep chunks cost the same as the first one.
+	 * 
+	 * @param cursor Opaque cursor from the previous chunk, or null for the first one
+	 * @param size Maximum number of users in the chunk
+	 * @return The chunk of users and the cursor for the next one
+	 */
+	@Transactional(readOnly = true)
+	public KeysetPage<UserDTO> getUsersChunk(String cursor, int size) {
+		KeysetCursor position = KeysetCursor.decode(cursor);
+		Limit limit = Limit.of(size + 1);
+		List<User> users = position == null
+				? userRepository.findRegistrationOrdered(limit)
+				: userRepository.findRegistrationOrderedAfter(position.getCreatedAt(), position.longId(), limit);
+		return KeysetPage.of(users, size, user -> KeysetCursor.encode(user.getCreatedAt(), user.getId()))
+				.map(userMapper::mapToDTO);
+	}
+
 	@Transactional(readOnly = true)
 	public List<UserDTO> getAllUsersList() {
 		return userRepository.findAll().stream().map(userMapper::mapToDTO).collect(Collectors.toList());
 	}
 
+	/**
+	 * Users sharing at least one project with the given user, most shared
+	 * projects first. Served from the edge store maintained by
+	 * {@link CollaborationGraphService}. The requested sort is ignored in
+	 * favour of collaboration strength.
+	 * */
 	@Transactional(readOnly = true)
 	public Page<UserDTO> getUserCollaborators(Long userId, Pageable pageable) {
-		Set<User> collaborators = new HashSet<User>();
-
-		List<Project> projects = projectService.findProjectsByUserId(userId);
-
-		for (Project project : projects) {
-			switch (project.getType()) {
-			case PUBLICATION:
-				publicationService.findPublicationByProjectId(project.getId()).forEach(pub -> {
-					pub.getPublicationAuthors().forEach(author -> {
-						if (!author.getUser().getId().equals(userId)) {
-							collaborators.add(author.getUser());
-						}
-					});
-				});
-				break;
-			case PATENT:
-				patentService.findPatentByProjectId(project.getId()).forEach(patent -> {
-					patent.getCoInventors().forEach(coInventor -> {
-						if (!coInventor.getUser().getId().equals(userId)) {
-							collaborators.add(coInventor.getUser());
-						}
-					});
-
-					if (!patent.getPrimaryAuthor().getId().equals(userId)) {
-						collaborators.add(patent.getPrimaryAuthor());
-					}
-				});
-				break;
-
-			case RESEARCH:
-				researchService.findResearchByProjectId(project.getId()).forEach(research -> {
-					research.getResearchParticipants().forEach(participant -> {
-						if (!participant.getUser().getId().equals(userId)) {
-							collaborators.add(participant.getUser());
-						}
-					});
-				});
-				break;
-			}
-		}
-
-		List<User> collaboratorList = new ArrayList<>(collaborators);
-
-		if (collaboratorList.isEmpty()) {
-			return Page.empty(pageable);
-		}
-
-		int start = (int) pageable.getOffset();
-		int end = Math.min((start + pageable.getPageSize()), collaboratorList.size());
-
-		if (start > end) {
-			start = 0;
-			end = Math.min(pageable.getPageSize(), collaboratorList.size());
-		}
-
-		List<User> pageContent = collaboratorList.subList(start, end);
-
-		return new PageImpl<>(pageContent.stream().map(userMapper::mapToDTO).collect(Collectors.toList()), pageable,
-				collaboratorList.size());
+		Pageable byStrength = PageRequest.of(pageable.getPageNumber(), pageable.getPageSize());
+		return collaborationRepository.findCollaborators(userId, byStrength).map(userMapper::mapToDTO);
 	}
 
 	@Transactional(readOnly = true)
@@ -212,6 +186,7 @@ public class UserService {
 	public void deleteUser(Long id) {
 		User user = userRepository.findById(id).orElseThrow(() -> new ResourceNotFoundException("User not found"));
 		userRepository.delete(user);
+		dashboardService.markStale();
 	}
 
 	@Transactional
@@ -275,9 +250,26 @@ public class UserService {
 		userRepository.saveAll(users);
 	}
 
+	/**
+	 * Users with the highest value of a membership counter, read straight from
+	 * the counter columns maintained by {@link UserCounterService}.
+	 * @param counter The counter to rank by
+	 * @param limit Number of users, capped at {@value #MAX_LEADERBOARD_SIZE}
+	 * */
+	@Transactional(readOnly = true)
+	public List<UserDTO> getLeaderboard(UserCounter counter, int limit) {
+		Limit top = Limit.of(Math.max(1, Math.min(limit, MAX_LEADERBOARD_SIZE)));
+		List<User> leaders = switch (counter) {
+		case PUBLICATIONS -> userRepository.findPublicationLeaders(top);
+		case PATENTS -> userRepository.findPatentLeaders(top);
+		case RESEARCH -> userRepository.findResearchLeaders(top);
+		};
+		return leaders.stream().map(userMapper::mapToDTO).toList();
+	}
+
 	@Transactional(readOnly = true)
 	public List<User> findRecentlyActiveUsers(Instant cutoff, int count) {
-		List<Long> activeUserIds = activeTokenRepository.findByExpiryAfter(cutoff).stream().map(ActiveToken::getUserId)
+		List<Long> activeUserIds = activeTokenRepository.findByExpiryAfterAndRevokedFalse(cutoff).stream().map(ActiveToken::getUserId)
 				.distinct().limit(count).collect(Collectors.toList());
 
 		return userRepository.findAllById(activeUserIds);
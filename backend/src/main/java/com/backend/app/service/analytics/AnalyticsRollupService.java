@@ -0,0 +1,159 @@
+package com.backend.app.service.analytics;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import com.backend.app.enums.ProjectType;
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.repository.DailyRollupRepository;
+
+import lombok.extern.slf4j.Slf4j;
+
+/**
+ * Maintains the daily_rollups table read by the analytics services.
+ *
+ * Write paths report their events through the {@code record*} methods, which
+ * apply a +/- delta once the surrounding transaction commits. Cascading
+ * deletes and failed increments are not seen by those hooks, so a scheduled
+ * job recomputes the most recent days from the live tables and a nightly job
+ * rebuilds the whole history.
+ */
+@Slf4j
+@Service
+public class AnalyticsRollupService {
+	private static final LocalDate HISTORY_START = LocalDate.of(1970, 1, 1);
+	private static final String NO_DIMENSION = "";
+	
+	private final DailyRollupRepository rollupRepository;
+	private final int refreshDays;
+	private volatile boolean initialized;
+	
+	public AnalyticsRollupService(DailyRollupRepository rollupRepository,
+			@Value("${analytics.rollup.refresh-days:2}") int refreshDays) {
+		this.rollupRepository = rollupRepository;
+		this.refreshDays = refreshDays;
+	}
+	
+	// ========== WRITE-PATH HOOKS ========== //
+	
+	public void recordRegistration() {
+		increment(RollupMetric.REGISTRATIONS, LocalDate.now(), NO_DIMENSION, 1);
+	}
+	
+	public void recordLogin() {
+		increment(RollupMetric.LOGINS, LocalDate.now(), NO_DIMENSION, 1);
+	}
+	
+	public void recordCommentCreated() {
+		increment(RollupMetric.COMMENTS, LocalDate.now(), NO_DIMENSION, 1);
+	}
+	
+	/**
+	 * @param createdAt Creation time of the removed comment
+	 * @param likes Likes the comment had, which disappear with it
+	 * */
+	public void recordCommentRemoved(LocalDateTime createdAt, int likes) {
+		recordCommentsRemoved(bucketOf(createdAt), 1, likes);
+	}
+	
+	/**
+	 * @param createdOn Creation day shared by the removed comments
+	 * @param comments Number of comments removed
+	 * @param likes Likes the removed comments had in total
+	 * */
+	public void recordCommentsRemoved(LocalDate createdOn, long comments, long likes) {
+		increment(RollupMetric.COMMENTS, createdOn, NO_DIMENSION, -comments);
+		if(likes > 0) {
+			increment(RollupMetric.COMMENT_LIKES, createdOn, NO_DIMENSION, -likes);
+		}
+	}
+	
+	/**
+	 * Likes are bucketed by the creation day of the liked comment, matching the
+	 * comment activity report. Called with the deltas aggregated per day by
+	 * {@link com.backend.app.service.CommentLikeCounter} rather than once per
+	 * like, so likes do not contend on the row of the current day.
+	 * @param createdOn Creation day of the liked comments
+	 * @param delta Likes minus unlikes of comments created that day
+	 * */
+	public void recordCommentLikes(LocalDate createdOn, long delta) {
+		increment(RollupMetric.COMMENT_LIKES, createdOn, NO_DIMENSION, delta);
+	}
+	
+	public void recordProjectCreated(ProjectType type) {
+		increment(RollupMetric.PROJECTS, LocalDate.now(), type.name(), 1);
+	}
+	
+	public void recordProjectRemoved(ProjectType type, LocalDateTime createdAt) {
+		increment(RollupMetric.PROJECTS, bucketOf(createdAt), type.name(), -1);
+	}
+	
+	// ========== SCHEDULED RECOMPUTATION ========== //
+	
+	/**
+	 * Recomputes the last {@code refreshDays} days, or the full history on the
+	 * first run when the rollup table is still empty.
+	 * */
+	@Scheduled(fixedDelayString = "${analytics.rollup.refresh-ms:300000}")
+	@Transactional
+	public void refreshRecentRollups() {
+		if(!initialized && rollupRepository.count() == 0) {
+			recompute(HISTORY_START, LocalDate.now().plusDays(1));
+		} else {
+			recompute(LocalDate.now().minusDays(refreshDays - 1L), LocalDate.now().plusDays(1));
+		}
+		initialized = true;
+	}
+	
+	@Scheduled(cron = "${analytics.rollup.rebuild-cron:0 30 3 * * *}")
+	@Transactional
+	public void rebuildAllRollups() {
+		recompute(HISTORY_START, LocalDate.now().plusDays(1));
+	}
+	
+	// ========== HELPER FUNCTIONS ========== //
+	
+	private void recompute(LocalDate from, LocalDate to) {
+		LocalDateTime start = from.atStartOfDay();
+		LocalDateTime end = to.atStartOfDay();
+		
+		rollupRepository.deleteRange(from, to);
+		int rows = rollupRepository.insertRegistrations(start, end)
+				+ rollupRepository.insertCommentsAndLikes(start, end)
+				+ rollupRepository.insertProjects(start, end)
+				+ rollupRepository.insertLogins(start, end);
+		log.debug("Recomputed {} rollup rows for {} to {}", rows, from, to);
+	}
+	
+	private void increment(RollupMetric metric, LocalDate date, String dimension, long delta) {
+		Runnable apply = () -> {
+			try {
+				rollupRepository.increment(metric.name(), date, dimension, delta);
+			} catch (Exception e) {
+				log.warn("Failed to update {} rollup for {}, the next refresh will correct it: {}", metric, date, e.getMessage());
+			}
+		};
+		
+		if(TransactionSynchronizationManager.isSynchronizationActive()) {
+			TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+				@Override
+				public void afterCommit() {
+					apply.run();
+				}
+			});
+		} else {
+			apply.run();
+		}
+	}
+	
+	private static LocalDate bucketOf(LocalDateTime createdAt) {
+		return createdAt != null ? createdAt.toLocalDate() : LocalDate.now();
+	}
+}
@@ -2,29 +2,38 @@ package com.backend.app.service.analytics;
 
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 import org.springframework.stereotype.Service;
 
 import com.backend.app.dto.analytics.CommentActivityDTO;
-import com.backend.app.repository.CommentRepository;
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.model.DailyRollup;
+import com.backend.app.repository.DailyRollupRepository;
 
 import lombok.RequiredArgsConstructor;
 
 @Service
 @RequiredArgsConstructor
 public class CommentAnalyticsService {
-	private final CommentRepository commentRepository;
+	private final DailyRollupRepository rollupRepository;
 	
 	public List<CommentActivityDTO> getCommentActivityAnalytics(int days) {
         LocalDate startDate = LocalDate.now().minusDays(days);
+        LocalDate endDate = LocalDate.now();
         
-        return commentRepository.countCommentsByDateRangeGroupedByDate(startDate)
+        Map<LocalDate, Long> likesByDate = rollupRepository.findSeries(RollupMetric.COMMENT_LIKES, startDate, endDate)
                 .stream()
-                .map(result -> new CommentActivityDTO(
-                        ((java.sql.Date) result[0]).toLocalDate(),
-                        ((Number) result[1]).longValue(),
-                        ((Number) result[2]).longValue()
+                .collect(Collectors.toMap(rollup -> rollup.getId().getBucketDate(), DailyRollup::getTotal));
+        
+        return rollupRepository.findSeries(RollupMetric.COMMENTS, startDate, endDate)
+                .stream()
+                .filter(rollup -> rollup.getTotal() > 0)
+                .map(rollup -> new CommentActivityDTO(
+                        rollup.getId().getBucketDate(),
+                        rollup.getTotal(),
+                        likesByDate.getOrDefault(rollup.getId().getBucketDate(), 0L)
                 ))
                 .collect(Collectors.toList());
     }
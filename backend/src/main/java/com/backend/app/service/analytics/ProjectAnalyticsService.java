@@ -9,6 +9,8 @@ import org.springframework.stereotype.Service;
 import com.backend.app.dto.analytics.ProjectDistributionDTO;
 import com.backend.app.dto.analytics.ProjectProgressDTO;
 import com.backend.app.enums.ProjectType;
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.repository.DailyRollupRepository;
 import com.backend.app.repository.ProjectRepository;
 
 import lombok.RequiredArgsConstructor;
@@ -17,12 +19,13 @@ import lombok.RequiredArgsConstructor;
 @RequiredArgsConstructor
 public class ProjectAnalyticsService {
 	private final ProjectRepository projectRepository;
+	private final DailyRollupRepository rollupRepository;
 	
 	 public ProjectDistributionDTO getProjectTypeDistribution() {
-	        Map<ProjectType, Long> counts = projectRepository.getProjectCountsByType()
+	        Map<ProjectType, Long> counts = rollupRepository.sumByDimension(RollupMetric.PROJECTS)
 	                .stream()
 	                .collect(Collectors.toMap(
-	                        result -> (ProjectType) result[0],
+	                        result -> ProjectType.valueOf((String) result[0]),
 	                        result -> ((Number) result[1]).longValue()
 	                ));
 	        
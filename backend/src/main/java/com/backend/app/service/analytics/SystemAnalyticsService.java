@@ -35,7 +35,7 @@ public class SystemAnalyticsService {
 	    	long totalUsers = userRepository.count();
 	    	long activeUsers = userRepository.countByActiveTrue();
 	    	 long totalProjects = projectRepository.count();
-	         long activeSessions = activeTokenRepository.count();
+	         long activeSessions = activeTokenRepository.countByRevokedFalse();
 	         
 	    return SystemOverviewDTO.builder()
 	    		.totalUsers(totalUsers)
@@ -77,7 +77,7 @@ public class SystemAnalyticsService {
 	        return SystemPerformanceDTO.builder()
 	                .averageResponseTime(avgResponseTime)
 	                .uptimePercentage(calculateUptimePercentage(uptimeHours))
-	                .activeConnections(activeTokenRepository.count())
+	                .activeConnections(activeTokenRepository.countByRevokedFalse())
 	                .memoryUsage(memoryUsagePercent)
 	                .cpuUsage(systemLoad / availableProcessors * 100)
 	                .activeDbConnections(activeConnections)
@@ -27,16 +27,12 @@ public class UserAnalyticsService {
 			endDate = LocalDate.now();
 		}
 		
-		List<Object[]> results = userRepository.getRegistrationCountsByDate(startDate.atStartOfDay(), endDate.atTime(23, 59, 59));
-		
-		return results.stream().map(result ->
-		{
-			LocalDate date = ((Date)result[0]).toLocalDate();
-			 Long count = ((Number) result[1]).longValue();
-		        Long active = userRepository.countActiveUsersOnDate(date);
-		        return new UserGrowthDTO(date, count, active); 
-				
-		}).collect(Collectors.toList());
+		return userRepository.getUserGrowthSeries(startDate, endDate).stream()
+				.map(result -> new UserGrowthDTO(
+						toLocalDate(result[0]),
+						((Number) result[1]).longValue(),
+						((Number) result[2]).longValue()))
+				.collect(Collectors.toList());
 	}
 	
 	 public Map<Role, Long> getUserRoleDistribution() {
@@ -47,4 +43,8 @@ public class UserAnalyticsService {
 	                        result -> ((Number) result[1]).longValue()
 	                ));
 	    }
+	 
+	 private static LocalDate toLocalDate(Object value) {
+		 return value instanceof Date date ? date.toLocalDate() : (LocalDate) value;
+	 }
 }
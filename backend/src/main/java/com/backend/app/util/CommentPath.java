@@ -0,0 +1,74 @@
+package com.backend.app.util;
+
+import java.util.UUID;
+
+import com.backend.app.model.Comment;
+
+/**
+ * Materialized ancestor paths of threaded comments. The path of a comment
+ * lists the IDs of all its ancestors from the top-level comment down to the
+ * parent, each written as 32 lowercase hex digits followed by {@code /}.
+ * Top-level comments have an empty path.
+ *
+ * Because a comment never moves, the path is written once on insert. All
+ * descendants of a comment share the prefix {@code path + id + "/"}, so a
+ * subtree is the contiguous key range {@code [prefix, prefix with '/' replaced
+ * by '0')} of an index on the path column (which uses the "C" collation so
+ * strings compare byte by byte), and the depth of a comment is the length of
+ * its path divided by {@value #SEGMENT_LENGTH}.
+ */
+public final class CommentPath {
+	public static final int SEGMENT_LENGTH = 33;
+	public static final String ROOT = "";
+
+	private static final char SEPARATOR = '/';
+
+	private CommentPath() {
+	}
+
+	/**
+	 * @param parent The comment being replied to, or null for a top-level comment
+	 * @return The path of a new comment below the parent
+	 */
+	public static String childOf(Comment parent) {
+		return parent == null ? ROOT : subtreeStart(parent);
+	}
+
+	/**
+	 * @return Inclusive lower bound of the paths of all replies to the comment, at any depth
+	 */
+	public static String subtreeStart(Comment comment) {
+		return comment.getPath() + segment(comment.getId());
+	}
+
+	/**
+	 * @return Exclusive upper bound of the paths of all replies to the comment, at any depth
+	 */
+	public static String subtreeEnd(Comment comment) {
+		String start = subtreeStart(comment);
+		// '0' is the character right after the separator
+		return start.substring(0, start.length() - 1) + (char) (SEPARATOR + 1);
+	}
+
+	/**
+	 * @return Number of ancestors of a comment with the given path, 0 for top-level comments
+	 */
+	public static int depth(String path) {
+		return path.length() / SEGMENT_LENGTH;
+	}
+
+	/**
+	 * @param comment The root of the subtree
+	 * @param levels How many levels of replies below the comment to include
+	 * @return Longest path of a reply at most the given number of levels below
+	 * the comment, or {@link Integer#MAX_VALUE} if no path can be that long
+	 */
+	public static int maxLength(Comment comment, int levels) {
+		long length = ((long) depth(comment.getPath()) + levels) * SEGMENT_LENGTH;
+		return (int) Math.min(length, Integer.MAX_VALUE);
+	}
+
+	private static String segment(UUID id) {
+		return id.toString().replace("-", "") + SEPARATOR;
+	}
+}
@@ -13,15 +13,18 @@ import org.springframework.stereotype.Component;
 
 import com.backend.app.exception.JwtConfigurationException;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.security.VerifiedClaimsCache;
 
 import io.jsonwebtoken.Claims;
 import io.jsonwebtoken.ExpiredJwtException;
 import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.MalformedJwtException;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.UnsupportedJwtException;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -31,6 +34,7 @@ import lombok.extern.slf4j.Slf4j;
 @RequiredArgsConstructor
 public class JwtUtil {
 	private final UserRepository userRepository;
+	private final VerifiedClaimsCache verifiedClaimsCache;
     private static final String AUTH_HEADER_PREFIX = "Bearer ";
 	private static final String USER_ID_CLAIM = "userId";
 	private static final String SUBJECT_CLAIM = "sub";
@@ -44,6 +48,25 @@ public class JwtUtil {
 	@Value("${jwt.remember-me-expiration}")
 	private long rememberMeExpirationTime;
 	
+	private Key signingKey;
+	private JwtParser jwtParser;
+	
+	/**
+	 * Decodes the secret and builds the HMAC key and parser once; both are
+	 * immutable and shared by every request.
+	 */
+	@PostConstruct
+	void initSigningKey() {
+		try {
+			byte[] decodedKey = Base64.getDecoder().decode(secretKey);
+			this.signingKey = Keys.hmacShaKeyFor(decodedKey);
+			this.jwtParser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+		} catch (IllegalArgumentException e) {
+            log.error("Invalid base64 secret key", e);
+            throw new JwtConfigurationException("Invalid base64 secret key", e);
+        }
+	}
+	
 	public String extractJwtFromRequest(HttpServletRequest request) {
 		String authHeader = request.getHeader("Authorization");
 		if(authHeader != null && authHeader.startsWith(AUTH_HEADER_PREFIX)) {
@@ -62,14 +85,7 @@ public class JwtUtil {
 	}
 	
 	public Key getSigningKey() {
-		try {
-			byte[] decodedKey = Base64.getDecoder().decode(secretKey); 
-			 return Keys.hmacShaKeyFor(decodedKey); 
-		}catch (IllegalArgumentException e) {
-            log.error("Invalid base64 secret key", e);
-            throw new JwtConfigurationException("Invalid base64 secret key", e);
-        }
-		 
+		return signingKey;
 	}
 	
 	public String generateToken(String email, Long userId) {
@@ -120,8 +136,21 @@ public class JwtUtil {
 	}
 	
 	public Jws<Claims> parseToken(String token) {
-		return Jwts.parserBuilder().setSigningKey(getSigningKey()).build().parseClaimsJws(token);
-
+		return jwtParser.parseClaimsJws(token);
+	}
+	
+	/**
+	 * Returns the claims of a token, verifying its signature only on the first
+	 * use. Later calls with the same token are served from the claims cache
+	 * until the token expires or is revoked.
+	 */
+	public Claims getVerifiedClaims(String token) {
+		Claims claims = verifiedClaimsCache.get(token);
+		if (claims == null) {
+			claims = parseToken(token).getBody();
+			verifiedClaimsCache.put(token, claims);
+		}
+		return claims;
 	}
 	public boolean isRememberMeToken(Claims claims) {
 	    Date expiration = claims.getExpiration();
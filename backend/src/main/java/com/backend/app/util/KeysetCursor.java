@@ -0,0 +1,71 @@
+package com.backend.app.util;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import java.util.UUID;
+
+import com.backend.app.exception.InvalidInputException;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+/**
+ * Opaque position marker for keyset (seek) pagination over rows ordered by
+ * {@code (createdAt, id)}. Clients receive it as a URL-safe string and send it
+ * back unchanged to fetch the next chunk.
+ */
+@Getter
+@AllArgsConstructor
+public class KeysetCursor {
+	private static final String SEPARATOR = "|";
+
+	private final LocalDateTime createdAt;
+	private final String id;
+
+	public static String encode(LocalDateTime createdAt, Object id) {
+		String raw = createdAt + SEPARATOR + id;
+		return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Decodes a cursor previously produced by {@link #encode(LocalDateTime, Object)}.
+	 *
+	 * @param cursor The opaque cursor, may be null or blank for the first chunk
+	 * @return The decoded cursor or null if none was given
+	 * @throws InvalidInputException if the cursor is malformed
+	 */
+	public static KeysetCursor decode(String cursor) {
+		if (cursor == null || cursor.isBlank()) {
+			return null;
+		}
+
+		try {
+			String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+			int separator = raw.indexOf(SEPARATOR);
+			if (separator < 0) {
+				throw new InvalidInputException("Invalid cursor");
+			}
+			return new KeysetCursor(LocalDateTime.parse(raw.substring(0, separator)), raw.substring(separator + 1));
+		} catch (IllegalArgumentException | DateTimeParseException e) {
+			throw new InvalidInputException("Invalid cursor");
+		}
+	}
+
+	public long longId() {
+		try {
+			return Long.parseLong(id);
+		} catch (NumberFormatException e) {
+			throw new InvalidInputException("Invalid cursor");
+		}
+	}
+	
+	public UUID uuidId() {
+		try {
+			return UUID.fromString(id);
+		} catch (IllegalArgumentException e) {
+			throw new InvalidInputException("Invalid cursor");
+		}
+	}
+}
@@ -0,0 +1,66 @@
+package com.backend.app.util;
+
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Generator of time-ordered version 7 UUIDs (RFC 9562). The first 48 bits hold
+ * the Unix epoch in milliseconds, so values created later sort after earlier
+ * ones and new rows are appended to the right edge of B-tree indexes instead
+ * of landing on random pages.
+ *
+ * Within one millisecond the 12-bit {@code rand_a} field is used as a counter
+ * seeded with a random value, which keeps values from a single JVM strictly
+ * increasing. When the counter overflows, the timestamp is advanced by one
+ * millisecond rather than waiting for the clock. The remaining 62 bits are
+ * random to keep values from different nodes apart; they are not meant to be
+ * unguessable.
+ */
+public final class UuidV7 {
+	private static final long VERSION = 0x7000L;
+	private static final long VARIANT = 0x8000000000000000L;
+	private static final long RAND_B_MASK = 0x3FFFFFFFFFFFFFFFL;
+	private static final int MAX_SEQUENCE = 0xFFF;
+	private static final int SEQUENCE_SEED_BOUND = 0x800;
+
+	private static long lastMillis = -1;
+	private static int sequence;
+
+	private UuidV7() {
+	}
+
+	public static UUID next() {
+		long millis;
+		int counter;
+		synchronized (UuidV7.class) {
+			long now = System.currentTimeMillis();
+			if (now > lastMillis) {
+				lastMillis = now;
+				// Seed with the lower half of the range to leave room for increments
+				sequence = ThreadLocalRandom.current().nextInt(SEQUENCE_SEED_BOUND);
+			} else if (sequence < MAX_SEQUENCE) {
+				sequence++;
+			} else {
+				lastMillis++;
+				sequence = 0;
+			}
+			millis = lastMillis;
+			counter = sequence;
+		}
+
+		long mostSignificant = (millis << 16) | VERSION | counter;
+		long leastSignificant = VARIANT | (ThreadLocalRandom.current().nextLong() & RAND_B_MASK);
+		return new UUID(mostSignificant, leastSignificant);
+	}
+
+	/**
+	 * @return The creation time in epoch milliseconds encoded in a version 7 UUID
+	 * @throws IllegalArgumentException if the UUID is not version 7
+	 */
+	public static long timestampOf(UUID uuid) {
+		if (uuid.version() != 7) {
+			throw new IllegalArgumentException("Not a version 7 UUID: " + uuid);
+		}
+		return uuid.getMostSignificantBits() >>> 16;
+	}
+}
@@ -0,0 +1,288 @@
+package com.backend.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.backend.app.util.CommentPath;
+import com.backend.app.util.UuidV7;
+
+/**
+ * Compares the recursive CTE over parent_comment_id with range scans over the
+ * materialized comment path ({@link CommentPath}) for the three thread
+ * queries of {@link com.backend.app.repository.CommentRepository}: a whole
+ * subtree, a subtree limited to three levels, and per-thread reply counts of a
+ * project. The project holds one large thread of {@code threadSize} comments,
+ * where every reply picks a random earlier comment of the thread as its parent,
+ * plus 500 threads of 20 comments. Tables live in the {@code thread_bench}
+ * schema with the same indexes as diploma.comments and are seeded on the first
+ * run.
+ *
+ * Needs a PostgreSQL database:
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench?reWriteBatchedInserts=true -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-Dbench.jdbc.url=... -cp %classpath com.backend.app.benchmark.CommentThreadBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class CommentThreadBenchmark {
+	private static final int SMALL_THREADS = 500;
+	private static final int SMALL_THREAD_SIZE = 20;
+	private static final int LEVELS = 3;
+	private static final int SEED_BATCH_SIZE = 5_000;
+
+	@Param({"10000", "100000"})
+	private int threadSize;
+
+	private Connection connection;
+	private String table;
+	private UUID projectId;
+	private UUID rootId;
+	private String from;
+	private String to;
+
+	private PreparedStatement subtreeRecursive;
+	private PreparedStatement subtreePath;
+	private PreparedStatement levelsRecursive;
+	private PreparedStatement levelsPath;
+	private PreparedStatement countsRecursive;
+	private PreparedStatement countsPath;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url = System.getProperty("bench.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbench.jdbc.url (and bench.jdbc.user/bench.jdbc.password) to a PostgreSQL database");
+		}
+		connection = DriverManager.getConnection(url, System.getProperty("bench.jdbc.user"),
+				System.getProperty("bench.jdbc.password"));
+		connection.setAutoCommit(false);
+		table = "thread_bench.comments_" + threadSize;
+
+		seedIfNeeded();
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(
+						"SELECT id, project_id FROM " + table + " WHERE parent_comment_id IS NULL ORDER BY id LIMIT 1")) {
+			resultSet.next();
+			rootId = resultSet.getObject(1, UUID.class);
+			projectId = resultSet.getObject(2, UUID.class);
+		}
+		String prefix = rootId.toString().replace("-", "");
+		from = prefix + "/";
+		to = prefix + "0";
+
+		subtreeRecursive = connection.prepareStatement("""
+				WITH RECURSIVE thread AS (
+					SELECT c.id FROM %1$s c WHERE c.parent_comment_id = ?
+					UNION ALL
+					SELECT c.id FROM %1$s c JOIN thread t ON c.parent_comment_id = t.id
+				)
+				SELECT c.id, c.parent_comment_id, c.content, c.created_at FROM %1$s c WHERE c.id IN (SELECT id FROM thread)
+				""".formatted(table));
+		subtreePath = connection.prepareStatement("""
+				SELECT c.id, c.parent_comment_id, c.content, c.created_at FROM %s c
+				WHERE c.project_id = ? AND c.path >= ? AND c.path < ?
+				ORDER BY c.path, c.created_at, c.id
+				""".formatted(table));
+		levelsRecursive = connection.prepareStatement("""
+				WITH RECURSIVE thread AS (
+					SELECT c.id, 1 AS level FROM %1$s c WHERE c.parent_comment_id = ?
+					UNION ALL
+					SELECT c.id, t.level + 1 FROM %1$s c JOIN thread t ON c.parent_comment_id = t.id WHERE t.level < ?
+				)
+				SELECT c.id, c.parent_comment_id, c.content, c.created_at FROM %1$s c WHERE c.id IN (SELECT id FROM thread)
+				""".formatted(table));
+		levelsPath = connection.prepareStatement("""
+				SELECT c.id, c.parent_comment_id, c.content, c.created_at FROM %s c
+				WHERE c.project_id = ? AND c.path >= ? AND c.path < ? AND length(c.path) <= ?
+				ORDER BY c.path, c.created_at, c.id
+				""".formatted(table));
+		countsRecursive = connection.prepareStatement("""
+				WITH RECURSIVE thread AS (
+					SELECT c.id, c.id AS root FROM %1$s c WHERE c.project_id = ? AND c.parent_comment_id IS NULL
+					UNION ALL
+					SELECT c.id, t.root FROM %1$s c JOIN thread t ON c.parent_comment_id = t.id
+				)
+				SELECT root, count(*) - 1 FROM thread GROUP BY root HAVING count(*) > 1
+				""".formatted(table));
+		countsPath = connection.prepareStatement("""
+				SELECT CAST(SUBSTRING(c.path, 1, 32) AS uuid), count(*) FROM %s c
+				WHERE c.project_id = ? AND c.path > ''
+				GROUP BY SUBSTRING(c.path, 1, 32)
+				""".formatted(table));
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public int subtreeRecursive() throws SQLException {
+		subtreeRecursive.setObject(1, rootId);
+		return drain(subtreeRecursive);
+	}
+
+	@Benchmark
+	public int subtreePath() throws SQLException {
+		subtreePath.setObject(1, projectId);
+		subtreePath.setString(2, from);
+		subtreePath.setString(3, to);
+		return drain(subtreePath);
+	}
+
+	@Benchmark
+	public int threeLevelsRecursive() throws SQLException {
+		levelsRecursive.setObject(1, rootId);
+		levelsRecursive.setInt(2, LEVELS);
+		return drain(levelsRecursive);
+	}
+
+	@Benchmark
+	public int threeLevelsPath() throws SQLException {
+		levelsPath.setObject(1, projectId);
+		levelsPath.setString(2, from);
+		levelsPath.setString(3, to);
+		levelsPath.setInt(4, LEVELS * CommentPath.SEGMENT_LENGTH);
+		return drain(levelsPath);
+	}
+
+	@Benchmark
+	public int replyCountsRecursive() throws SQLException {
+		countsRecursive.setObject(1, projectId);
+		return drain(countsRecursive);
+	}
+
+	@Benchmark
+	public int replyCountsPath() throws SQLException {
+		countsPath.setObject(1, projectId);
+		return drain(countsPath);
+	}
+
+	private int drain(PreparedStatement statement) throws SQLException {
+		int rows = 0;
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				rows++;
+			}
+		}
+		connection.commit();
+		return rows;
+	}
+
+	private void seedIfNeeded() throws SQLException {
+		int expected = threadSize + SMALL_THREADS * SMALL_THREAD_SIZE;
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE SCHEMA IF NOT EXISTS thread_bench");
+			statement.execute("""
+					CREATE TABLE IF NOT EXISTS %1$s (
+					    id UUID PRIMARY KEY,
+					    content TEXT NOT NULL,
+					    created_at TIMESTAMP NOT NULL,
+					    project_id UUID NOT NULL,
+					    parent_comment_id UUID REFERENCES %1$s(id),
+					    path TEXT COLLATE "C" NOT NULL DEFAULT '')
+					""".formatted(table));
+			statement.execute("CREATE INDEX IF NOT EXISTS comments_%d_parent ON %s(parent_comment_id)".formatted(threadSize, table));
+			statement.execute("CREATE INDEX IF NOT EXISTS comments_%d_project_path ON %s(project_id, path)".formatted(threadSize, table));
+			connection.commit();
+
+			try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+				resultSet.next();
+				if (resultSet.getLong(1) == expected) {
+					return;
+				}
+			}
+			statement.execute("TRUNCATE " + table);
+			connection.commit();
+		}
+
+		Random random = new Random(42);
+		UUID project = UUID.randomUUID();
+		List<Object[]> rows = new ArrayList<>(expected);
+		// The large thread is created first so it has the smallest root id
+		addThread(rows, threadSize, random);
+		for (int i = 0; i < SMALL_THREADS; i++) {
+			addThread(rows, SMALL_THREAD_SIZE, random);
+		}
+
+		try (PreparedStatement insert = connection.prepareStatement("INSERT INTO " + table
+				+ " (id, content, created_at, project_id, parent_comment_id, path) VALUES (?, ?, ?, ?, ?, ?)")) {
+			Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+			for (int i = 0; i < rows.size(); i++) {
+				Object[] row = rows.get(i);
+				insert.setObject(1, row[0]);
+				insert.setString(2, "Comment " + i);
+				insert.setTimestamp(3, now);
+				insert.setObject(4, project);
+				insert.setObject(5, row[1]);
+				insert.setString(6, (String) row[2]);
+				insert.addBatch();
+				if ((i + 1) % SEED_BATCH_SIZE == 0) {
+					insert.executeBatch();
+					connection.commit();
+				}
+			}
+			insert.executeBatch();
+			connection.commit();
+		}
+
+		// VACUUM cannot run inside a transaction; it sets the visibility map for index-only scans
+		connection.setAutoCommit(true);
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("VACUUM ANALYZE " + table);
+		}
+		connection.setAutoCommit(false);
+	}
+
+	/** Adds a thread where each reply hangs below a random earlier comment of the thread. */
+	private void addThread(List<Object[]> rows, int size, Random random) {
+		List<UUID> ids = new ArrayList<>(size);
+		Map<UUID, String> paths = new HashMap<>();
+		for (int i = 0; i < size; i++) {
+			UUID id = UuidV7.next();
+			UUID parent = i == 0 ? null : ids.get(random.nextInt(ids.size()));
+			String path = parent == null ? CommentPath.ROOT : paths.get(parent) + parent.toString().replace("-", "") + "/";
+			ids.add(id);
+			paths.put(id, path);
+			rows.add(new Object[] { id, parent, path });
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(CommentThreadBenchmark.class.getSimpleName()).build()).run();
+	}
+}
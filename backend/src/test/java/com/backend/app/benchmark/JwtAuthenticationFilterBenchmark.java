@@ -0,0 +1,142 @@
+package com.backend.app.benchmark;
+
+import java.io.IOException;
+import java.security.SecureRandom;
+import java.util.Base64;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+import org.springframework.lang.NonNull;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+import com.backend.app.filter.JwtAuthenticationFilter;
+import com.backend.app.security.TokenBlacklist;
+import com.backend.app.security.VerifiedClaimsCache;
+import com.backend.app.util.JwtUtil;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import io.jsonwebtoken.SignatureAlgorithm;
+import io.jsonwebtoken.security.Keys;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+
+/**
+ * Compares the throughput of {@link JwtAuthenticationFilter} with the previous
+ * implementation, which rebuilt the signing key and parser and re-verified the
+ * signature on every request.
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath com.backend.app.benchmark.JwtAuthenticationFilterBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+public class JwtAuthenticationFilterBenchmark {
+	private String token;
+	private JwtAuthenticationFilter cachedFilter;
+	private LegacyJwtFilter legacyFilter;
+
+	@Setup
+	public void setUp() {
+		byte[] secretBytes = new byte[32];
+		new SecureRandom().nextBytes(secretBytes);
+		String secret = Base64.getEncoder().encodeToString(secretBytes);
+
+		VerifiedClaimsCache claimsCache = new VerifiedClaimsCache(10_000);
+		JwtUtil jwtUtil = new JwtUtil(null, claimsCache);
+		ReflectionTestUtils.setField(jwtUtil, "secretKey", secret);
+		ReflectionTestUtils.invokeMethod(jwtUtil, "initSigningKey");
+
+		Map<String, Object> claims = new HashMap<>();
+		claims.put("sub", "user@example.com");
+		claims.put("userId", 42L);
+		token = Jwts.builder()
+				.setClaims(claims)
+				.setIssuedAt(new Date())
+				.setExpiration(new Date(System.currentTimeMillis() + TimeUnit.HOURS.toMillis(1)))
+				.signWith(jwtUtil.getSigningKey(), SignatureAlgorithm.HS256)
+				.compact();
+
+		cachedFilter = new JwtAuthenticationFilter(new TokenBlacklist(claimsCache, jwtUtil, null, 10_000), jwtUtil);
+		legacyFilter = new LegacyJwtFilter(secret);
+	}
+
+	@Benchmark
+	public int cachedKeyAndClaims() throws Exception {
+		return runFilter(cachedFilter);
+	}
+
+	@Benchmark
+	public int perRequestKeyAndParser() throws Exception {
+		return runFilter(legacyFilter);
+	}
+
+	private int runFilter(OncePerRequestFilter filter) throws Exception {
+		MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/dashboard/metrics");
+		request.addHeader("Authorization", "Bearer " + token);
+		MockHttpServletResponse response = new MockHttpServletResponse();
+		filter.doFilter(request, response, new MockFilterChain());
+		SecurityContextHolder.clearContext();
+		return response.getStatus();
+	}
+
+	/**
+	 * Reproduction of the filter's behaviour before the signing key and
+	 * parser were shared, used as the baseline.
+	 */
+	static class LegacyJwtFilter extends OncePerRequestFilter {
+		private final String secret;
+
+		LegacyJwtFilter(String secret) {
+			this.secret = secret;
+		}
+
+		@Override
+		protected void doFilterInternal(@NonNull HttpServletRequest request, @NonNull HttpServletResponse response,
+				@NonNull FilterChain filterChain) throws ServletException, IOException {
+			String jwt = request.getHeader("Authorization").substring("Bearer ".length());
+			Claims claims = Jwts.parserBuilder()
+					.setSigningKey(Keys.hmacShaKeyFor(Base64.getDecoder().decode(secret)))
+					.build()
+					.parseClaimsJws(jwt)
+					.getBody();
+			UsernamePasswordAuthenticationToken authentication = new UsernamePasswordAuthenticationToken(
+					claims.getSubject(), null, Collections.emptyList());
+			authentication.setDetails(Map.of("userId", claims.get("userId", Long.class)));
+			SecurityContextHolder.getContext().setAuthentication(authentication);
+			filterChain.doFilter(request, response);
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(JwtAuthenticationFilterBenchmark.class.getSimpleName()).build()).run();
+	}
+}
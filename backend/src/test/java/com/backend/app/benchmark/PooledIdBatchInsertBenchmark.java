@@ -0,0 +1,192 @@
+package com.backend.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Measures how fast a backlog of login records or project audit entries is
+ * written with the two id strategies Hibernate can use. With IDENTITY every
+ * row is a separate {@code INSERT ... RETURNING id} round trip, since the id is
+ * only known after the insert; with a pooled sequence (allocationSize 50) one
+ * {@code nextval} covers 50 rows and the inserts go out as JDBC batches of the
+ * configured {@code jpa.jdbc.batch-size}. Results are reported in rows per
+ * second. The tables live in their own {@code id_bench} schema and mirror
+ * user_login and project_audit_log.
+ *
+ * Needs a PostgreSQL database:
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench?reWriteBatchedInserts=true -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-Dbench.jdbc.url=... -cp %classpath com.backend.app.benchmark.PooledIdBatchInsertBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 5, time = 5)
+@Fork(1)
+public class PooledIdBatchInsertBenchmark {
+	private static final int BACKLOG = 10_000;
+	private static final int ALLOCATION_SIZE = 50;
+	private static final int BATCH_SIZE = 50;
+
+	@Param({"login", "audit"})
+	private String backlog;
+
+	private Connection connection;
+	private PreparedStatement identityInsert;
+	private PreparedStatement pooledInsert;
+	private PreparedStatement nextBlock;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url = System.getProperty("bench.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbench.jdbc.url (and bench.jdbc.user/bench.jdbc.password) to a PostgreSQL database");
+		}
+		connection = DriverManager.getConnection(url, System.getProperty("bench.jdbc.user"),
+				System.getProperty("bench.jdbc.password"));
+		connection.setAutoCommit(false);
+		createTables();
+
+		String columns = "login".equals(backlog)
+				? "(user_id, login_time, ip_address, user_agent)"
+				: "(project_id, project_title, original_owner_id, action_by_admin_id, action_by_admin_name, action, action_timestamp)";
+		String values = "login".equals(backlog) ? "(?, ?, ?, ?)" : "(?, ?, ?, ?, ?, ?, ?)";
+		identityInsert = connection.prepareStatement(
+				"INSERT INTO id_bench." + backlog + "_identity " + columns + " VALUES " + values + " RETURNING id");
+		pooledInsert = connection.prepareStatement("INSERT INTO id_bench." + backlog + "_pooled (id, "
+				+ columns.substring(1) + " VALUES (?, " + values.substring(1));
+		nextBlock = connection.prepareStatement("SELECT nextval('id_bench." + backlog + "_pooled_seq')");
+	}
+
+	@Setup(Level.Iteration)
+	public void truncate() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("TRUNCATE id_bench." + backlog + "_identity, id_bench." + backlog + "_pooled");
+		}
+		connection.commit();
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	/** One round trip per row, as Hibernate issues for IDENTITY ids. */
+	@Benchmark
+	@OperationsPerInvocation(BACKLOG)
+	public long identityPerRow() throws SQLException {
+		long lastId = 0;
+		for (int i = 0; i < BACKLOG; i++) {
+			bindRow(identityInsert, 1, i);
+			try (ResultSet resultSet = identityInsert.executeQuery()) {
+				resultSet.next();
+				lastId = resultSet.getLong(1);
+			}
+		}
+		connection.commit();
+		return lastId;
+	}
+
+	/** Ids taken from pooled blocks and rows flushed in JDBC batches. */
+	@Benchmark
+	@OperationsPerInvocation(BACKLOG)
+	public long pooledSequenceBatched() throws SQLException {
+		long nextId = 1;
+		long blockEnd = 0;
+		for (int i = 0; i < BACKLOG; i++) {
+			if (nextId > blockEnd) {
+				try (ResultSet resultSet = nextBlock.executeQuery()) {
+					resultSet.next();
+					blockEnd = resultSet.getLong(1);
+				}
+				nextId = blockEnd - ALLOCATION_SIZE + 1;
+			}
+			pooledInsert.setLong(1, nextId++);
+			bindRow(pooledInsert, 2, i);
+			pooledInsert.addBatch();
+			if ((i + 1) % BATCH_SIZE == 0) {
+				pooledInsert.executeBatch();
+			}
+		}
+		pooledInsert.executeBatch();
+		connection.commit();
+		return nextId;
+	}
+
+	private void bindRow(PreparedStatement statement, int index, int row) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		if ("login".equals(backlog)) {
+			statement.setLong(index, row % 1000 + 1);
+			statement.setTimestamp(index + 1, now);
+			statement.setString(index + 2, "10.0." + (row % 250) + "." + (row % 200));
+			statement.setString(index + 3, "Mozilla/5.0 (X11; Linux x86_64)");
+		} else {
+			statement.setObject(index, UUID.randomUUID());
+			statement.setString(index + 1, "Project " + row);
+			statement.setLong(index + 2, row % 1000 + 1);
+			statement.setLong(index + 3, 1);
+			statement.setString(index + 4, "admin");
+			statement.setString(index + 5, "DELETED");
+			statement.setTimestamp(index + 6, now);
+		}
+	}
+
+	private void createTables() throws SQLException {
+		String columns = "login".equals(backlog) ? """
+				user_id BIGINT NOT NULL,
+				login_time TIMESTAMP NOT NULL,
+				ip_address VARCHAR(45),
+				user_agent VARCHAR(512)
+				""" : """
+				project_id UUID NOT NULL,
+				project_title VARCHAR(255) NOT NULL,
+				original_owner_id BIGINT NOT NULL,
+				action_by_admin_id BIGINT NOT NULL,
+				action_by_admin_name VARCHAR(255) NOT NULL,
+				action VARCHAR(50) NOT NULL,
+				action_timestamp TIMESTAMP NOT NULL
+				""";
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE SCHEMA IF NOT EXISTS id_bench");
+			statement.execute("CREATE TABLE IF NOT EXISTS id_bench." + backlog
+					+ "_identity (id BIGINT GENERATED BY DEFAULT AS IDENTITY PRIMARY KEY, " + columns + ")");
+			statement.execute("CREATE SEQUENCE IF NOT EXISTS id_bench." + backlog + "_pooled_seq INCREMENT BY "
+					+ ALLOCATION_SIZE + " START WITH " + ALLOCATION_SIZE);
+			statement.execute("CREATE TABLE IF NOT EXISTS id_bench." + backlog + "_pooled (id BIGINT PRIMARY KEY, "
+					+ columns + ")");
+		}
+		connection.commit();
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(PooledIdBatchInsertBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,188 @@
+package com.backend.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.util.Locale;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+/**
+ * Compares the previous {@code lower(...) LIKE '%q%'} project search with the
+ * full-text/trigram search on a seeded PostgreSQL dataset. The benchmark seeds
+ * its own {@code search_bench} schema (1M projects by default) on the first
+ * run and reuses it afterwards; the statements mirror the SQL generated by
+ * {@link com.backend.app.service.ProjectSpecificationService} for the first
+ * page of results.
+ *
+ * Needs a PostgreSQL database with the pg_trgm extension available:
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-Dbench.jdbc.url=... -cp %classpath com.backend.app.benchmark.ProjectSearchBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 5)
+@Measurement(iterations = 3, time = 5)
+@Fork(1)
+public class ProjectSearchBenchmark {
+	private static final int PAGE_SIZE = 20;
+
+	private static final String LIKE_SQL = """
+			SELECT p.id FROM search_bench.projects p
+			WHERE lower(p.title) LIKE ? OR lower(p.description) LIKE ?
+			ORDER BY p.created_at DESC LIMIT ?
+			""";
+
+	private static final String FULL_TEXT_SQL = """
+			SELECT p.id FROM search_bench.projects p
+			WHERE EXISTS (SELECT 1 FROM search_bench.project_search_documents d
+			    WHERE d.project_id = p.id
+			    AND (d.document @@ websearch_to_tsquery('simple', ?) OR d.search_text LIKE ? OR ? <% d.search_text))
+			ORDER BY (SELECT ts_rank(d.document, websearch_to_tsquery('simple', ?)) + word_similarity(lower(?), d.search_text)
+			    FROM search_bench.project_search_documents d WHERE d.project_id = p.id) DESC, p.created_at DESC
+			LIMIT ?
+			""";
+
+	/** Exact word, phrase, and a misspelling only the trigram fallback finds. */
+	@Param({"quantum", "machine learning", "neurl"})
+	private String term;
+
+	@Param({"1000000"})
+	private int rows;
+
+	private Connection connection;
+	private PreparedStatement likeQuery;
+	private PreparedStatement fullTextQuery;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url = System.getProperty("bench.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbench.jdbc.url (and bench.jdbc.user/bench.jdbc.password) to a PostgreSQL database");
+		}
+		connection = DriverManager.getConnection(url, System.getProperty("bench.jdbc.user"),
+				System.getProperty("bench.jdbc.password"));
+		seedIfNeeded();
+		likeQuery = connection.prepareStatement(LIKE_SQL);
+		fullTextQuery = connection.prepareStatement(FULL_TEXT_SQL);
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		connection.close();
+	}
+
+	@Benchmark
+	public int likeScan() throws SQLException {
+		String pattern = "%" + term.toLowerCase(Locale.ROOT) + "%";
+		likeQuery.setString(1, pattern);
+		likeQuery.setString(2, pattern);
+		likeQuery.setInt(3, PAGE_SIZE);
+		return count(likeQuery);
+	}
+
+	@Benchmark
+	public int fullTextRanked() throws SQLException {
+		String normalized = term.toLowerCase(Locale.ROOT);
+		fullTextQuery.setString(1, term);
+		fullTextQuery.setString(2, "%" + normalized + "%");
+		fullTextQuery.setString(3, normalized);
+		fullTextQuery.setString(4, term);
+		fullTextQuery.setString(5, term);
+		fullTextQuery.setInt(6, PAGE_SIZE);
+		return count(fullTextQuery);
+	}
+
+	private int count(PreparedStatement statement) throws SQLException {
+		int found = 0;
+		try (ResultSet resultSet = statement.executeQuery()) {
+			while (resultSet.next()) {
+				found++;
+			}
+		}
+		return found;
+	}
+
+	/**
+	 * Builds projects from a fixed vocabulary so every term has matches, then
+	 * derives the search documents the same way the production trigger does.
+	 */
+	private void seedIfNeeded() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE EXTENSION IF NOT EXISTS pg_trgm");
+			statement.execute("CREATE SCHEMA IF NOT EXISTS search_bench");
+			statement.execute("""
+					CREATE TABLE IF NOT EXISTS search_bench.projects (
+					    id UUID PRIMARY KEY,
+					    title VARCHAR(256) NOT NULL,
+					    description TEXT NOT NULL,
+					    created_at TIMESTAMP NOT NULL)
+					""");
+			statement.execute("""
+					CREATE TABLE IF NOT EXISTS search_bench.project_search_documents (
+					    project_id UUID PRIMARY KEY REFERENCES search_bench.projects(id) ON DELETE CASCADE,
+					    document TSVECTOR NOT NULL,
+					    search_text TEXT NOT NULL)
+					""");
+
+			try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM search_bench.projects")) {
+				resultSet.next();
+				if (resultSet.getLong(1) >= rows) {
+					return;
+				}
+			}
+
+			statement.execute("TRUNCATE search_bench.projects CASCADE");
+			statement.execute("""
+					WITH vocabulary(words) AS (
+					    SELECT ARRAY['neural', 'network', 'quantum', 'computing', 'machine', 'learning', 'graph',
+					                 'database', 'energy', 'grid', 'robotics', 'vision', 'protein', 'folding',
+					                 'climate', 'model', 'compiler', 'security', 'sensor', 'fusion'])
+					INSERT INTO search_bench.projects (id, title, description, created_at)
+					SELECT gen_random_uuid(),
+					       initcap(v.words[1 + (i * 7) %% 20] || ' ' || v.words[1 + (i * 13) %% 20] || ' ' || i),
+					       v.words[1 + (i * 3) %% 20] || ' ' || v.words[1 + (i * 11) %% 20] || ' study of '
+					           || v.words[1 + (i * 17) %% 20] || ' ' || v.words[1 + (i * 19) %% 20] || ' systems',
+					       now() - (i %% 3650) * interval '1 day'
+					FROM generate_series(1, %d) AS i, vocabulary v
+					""".formatted(rows));
+			statement.execute("""
+					INSERT INTO search_bench.project_search_documents (project_id, document, search_text)
+					SELECT id,
+					       setweight(to_tsvector('simple', title), 'A') || setweight(to_tsvector('simple', description), 'B'),
+					       lower(concat_ws(' ', title, description))
+					FROM search_bench.projects
+					""");
+			statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_projects_created_at ON search_bench.projects(created_at)");
+			statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_search_document ON search_bench.project_search_documents USING gin(document)");
+			statement.execute("CREATE INDEX IF NOT EXISTS idx_bench_search_text ON search_bench.project_search_documents USING gin(search_text gin_trgm_ops)");
+			statement.execute("ANALYZE search_bench.projects");
+			statement.execute("ANALYZE search_bench.project_search_documents");
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(ProjectSearchBenchmark.class.getSimpleName()).build()).run();
+	}
+}
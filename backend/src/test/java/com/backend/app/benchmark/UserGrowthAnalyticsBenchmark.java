@@ -0,0 +1,121 @@
+package com.backend.app.benchmark;
+
+import java.lang.reflect.Proxy;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.LockSupport;
+import java.util.stream.Collectors;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.backend.app.dto.analytics.UserGrowthDTO;
+import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.UserAnalyticsService;
+
+/**
+ * Compares {@link UserAnalyticsService#getUserGrowthAnalytics} with the
+ * previous per-day loop for growing date ranges. The repository is a stub
+ * that counts statements and charges a fixed round trip for each one. The
+ * teardown fails the run if the windowed version issues more than one
+ * statement per call.
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-cp %classpath com.backend.app.benchmark.UserGrowthAnalyticsBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 2, time = 2)
+@Measurement(iterations = 3, time = 2)
+@Fork(1)
+public class UserGrowthAnalyticsBenchmark {
+	private static final long ROUND_TRIP_NANOS = TimeUnit.MICROSECONDS.toNanos(200);
+
+	@Param({"30", "180", "365"})
+	private int days;
+
+	private final AtomicLong statements = new AtomicLong();
+	private final AtomicLong windowedCalls = new AtomicLong();
+	private final AtomicLong windowedStatements = new AtomicLong();
+	private UserRepository userRepository;
+	private UserAnalyticsService userAnalyticsService;
+	private LocalDate startDate;
+	private LocalDate endDate;
+
+	@Setup
+	public void setUp() {
+		endDate = LocalDate.now();
+		startDate = endDate.minusDays(days);
+		userRepository = (UserRepository) Proxy.newProxyInstance(UserRepository.class.getClassLoader(),
+				new Class<?>[] {UserRepository.class}, (proxy, method, args) -> {
+					statements.incrementAndGet();
+					LockSupport.parkNanos(ROUND_TRIP_NANOS);
+					return switch (method.getName()) {
+					case "getUserGrowthSeries" -> series((LocalDate) args[0], (LocalDate) args[1], 3);
+					case "getRegistrationCountsByDate" -> series(startDate, endDate, 2);
+					case "countActiveUsersOnDate" -> 1L;
+					default -> throw new UnsupportedOperationException(method.getName());
+					};
+				});
+		userAnalyticsService = new UserAnalyticsService(userRepository);
+	}
+
+	@Benchmark
+	public List<UserGrowthDTO> windowedQuery() {
+		long before = statements.get();
+		List<UserGrowthDTO> result = userAnalyticsService.getUserGrowthAnalytics(startDate, endDate);
+		windowedStatements.addAndGet(statements.get() - before);
+		windowedCalls.incrementAndGet();
+		return result;
+	}
+
+	@Benchmark
+	public List<UserGrowthDTO> perDayQueries() {
+		return userRepository.getRegistrationCountsByDate(startDate.atStartOfDay(), endDate.atTime(23, 59, 59))
+				.stream()
+				.map(result -> {
+					LocalDate date = ((Date) result[0]).toLocalDate();
+					return new UserGrowthDTO(date, ((Number) result[1]).longValue(),
+							userRepository.countActiveUsersOnDate(date));
+				})
+				.collect(Collectors.toList());
+	}
+
+	@TearDown(Level.Iteration)
+	public void assertConstantStatementCount() {
+		if (windowedCalls.get() > 0 && windowedStatements.get() != windowedCalls.get()) {
+			throw new IllegalStateException("Expected one statement per call for " + days + " days but saw "
+					+ windowedStatements.get() + " for " + windowedCalls.get() + " calls");
+		}
+		windowedCalls.set(0);
+		windowedStatements.set(0);
+	}
+
+	private static List<Object[]> series(LocalDate start, LocalDate end, int columns) {
+		return start.datesUntil(end.plusDays(1))
+				.map(day -> columns == 3 ? new Object[] {Date.valueOf(day), 1L, 1L} : new Object[] {Date.valueOf(day), 1L})
+				.collect(Collectors.toList());
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(UserGrowthAnalyticsBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -0,0 +1,165 @@
+package com.backend.app.benchmark;
+
+import java.sql.Connection;
+import java.sql.DriverManager;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import com.backend.app.util.UuidV7;
+
+/**
+ * Compares random version 4 primary keys ({@code GenerationType.AUTO}) with
+ * the time-ordered keys of {@link com.backend.app.model.TimeOrderedUuidGenerator}
+ * on a PostgreSQL table holding 10M rows by default. Each generator gets its
+ * own table in the {@code uuid_bench} schema, filled on the first run with
+ * ids from that generator; the seeding rate is printed as the bulk-load
+ * figure. The benchmark then measures batched insert throughput into the full
+ * table, where random keys touch pages all over the index, and prints the
+ * primary-key index size after the trial.
+ *
+ * Needs a PostgreSQL database:
+ * -Dbench.jdbc.url=jdbc:postgresql://localhost:5432/bench?reWriteBatchedInserts=true -Dbench.jdbc.user=... -Dbench.jdbc.password=...
+ *
+ * Run with: mvn test-compile exec:exec -Dexec.executable=java -Dexec.classpathScope=test
+ * -Dexec.args="-Dbench.jdbc.url=... -cp %classpath com.backend.app.benchmark.UuidPrimaryKeyBenchmark"
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 2, time = 10)
+@Measurement(iterations = 5, time = 10)
+@Fork(1)
+public class UuidPrimaryKeyBenchmark {
+	private static final int BATCH_SIZE = 1000;
+	private static final int SEED_BATCH_SIZE = 10_000;
+
+	@Param({"random", "timeOrdered"})
+	private String generator;
+
+	@Param({"10000000"})
+	private int rows;
+
+	private Connection connection;
+	private PreparedStatement insert;
+	private Supplier<UUID> ids;
+	private String table;
+
+	@Setup
+	public void setUp() throws SQLException {
+		String url = System.getProperty("bench.jdbc.url");
+		if (url == null) {
+			throw new IllegalStateException("Set -Dbench.jdbc.url (and bench.jdbc.user/bench.jdbc.password) to a PostgreSQL database");
+		}
+		connection = DriverManager.getConnection(url, System.getProperty("bench.jdbc.user"),
+				System.getProperty("bench.jdbc.password"));
+		connection.setAutoCommit(false);
+		ids = "random".equals(generator) ? UUID::randomUUID : UuidV7::next;
+		table = "uuid_bench." + ("random".equals(generator) ? "random_ids" : "time_ordered_ids");
+
+		seedIfNeeded();
+		insert = connection.prepareStatement("INSERT INTO " + table + " (id, payload, created_at) VALUES (?, ?, ?)");
+	}
+
+	@TearDown
+	public void tearDown() throws SQLException {
+		try (Statement statement = connection.createStatement();
+				ResultSet resultSet = statement.executeQuery(
+						"SELECT pg_size_pretty(pg_relation_size('" + table + "_pkey')), "
+						+ "pg_size_pretty(pg_relation_size('" + table + "')), (SELECT count(*) FROM " + table + ")")) {
+			resultSet.next();
+			System.out.printf("%n[%s] rows=%d primary key index=%s heap=%s%n", generator, resultSet.getLong(3),
+					resultSet.getString(1), resultSet.getString(2));
+		}
+		connection.close();
+	}
+
+	@Benchmark
+	@OperationsPerInvocation(BATCH_SIZE)
+	public int[] insertBatch() throws SQLException {
+		int[] counts = insertRows(insert, BATCH_SIZE);
+		connection.commit();
+		return counts;
+	}
+
+	private int[] insertRows(PreparedStatement statement, int count) throws SQLException {
+		Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+		for (int i = 0; i < count; i++) {
+			statement.setObject(1, ids.get());
+			statement.setString(2, "row payload");
+			statement.setTimestamp(3, now);
+			statement.addBatch();
+		}
+		return statement.executeBatch();
+	}
+
+	/**
+	 * Loads the table through the same generator so the index reflects the
+	 * key distribution it would have in production.
+	 */
+	private void seedIfNeeded() throws SQLException {
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("CREATE SCHEMA IF NOT EXISTS uuid_bench");
+			statement.execute("""
+					CREATE TABLE IF NOT EXISTS %s (
+					    id UUID PRIMARY KEY,
+					    payload VARCHAR(64) NOT NULL,
+					    created_at TIMESTAMP NOT NULL)
+					""".formatted(table));
+			connection.commit();
+
+			try (ResultSet resultSet = statement.executeQuery("SELECT count(*) FROM " + table)) {
+				resultSet.next();
+				if (resultSet.getLong(1) >= rows) {
+					return;
+				}
+			}
+
+			statement.execute("TRUNCATE " + table);
+			connection.commit();
+		}
+
+		long start = System.nanoTime();
+		try (PreparedStatement seed = connection.prepareStatement(
+				"INSERT INTO " + table + " (id, payload, created_at) VALUES (?, ?, ?)")) {
+			for (int inserted = 0; inserted < rows; inserted += SEED_BATCH_SIZE) {
+				insertRows(seed, Math.min(SEED_BATCH_SIZE, rows - inserted));
+				connection.commit();
+			}
+		}
+		double seconds = (System.nanoTime() - start) / 1e9;
+		System.out.printf("%n[%s] seeded %d rows in %.1f s (%.0f rows/s)%n", generator, rows, seconds, rows / seconds);
+
+		try (Statement statement = connection.createStatement()) {
+			statement.execute("ANALYZE " + table);
+			connection.commit();
+		}
+	}
+
+	public static void main(String[] args) throws RunnerException {
+		new Runner(new OptionsBuilder().include(UuidPrimaryKeyBenchmark.class.getSimpleName()).build()).run();
+	}
+}
@@ -26,12 +26,14 @@ import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.web.PageableHandlerMethodArgumentResolver;
+import org.springframework.http.MediaType;
 import org.springframework.security.core.Authentication;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.backend.app.dto.model.UserDTO;
 import com.backend.app.dto.model.UserLoginDTO;
+import com.backend.app.dto.request.BulkCommentDeleteRequest;
 import com.backend.app.dto.response.ProjectResponse;
 import com.backend.app.exception.BusinessRuleException;
 import com.backend.app.mapper.CommentMapper;
@@ -135,6 +137,33 @@ public class AdminControllerTest {
                .andExpect(status().isNoContent());
     }
     
+    @Test
+    void bulkDeleteComments_shouldReturnRemovedCount() throws Exception {
+        BulkCommentDeleteRequest request = new BulkCommentDeleteRequest(List.of(UUID.randomUUID()), 7L);
+        when(adminService.bulkDeleteComments(any(BulkCommentDeleteRequest.class), anyString())).thenReturn(12L);
+        when(authentication.getName()).thenReturn("admin@example.com");
+        
+        mockMvc.perform(post("/api/admin/comments/bulk-delete")
+               .principal(authentication)
+               .contentType(MediaType.APPLICATION_JSON)
+               .content(objectMapper.writeValueAsString(request)))
+               .andExpect(status().isOk())
+               .andExpect(jsonPath("$.data").value(12));
+    }
+    
+    @Test
+    void bulkDeleteComments_shouldRejectEmptyRequest() throws Exception {
+        when(adminService.bulkDeleteComments(any(BulkCommentDeleteRequest.class), anyString()))
+            .thenThrow(new BusinessRuleException("Provide comment IDs or a user ID"));
+        when(authentication.getName()).thenReturn("admin@example.com");
+        
+        mockMvc.perform(post("/api/admin/comments/bulk-delete")
+               .principal(authentication)
+               .contentType(MediaType.APPLICATION_JSON)
+               .content("{}"))
+               .andExpect(status().isBadRequest());
+    }
+    
     @Test
     void getRecentLogins_shouldReturnLoginData() throws Exception {
         List<UserLoginDTO> logins = List.of(new UserLoginDTO());
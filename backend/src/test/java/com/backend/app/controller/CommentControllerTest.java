@@ -8,7 +8,9 @@ import static org.springframework.test.web.servlet.request.MockMvcRequestBuilder
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.post;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.put;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
 import java.util.List;
@@ -23,11 +25,16 @@ import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.http.MediaType;
 import org.springframework.test.web.servlet.MockMvc;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 import com.backend.app.dto.create.CreateCommentDTO;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.model.CommentDTO;
+import com.backend.app.exception.RateLimitExceededException;
+import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.security.SecurityUtils;
 import com.backend.app.service.CommentService;
+import com.backend.app.service.CommentStreamService;
 import com.fasterxml.jackson.databind.ObjectMapper;
 
 @ExtendWith(MockitoExtension.class)
@@ -39,6 +46,8 @@ public class CommentControllerTest {
 	private CommentService commentService;
 	@Mock
 	private SecurityUtils securityUtils;
+	@Mock
+	private CommentStreamService commentStreamService;
 
 	@InjectMocks
 	private CommentController commentController;
@@ -75,6 +84,52 @@ public class CommentControllerTest {
                 .andExpect(jsonPath("$.data[0].id").value(commentId.toString()));
     }
     
+    @Test
+    void testStreamCommentsOpensEventStream() throws Exception {
+        when(securityUtils.getCurrentUserId()).thenReturn(userId);
+        when(commentStreamService.subscribe(projectId, userId)).thenReturn(new SseEmitter());
+        
+        mockMvc.perform(get("/api/comments/project/" + projectId + "/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(request().asyncStarted());
+    }
+    
+    @Test
+    void testStreamCommentsForMissingProject() throws Exception {
+        when(securityUtils.getCurrentUserId()).thenReturn(userId);
+        when(commentStreamService.subscribe(projectId, userId)).thenThrow(new ResourceNotFoundException("Project not found"));
+        
+        mockMvc.perform(get("/api/comments/project/" + projectId + "/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isNotFound());
+    }
+    
+    @Test
+    void testStreamCommentsOverUserLimit() throws Exception {
+        when(securityUtils.getCurrentUserId()).thenReturn(userId);
+        when(commentStreamService.subscribe(projectId, userId))
+                .thenThrow(new RateLimitExceededException("Too many open comment streams", 60));
+        
+        mockMvc.perform(get("/api/comments/project/" + projectId + "/stream")
+                .accept(MediaType.TEXT_EVENT_STREAM))
+                .andExpect(status().isTooManyRequests())
+                .andExpect(header().string("Retry-After", "60"));
+    }
+    
+    @Test
+    void testGetCommentsByUserIdChunkClampsSize() throws Exception {
+        when(commentService.getCommentsByUserIdChunk(userId, "", 100))
+                .thenReturn(KeysetPage.of(List.of(commentDTO), 100, comment -> "next"));
+        when(commentService.getCommentsByUserIdChunk(userId, "", 1))
+                .thenReturn(KeysetPage.of(List.of(commentDTO), 1, comment -> "next"));
+        
+        mockMvc.perform(get("/api/comments/user/" + userId).param("cursor", "").param("size", "1000000"))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.data[0].id").value(commentId.toString()));
+        mockMvc.perform(get("/api/comments/user/" + userId).param("cursor", "").param("size", "0"))
+                .andExpect(status().isOk());
+    }
+    
     @Test
     void testCreateComment() throws Exception {
         when(securityUtils.getCurrentUserId()).thenReturn(userId);
@@ -2,13 +2,22 @@ package com.backend.app.controller;
 
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.ArgumentMatchers.isNull;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.asyncDispatch;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.delete;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
 import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.multipart;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.content;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.request;
 import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
 
+import java.io.ByteArrayInputStream;
 import java.util.Arrays;
 import java.util.List;
 import java.util.UUID;
@@ -21,13 +30,19 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.test.web.servlet.MockMvc;
+import org.springframework.test.web.servlet.MvcResult;
 import org.springframework.test.web.servlet.setup.MockMvcBuilders;
 
 import com.backend.app.dto.model.FileMetadataDTO;
 import com.backend.app.enums.ProjectType;
+import com.backend.app.model.FileMetadata;
 import com.backend.app.repository.FileMetadataRepository;
 import com.backend.app.service.S3Service;
 
+import software.amazon.awssdk.core.ResponseInputStream;
+import software.amazon.awssdk.http.AbortableInputStream;
+import software.amazon.awssdk.services.s3.model.GetObjectResponse;
+
 @ExtendWith(MockitoExtension.class)
 public class S3ControllerTest {
 	private MockMvc mockMvc;
@@ -138,4 +153,75 @@ public class S3ControllerTest {
             .andExpect(jsonPath("$.success").value(true))
             .andExpect(jsonPath("$.data[0].fileName").value(testFileName));
     }
+    
+    @Test
+    void downloadFile_ShouldStreamWholeFileWithETag() throws Exception {
+    	FileMetadata metadata = downloadableFile();
+    	when(s3Service.openObjectStream(eq(metadata), isNull())).thenReturn(objectStream("0123456789"));
+    	
+    	MvcResult result = mockMvc.perform(get("/api/s3/download/{fileId}", metadata.getId()))
+    		.andExpect(request().asyncStarted())
+    		.andReturn();
+    	
+    	mockMvc.perform(asyncDispatch(result))
+    		.andExpect(status().isOk())
+    		.andExpect(header().string("ETag", "\"abc123\""))
+    		.andExpect(header().string("Accept-Ranges", "bytes"))
+    		.andExpect(header().longValue("Content-Length", 10L))
+    		.andExpect(content().string("0123456789"));
+    }
+    
+    @Test
+    void downloadFile_WithMatchingETag_ShouldReturnNotModified() throws Exception {
+    	FileMetadata metadata = downloadableFile();
+    	
+    	mockMvc.perform(get("/api/s3/download/{fileId}", metadata.getId()).header("If-None-Match", "\"abc123\""))
+    		.andExpect(status().isNotModified())
+    		.andExpect(header().string("ETag", "\"abc123\""));
+    	
+    	verify(s3Service, never()).openObjectStream(any(), any());
+    }
+    
+    @Test
+    void downloadFile_WithRange_ShouldReturnPartialContent() throws Exception {
+    	FileMetadata metadata = downloadableFile();
+    	when(s3Service.openObjectStream(metadata, "bytes=2-5")).thenReturn(objectStream("2345"));
+    	
+    	MvcResult result = mockMvc.perform(get("/api/s3/download/{fileId}", metadata.getId()).header("Range", "bytes=2-5"))
+    		.andExpect(request().asyncStarted())
+    		.andReturn();
+    	
+    	mockMvc.perform(asyncDispatch(result))
+    		.andExpect(status().isPartialContent())
+    		.andExpect(header().string("Content-Range", "bytes 2-5/10"))
+    		.andExpect(header().longValue("Content-Length", 4L))
+    		.andExpect(content().string("2345"));
+    }
+    
+    @Test
+    void downloadFile_WithUnsatisfiableRange_ShouldReturn416() throws Exception {
+    	FileMetadata metadata = downloadableFile();
+    	
+    	mockMvc.perform(get("/api/s3/download/{fileId}", metadata.getId()).header("Range", "bytes=50-60"))
+    		.andExpect(status().isRequestedRangeNotSatisfiable())
+    		.andExpect(header().string("Content-Range", "bytes */10"));
+    }
+    
+    private FileMetadata downloadableFile() {
+    	FileMetadata metadata = FileMetadata.builder()
+    		.id(UUID.randomUUID())
+    		.fileName(testFileName)
+    		.entityType(testEntityType)
+    		.entityId(testEntityId)
+    		.fileSize(10L)
+    		.checksum("abc123")
+    		.build();
+    	when(s3Service.getDownloadableFile(metadata.getId())).thenReturn(metadata);
+    	return metadata;
+    }
+    
+    private ResponseInputStream<GetObjectResponse> objectStream(String content) {
+    	return new ResponseInputStream<>(GetObjectResponse.builder().contentType("text/plain").build(),
+    			AbortableInputStream.create(new ByteArrayInputStream(content.getBytes())));
+    }
 }
@@ -4,10 +4,12 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.time.LocalDateTime;
-import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -19,14 +21,18 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.backend.app.dto.model.CommentDTO;
 import com.backend.app.model.Comment;
+import com.backend.app.model.CommentLikeId;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
+import com.backend.app.repository.CommentLikeRepository;
 import com.backend.app.security.SecurityUtils;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentMapperTest {
 	@Mock
 	private SecurityUtils securityUtils;
+	@Mock
+	private CommentLikeRepository commentLikeRepository;
 	
 @InjectMocks 
 private CommentMapper commentMapper;
@@ -62,7 +68,6 @@ private CommentMapper commentMapper;
                 .user(user)
                 .project(project)
                 .parentComment(parentComment)
-                .likedByUsers(Set.of(1L, 2L))
                 .build();
     }
     
@@ -70,6 +75,7 @@ private CommentMapper commentMapper;
     void testToDTO() {
         when(securityUtils.getCurrentUserId()).thenReturn(1L); 
         // Current user liked the comment
+        when(commentLikeRepository.existsById(new CommentLikeId(comment.getId(), 1L))).thenReturn(true);
         
         CommentDTO dto = commentMapper.toDTO(comment);
         
@@ -102,6 +108,7 @@ private CommentMapper commentMapper;
         
         CommentDTO dto = commentMapper.toDTO(comment);
         assertFalse(dto.isLikedByCurrentUser());
+        verify(commentLikeRepository, never()).existsById(any());
     }
     
     @Test
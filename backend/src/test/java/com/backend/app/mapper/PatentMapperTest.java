@@ -3,16 +3,20 @@ package com.backend.app.mapper;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -23,6 +27,7 @@ import com.backend.app.model.PatentCoInventor;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
 import com.backend.app.repository.ProjectRepository;
+import com.backend.app.repository.TagRepository;
 import com.backend.app.repository.UserRepository;
 
 import io.micrometer.core.instrument.config.validate.ValidationException;
@@ -31,8 +36,9 @@ import io.micrometer.core.instrument.config.validate.ValidationException;
 public class PatentMapperTest {
 	 @Mock private ProjectRepository projectRepository;
 	    @Mock private UserRepository userRepository;
+	    @Mock private TagRepository tagRepository;
 	    
-	    @InjectMocks private PatentMapper patentMapper;
+	    private PatentMapper patentMapper;
 	    
 	    private Patent patent;
 	    private PatentDTO patentDTO;
@@ -42,6 +48,8 @@ public class PatentMapperTest {
 	    
 	    @BeforeEach
 	    void setUp() {
+	        patentMapper = new PatentMapper(projectRepository, new ReferenceResolver(userRepository, tagRepository));
+	        
 	        project = Project.builder().id(UUID.randomUUID()).build();
 	        primaryAuthor = User.builder().id(1L).username("inventor").build();
 	        coInventor = User.builder().id(2L).username("co-inventor").build();
@@ -80,8 +88,8 @@ public class PatentMapperTest {
 	    @Test
 	    void testToEntity() {
 	        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
-	        when(userRepository.findById(primaryAuthor.getId())).thenReturn(Optional.of(primaryAuthor));
-	        when(userRepository.findById(coInventor.getId())).thenReturn(Optional.of(coInventor));
+	        when(userRepository.findAllById(Set.of(coInventor.getId(), primaryAuthor.getId())))
+	        		.thenReturn(List.of(primaryAuthor, coInventor));
 	        
 	        Patent result = patentMapper.toEntity(patentDTO);
 	        
@@ -89,6 +97,19 @@ public class PatentMapperTest {
 	        assertEquals(project, result.getProject());
 	        assertEquals(primaryAuthor, result.getPrimaryAuthor());
 	        assertEquals(1, result.getCoInventors().size());
+	        verify(userRepository, never()).findById(any());
+	    }
+	    
+	    @Test
+	    void testToEntityReportsEveryMissingUser() {
+	        patentDTO.setCoInventors(List.of(coInventor.getId(), 7L, 9L));
+	        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+	        when(userRepository.findAllById(any())).thenReturn(List.of(primaryAuthor, coInventor));
+	        
+	        jakarta.validation.ValidationException exception = assertThrows(jakarta.validation.ValidationException.class,
+	        		() -> patentMapper.toEntity(patentDTO));
+	        
+	        assertTrue(exception.getMessage().contains("Users not found with IDs: [7, 9]"));
 	    }
 	    
 	   
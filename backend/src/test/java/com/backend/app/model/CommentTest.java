@@ -1,7 +1,6 @@
 package com.backend.app.model;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
@@ -44,7 +43,6 @@ public class CommentTest {
 	        assertEquals(project, comment.getProject());
 	        assertNull(comment.getParentComment());
 	        assertTrue(comment.getReplies().isEmpty());
-	        assertTrue(comment.getLikedByUsers().isEmpty());
 	    }
 	    
 	    @Test
@@ -65,27 +63,4 @@ public class CommentTest {
 	        assertEquals(0, comment.getReplies().size());
 	        assertNull(reply.getParentComment());
 	    }
-	    
-	    
-	    @Test
-	    void testLikeIncrementDecrement() {
-	        comment.incrementLikes();
-	        assertEquals(1, comment.getLikes());
-	        
-	        comment.decrementLikes();
-	        assertEquals(0, comment.getLikes());
-	        
-	        comment.decrementLikes();
-	        assertEquals(0, comment.getLikes());
-	    }
-	    
-	    @Test
-	    void testUserLikeTracking() {
-	        Long userId = 2L;
-	        comment.getLikedByUsers().add(userId);
-	        assertTrue(comment.getLikedByUsers().contains(userId));
-	        
-	        comment.getLikedByUsers().remove(userId);
-	        assertFalse(comment.getLikedByUsers().contains(userId));
-	    }
 }
@@ -0,0 +1,86 @@
+package com.backend.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+
+import java.io.IOException;
+import java.lang.reflect.Field;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import jakarta.persistence.GeneratedValue;
+import jakarta.persistence.GenerationType;
+import jakarta.persistence.SequenceGenerator;
+
+/**
+ * IDENTITY ids disable JDBC insert batching, so these entities must keep a
+ * pooled sequence whose allocation size matches the INCREMENT BY of the
+ * sequence created in Script.sql. The increments are read from the script
+ * itself, both from plain ALTER SEQUENCE statements and from the DO block that
+ * converts identity columns for a list of tables.
+ */
+public class PooledIdentifierMappingTest {
+	private static final int ALLOCATION_SIZE = 50;
+	private static final Pattern ALTER_SEQUENCE = Pattern.compile(
+			"ALTER SEQUENCE diploma\\.(\\w+) INCREMENT BY (\\d+);");
+	private static final Pattern DO_BLOCK = Pattern.compile("DO \\$\\$(.*?)END \\$\\$;", Pattern.DOTALL);
+	private static final Pattern TABLE_LOOP = Pattern.compile("FOREACH t IN ARRAY ARRAY\\[([^\\]]+)\\] LOOP");
+	private static final Pattern LOOP_INCREMENT = Pattern.compile("'ALTER SEQUENCE %s INCREMENT BY (\\d+)'");
+
+	private static Map<String, Integer> scriptIncrements;
+
+	@BeforeAll
+	static void readScript() throws IOException {
+		String script = Files.readString(Path.of(System.getProperty("basedir", "."), "..", "Script.sql"));
+		scriptIncrements = new HashMap<>();
+
+		Matcher alter = ALTER_SEQUENCE.matcher(script);
+		while (alter.find()) {
+			scriptIncrements.put(alter.group(1), Integer.parseInt(alter.group(2)));
+		}
+
+		Matcher block = DO_BLOCK.matcher(script);
+		while (block.find()) {
+			Matcher tables = TABLE_LOOP.matcher(block.group(1));
+			Matcher increment = LOOP_INCREMENT.matcher(block.group(1));
+			if (tables.find() && increment.find()) {
+				for (String table : tables.group(1).split(",")) {
+					// Sequences of converted identity columns are named <table>_id_seq
+					scriptIncrements.put(table.trim().replace("'", "") + "_id_seq", Integer.parseInt(increment.group(1)));
+				}
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@CsvSource({
+		"com.backend.app.model.User, users_id_seq",
+		"com.backend.app.model.UserLogin, user_login_id_seq",
+		"com.backend.app.model.ProjectAuditLog, project_audit_log_id_seq",
+		"com.backend.app.model.PublicationAuthor, publications_authors_id_seq",
+		"com.backend.app.model.PatentCoInventor, patents_co_inventors_id_seq",
+		"com.backend.app.model.ResearchParticipant, research_projects_participants_id_seq"
+	})
+	void testIdUsesPooledSequence(String entity, String sequenceName) throws Exception {
+		Field id = Class.forName(entity).getDeclaredField("id");
+		GeneratedValue generatedValue = id.getAnnotation(GeneratedValue.class);
+		SequenceGenerator sequence = id.getAnnotation(SequenceGenerator.class);
+
+		assertNotNull(generatedValue);
+		assertNotNull(sequence);
+		assertEquals(GenerationType.SEQUENCE, generatedValue.strategy());
+		assertEquals(sequence.name(), generatedValue.generator());
+		assertEquals(sequenceName, sequence.sequenceName());
+		assertEquals(ALLOCATION_SIZE, sequence.allocationSize());
+		assertEquals(sequence.allocationSize(), scriptIncrements.get(sequenceName),
+				"INCREMENT BY of " + sequenceName + " in Script.sql");
+	}
+}
@@ -0,0 +1,81 @@
+package com.backend.app.model;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.hibernate.generator.EventType;
+import org.junit.jupiter.api.Test;
+
+import com.backend.app.util.UuidV7;
+
+public class TimeOrderedUuidGeneratorTest {
+	private final TimeOrderedUuidGenerator generator = new TimeOrderedUuidGenerator();
+
+	@Test
+	void testGeneratesVersion7Uuid() {
+		long before = System.currentTimeMillis();
+		UUID id = (UUID) generator.generate(null, new Tag(), null, EventType.INSERT);
+		long after = System.currentTimeMillis();
+
+		assertEquals(7, id.version());
+		assertEquals(2, id.variant());
+		long timestamp = UuidV7.timestampOf(id);
+		assertTrue(timestamp >= before && timestamp <= after + 1, "Timestamp " + timestamp + " outside of generation window");
+	}
+
+	@Test
+	void testConsecutiveIdsAreStrictlyIncreasing() {
+		UUID previous = UuidV7.next();
+		for (int i = 0; i < 100_000; i++) {
+			UUID next = UuidV7.next();
+			// The high half carries timestamp and counter; it is positive for any realistic clock
+			assertTrue(next.getMostSignificantBits() > previous.getMostSignificantBits(),
+					next + " does not sort after " + previous);
+			previous = next;
+		}
+	}
+
+	@Test
+	void testConcurrentGenerationProducesUniqueIds() throws Exception {
+		Set<UUID> ids = ConcurrentHashMap.newKeySet();
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						ids.add(UuidV7.next());
+					}
+				}));
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+
+		assertEquals(160_000, ids.size());
+	}
+
+	@Test
+	void testTimestampOfRejectsOtherVersions() {
+		assertThrows(IllegalArgumentException.class, () -> UuidV7.timestampOf(UUID.randomUUID()));
+	}
+
+	@Test
+	void testAppliesToInsertsOnly() {
+		assertEquals(Set.of(EventType.INSERT), new HashSet<>(generator.getEventTypes()));
+	}
+}
@@ -0,0 +1,190 @@
+package com.backend.app.repository;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.AnnotatedBeanDefinition;
+import org.springframework.beans.factory.config.BeanDefinition;
+import org.springframework.context.annotation.ClassPathScanningCandidateComponentProvider;
+import org.springframework.core.ResolvableType;
+import org.springframework.core.type.filter.AnnotationTypeFilter;
+import org.springframework.core.type.filter.AssignableTypeFilter;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.Repository;
+import org.springframework.util.ClassUtils;
+import org.springframework.util.ReflectionUtils;
+
+import com.backend.app.model.Project;
+
+import jakarta.persistence.Entity;
+
+/**
+ * Guards against repository queries that fetch-join a collection while being
+ * paginated. Hibernate cannot apply LIMIT/OFFSET to such queries and pages the
+ * full result in memory instead, so they are rejected here by inspecting every
+ * JPQL {@link Query} that takes a {@link Pageable} or {@link Limit}.
+ */
+public class RepositoryPaginationGuardTest {
+	private static final String BASE_PACKAGE = "com.backend.app";
+	private static final Pattern ROOT = Pattern.compile("(?i)\\bFROM\\s+(\\w+)\\s+(?:AS\\s+)?(\\w+)");
+	private static final Pattern FETCH_JOIN = Pattern.compile(
+			"(?i)\\bJOIN\\s+FETCH\\s+(\\w+)\\.(\\w+)(?:\\s+(?:AS\\s+)?(?!(?:LEFT|RIGHT|INNER|JOIN|WHERE|ORDER|GROUP|ON)\\b)(\\w+))?");
+
+	private static final Map<String, Class<?>> entities = new HashMap<>();
+
+	@BeforeAll
+	static void scanEntities() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false);
+		scanner.addIncludeFilter(new AnnotationTypeFilter(Entity.class));
+		for (BeanDefinition definition : scanner.findCandidateComponents(BASE_PACKAGE)) {
+			Class<?> entity = ClassUtils.resolveClassName(definition.getBeanClassName(), null);
+			entities.put(entity.getSimpleName(), entity);
+		}
+	}
+
+	@Test
+	void testNoRepositoryPaginatesACollectionFetchJoin() {
+		ClassPathScanningCandidateComponentProvider scanner = new ClassPathScanningCandidateComponentProvider(false) {
+			@Override
+			protected boolean isCandidateComponent(AnnotatedBeanDefinition beanDefinition) {
+				return beanDefinition.getMetadata().isInterface() && !beanDefinition.getMetadata().hasEnclosingClass();
+			}
+		};
+		scanner.addIncludeFilter(new AssignableTypeFilter(Repository.class));
+
+		List<String> violations = new ArrayList<>();
+		List<Class<?>> repositories = new ArrayList<>();
+		for (BeanDefinition definition : scanner.findCandidateComponents(BASE_PACKAGE)) {
+			Class<?> repository = ClassUtils.resolveClassName(definition.getBeanClassName(), null);
+			repositories.add(repository);
+			violations.addAll(findViolations(repository));
+		}
+
+		assertTrue(repositories.contains(ProjectRepository.class), "Repositories were not scanned");
+		assertTrue(violations.isEmpty(), () -> "Paginated collection fetch joins: " + violations);
+	}
+
+	@Test
+	void testGuardDetectsPaginatedCollectionFetchJoin() {
+		assertEquals(2, findViolations(BrokenRepository.class).size());
+	}
+
+	@Test
+	void testFindAllWithDetailsPagesIdsBeforeLoadingDetails() {
+		ProjectRepository repository = mock(ProjectRepository.class);
+		Pageable pageable = PageRequest.of(2, 3);
+		Project first = Project.builder().id(UUID.randomUUID()).build();
+		Project second = Project.builder().id(UUID.randomUUID()).build();
+		UUID deleted = UUID.randomUUID();
+		List<UUID> ids = List.of(second.getId(), deleted, first.getId());
+
+		when(repository.findAllWithDetails(any())).thenCallRealMethod();
+		when(repository.findPageOfIds(pageable)).thenReturn(new PageImpl<>(ids, pageable, 40));
+		when(repository.findAllWithDetailsByIdIn(ids)).thenReturn(List.of(first, second));
+
+		Page<Project> result = repository.findAllWithDetails(pageable);
+
+		assertEquals(List.of(second, first), result.getContent());
+		assertEquals(40, result.getTotalElements());
+		assertEquals(2, result.getNumber());
+	}
+
+	@Test
+	void testFindAllWithDetailsSkipsDetailQueryForEmptyPage() {
+		ProjectRepository repository = mock(ProjectRepository.class);
+		Pageable pageable = PageRequest.of(5, 10);
+
+		when(repository.findAllWithDetails(any())).thenCallRealMethod();
+		when(repository.findPageOfIds(pageable)).thenReturn(new PageImpl<>(List.of(), pageable, 12));
+
+		Page<Project> result = repository.findAllWithDetails(pageable);
+
+		assertTrue(result.getContent().isEmpty());
+		assertEquals(12, result.getTotalElements());
+		verify(repository, never()).findAllWithDetailsByIdIn(any());
+	}
+
+	private static List<String> findViolations(Class<?> repository) {
+		List<String> violations = new ArrayList<>();
+		for (Method method : repository.getDeclaredMethods()) {
+			Query query = method.getAnnotation(Query.class);
+			if (query == null || query.nativeQuery() || !isPaginated(method)) {
+				continue;
+			}
+			for (String path : findCollectionFetchJoins(query.value())) {
+				violations.add(repository.getSimpleName() + "." + method.getName() + " fetches " + path);
+			}
+		}
+		return violations;
+	}
+
+	private static boolean isPaginated(Method method) {
+		return Arrays.stream(method.getParameterTypes())
+				.anyMatch(type -> Pageable.class.isAssignableFrom(type) || Limit.class.isAssignableFrom(type));
+	}
+
+	private static List<String> findCollectionFetchJoins(String jpql) {
+		Map<String, Class<?>> aliases = new HashMap<>();
+		Matcher root = ROOT.matcher(jpql);
+		while (root.find()) {
+			Class<?> entity = entities.get(root.group(1));
+			if (entity != null) {
+				aliases.put(root.group(2), entity);
+			}
+		}
+
+		List<String> collections = new ArrayList<>();
+		Matcher fetch = FETCH_JOIN.matcher(jpql);
+		while (fetch.find()) {
+			Class<?> owner = aliases.get(fetch.group(1));
+			Field field = owner == null ? null : ReflectionUtils.findField(owner, fetch.group(2));
+			if (field == null) {
+				continue;
+			}
+
+			ResolvableType type = ResolvableType.forField(field);
+			boolean collection = Collection.class.isAssignableFrom(field.getType())
+					|| Map.class.isAssignableFrom(field.getType());
+			if (collection) {
+				collections.add(fetch.group(1) + "." + fetch.group(2));
+			}
+			if (fetch.group(3) != null) {
+				Class<?> target = collection ? type.asCollection().resolveGeneric(0) : field.getType();
+				aliases.put(fetch.group(3), target);
+			}
+		}
+		return collections;
+	}
+
+	interface BrokenRepository extends Repository<Project, UUID> {
+		@Query("SELECT p FROM Project p LEFT JOIN FETCH p.tags t LEFT JOIN FETCH t.projects WHERE p.title = :title")
+		Page<Project> findByTitle(String title, Pageable pageable);
+
+		@Query("SELECT p FROM Project p JOIN FETCH p.creator")
+		List<Project> findWithCreator(Limit limit);
+	}
+}
@@ -0,0 +1,70 @@
+package com.backend.app.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.when;
+
+import java.time.Instant;
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.app.model.ActiveToken;
+import com.backend.app.repository.ActiveTokenRepository;
+import com.backend.app.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenBlacklistTest {
+	@Mock
+	private JwtUtil jwtUtil;
+	@Mock
+	private ActiveTokenRepository activeTokenRepository;
+
+	private TokenBlacklist tokenBlacklist;
+
+	@BeforeEach
+	void setUp() {
+		tokenBlacklist = new TokenBlacklist(new VerifiedClaimsCache(100), jwtUtil, activeTokenRepository, 1000);
+	}
+
+	@Test
+	void addToBlacklist_ShouldRevokeUntilExpiry() {
+		tokenBlacklist.addToBlacklist("revoked-token", Instant.now().plusSeconds(3600));
+
+		assertTrue(tokenBlacklist.isBlacklisted("revoked-token"));
+		assertFalse(tokenBlacklist.isBlacklisted("other-token"));
+	}
+
+	@Test
+	void addToBlacklist_ShouldIgnoreExpiredTokens() {
+		tokenBlacklist.addToBlacklist("expired-token", Instant.now().minusSeconds(1));
+
+		assertFalse(tokenBlacklist.isBlacklisted("expired-token"));
+		assertEquals(0, tokenBlacklist.size());
+	}
+
+	@Test
+	void rebuildBloomFilter_ShouldKeepLiveRevocations() {
+		tokenBlacklist.addToBlacklist("revoked-token", Instant.now().plusSeconds(3600));
+
+		tokenBlacklist.rebuildBloomFilter();
+
+		assertTrue(tokenBlacklist.isBlacklisted("revoked-token"));
+	}
+
+	@Test
+	void loadPersistedRevocations_ShouldRestoreRevokedTokens() {
+		when(activeTokenRepository.findByRevokedTrueAndExpiryAfter(any()))
+				.thenReturn(List.of(new ActiveToken("persisted-token", 1L, Instant.now().plusSeconds(600), true)));
+
+		tokenBlacklist.loadPersistedRevocations();
+
+		assertTrue(tokenBlacklist.isBlacklisted("persisted-token"));
+	}
+}
@@ -0,0 +1,66 @@
+package com.backend.app.security;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.app.repository.ActiveTokenRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class TokenCleanupTaskTest {
+	@Mock
+	private ActiveTokenRepository activeTokenRepository;
+
+	private MeterRegistry meterRegistry;
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+	}
+
+	@Test
+	void cleanupExpiredTokens_ShouldDeleteInChunksUntilPartialChunk() {
+		TokenCleanupTask task = new TokenCleanupTask(activeTokenRepository, meterRegistry, 100, 10, 3600000, 0);
+		when(activeTokenRepository.deleteExpiredChunk(any(), eq(100))).thenReturn(100, 100, 42);
+
+		int deleted = task.cleanupExpiredTokens();
+
+		assertEquals(242, deleted);
+		assertEquals(242.0, meterRegistry.counter("tokens.cleanup.deleted").count());
+		verify(activeTokenRepository, times(3)).deleteExpiredChunk(any(), eq(100));
+	}
+
+	@Test
+	void sweepIfDue_ShouldRunAgainSoonWhenBacklogRemains() {
+		TokenCleanupTask task = new TokenCleanupTask(activeTokenRepository, meterRegistry, 100, 2, 3600000, 0);
+		when(activeTokenRepository.deleteExpiredChunk(any(), eq(100))).thenReturn(100);
+
+		task.sweepIfDue();
+		task.sweepIfDue();
+
+		verify(activeTokenRepository, times(4)).deleteExpiredChunk(any(), eq(100));
+	}
+
+	@Test
+	void sweepIfDue_ShouldBackOffWhenNoBacklogRemains() {
+		TokenCleanupTask task = new TokenCleanupTask(activeTokenRepository, meterRegistry, 100, 2, 3600000, 0);
+		when(activeTokenRepository.deleteExpiredChunk(any(), eq(100))).thenReturn(5);
+
+		task.sweepIfDue();
+		task.sweepIfDue();
+
+		verify(activeTokenRepository, times(1)).deleteExpiredChunk(any(), eq(100));
+	}
+}
@@ -0,0 +1,141 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+import java.util.List;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.app.dto.request.BulkCommentDeleteRequest;
+import com.backend.app.enums.Role;
+import com.backend.app.exception.BusinessRuleException;
+import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.exception.UnauthorizedAccessException;
+import com.backend.app.mapper.UserMapper;
+import com.backend.app.model.User;
+import com.backend.app.repository.ActiveTokenRepository;
+import com.backend.app.repository.CommentRepository;
+import com.backend.app.repository.FileMetadataRepository;
+import com.backend.app.repository.ProjectRepository;
+import com.backend.app.repository.UserRepository;
+import com.backend.app.security.TokenBlacklist;
+import com.backend.app.util.JwtUtil;
+
+@ExtendWith(MockitoExtension.class)
+public class AdminServiceTest {
+	private static final String ADMIN_EMAIL = "admin@example.com";
+	
+	@Mock private AuditService auditService;
+	@Mock private EmailService emailService;
+	@Mock private ProjectService projectService;
+	@Mock private JwtUtil jwtUtil;
+	@Mock private PasswordEncoder passwordEncoder;
+	@Mock private TokenBlacklist tokenBlacklist;
+	@Mock private UserMapper userMapper;
+	@Mock private UserRepository userRepository;
+	@Mock private CommentRepository commentRepository;
+	@Mock private FileMetadataRepository fileMetadataRepository;
+	@Mock private ProjectRepository projectRepository;
+	@Mock private ActiveTokenRepository activeTokenRepository;
+	@Mock private DashboardService dashboardService;
+	@Mock private CommentService commentService;
+	
+	@InjectMocks
+	private AdminService adminService;
+	
+	private User admin;
+	
+	@BeforeEach
+	void setUp() {
+		ReflectionTestUtils.setField(adminService, "moderationChunkSize", 2);
+		admin = new User();
+		admin.setId(1L);
+		admin.setEmail(ADMIN_EMAIL);
+		admin.setRole(Role.ADMIN);
+	}
+	
+	@Test
+	void testDeleteCommentRemovesWholeThread() {
+		UUID commentId = UUID.randomUUID();
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		when(commentRepository.existsById(commentId)).thenReturn(true);
+		
+		adminService.deleteComment(commentId, ADMIN_EMAIL);
+		
+		verify(commentService).deleteThreads(List.of(commentId));
+	}
+	
+	@Test
+	void testBulkDeleteCommentsRunsOneTransactionPerChunk() {
+		List<UUID> ids = IntStream.range(0, 5).mapToObj(i -> UUID.randomUUID()).toList();
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		when(commentService.deleteThreads(any())).thenReturn(3L);
+		
+		long removed = adminService.bulkDeleteComments(new BulkCommentDeleteRequest(ids, null), ADMIN_EMAIL);
+		
+		assertEquals(9, removed);
+		verify(commentService).deleteThreads(ids.subList(0, 2));
+		verify(commentService).deleteThreads(ids.subList(2, 4));
+		verify(commentService).deleteThreads(ids.subList(4, 5));
+		verify(commentRepository, never()).findIdsByUserId(any(), any());
+	}
+	
+	@Test
+	void testBulkDeleteCommentsWipesUserHistoryUntilNothingIsLeft() {
+		List<UUID> first = List.of(UUID.randomUUID(), UUID.randomUUID());
+		List<UUID> second = List.of(UUID.randomUUID());
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		when(userRepository.existsById(7L)).thenReturn(true);
+		when(commentRepository.findIdsByUserId(7L, Limit.of(2))).thenReturn(first, second, List.of());
+		when(commentService.deleteThreads(first)).thenReturn(4L);
+		when(commentService.deleteThreads(second)).thenReturn(1L);
+		
+		long removed = adminService.bulkDeleteComments(new BulkCommentDeleteRequest(null, 7L), ADMIN_EMAIL);
+		
+		assertEquals(5, removed);
+		verify(commentRepository, times(3)).findIdsByUserId(7L, Limit.of(2));
+	}
+	
+	@Test
+	void testBulkDeleteCommentsRequiresTarget() {
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		
+		assertThrows(BusinessRuleException.class,
+				() -> adminService.bulkDeleteComments(new BulkCommentDeleteRequest(List.of(), null), ADMIN_EMAIL));
+		verifyNoInteractions(commentService);
+	}
+	
+	@Test
+	void testBulkDeleteCommentsRejectsUnknownUser() {
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		when(userRepository.existsById(7L)).thenReturn(false);
+		
+		assertThrows(ResourceNotFoundException.class,
+				() -> adminService.bulkDeleteComments(new BulkCommentDeleteRequest(null, 7L), ADMIN_EMAIL));
+		verifyNoInteractions(commentService);
+	}
+	
+	@Test
+	void testBulkDeleteCommentsRequiresAdmin() {
+		admin.setRole(Role.USER);
+		when(userRepository.findByEmail(ADMIN_EMAIL)).thenReturn(Optional.of(admin));
+		
+		assertThrows(UnauthorizedAccessException.class,
+				() -> adminService.bulkDeleteComments(new BulkCommentDeleteRequest(null, 7L), ADMIN_EMAIL));
+		verifyNoInteractions(commentService);
+	}
+}
@@ -0,0 +1,65 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.app.repository.UserCollaborationRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class CollaborationGraphServiceTest {
+	@Mock
+	private UserCollaborationRepository collaborationRepository;
+	
+	private CollaborationGraphService collaborationGraphService;
+	
+	@BeforeEach
+	void setUp() {
+		collaborationGraphService = new CollaborationGraphService(collaborationRepository, 100);
+	}
+	
+	@Test
+	void refreshQueuedUsers_WhenEmpty_ShouldBackfillWholeGraph() {
+		when(collaborationRepository.count()).thenReturn(0L);
+		
+		collaborationGraphService.refreshQueuedUsers();
+		
+		verify(collaborationRepository).clearRefreshQueue();
+		verify(collaborationRepository).deleteAllEdges();
+		verify(collaborationRepository).insertAllEdges();
+		verify(collaborationRepository, never()).pollRefreshQueue(anyInt());
+	}
+	
+	@Test
+	void refreshQueuedUsers_WhenPopulated_ShouldOnlyRecomputeQueuedUsers() {
+		when(collaborationRepository.count()).thenReturn(10L);
+		when(collaborationRepository.pollRefreshQueue(100)).thenReturn(List.of(1L, 2L));
+		
+		int refreshed = collaborationGraphService.refreshQueuedUsers();
+		
+		assertEquals(2, refreshed);
+		verify(collaborationRepository).deleteEdgesOf(List.of(1L, 2L));
+		verify(collaborationRepository).insertEdgesOf(List.of(1L, 2L));
+		verify(collaborationRepository, never()).insertAllEdges();
+	}
+	
+	@Test
+	void refreshQueuedUsers_WhenQueueEmpty_ShouldNotTouchEdges() {
+		when(collaborationRepository.count()).thenReturn(10L);
+		when(collaborationRepository.pollRefreshQueue(100)).thenReturn(List.of());
+		
+		assertEquals(0, collaborationGraphService.refreshQueuedUsers());
+		verify(collaborationRepository, never()).deleteEdgesOf(anyCollection());
+	}
+}
@@ -0,0 +1,210 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyCollection;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicLong;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.springframework.data.domain.Limit;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.app.repository.CommentRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class CommentLikeCounterTest {
+	private static final LocalDateTime CREATED_AT = LocalDateTime.of(2025, 3, 14, 9, 30);
+
+	@Mock
+	private CommentRepository commentRepository;
+
+	@Mock
+	private AnalyticsRollupService analyticsRollupService;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CommentLikeCounter counter;
+
+	private final UUID first = UUID.randomUUID();
+	private final UUID second = UUID.randomUUID();
+	private final UUID third = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		counter = new CommentLikeCounter(commentRepository, analyticsRollupService, meterRegistry, 2);
+	}
+
+	@Test
+	void testFlushGroupsCommentsByDelta() {
+		for (int i = 0; i < 3; i++) {
+			counter.record(first, CREATED_AT, 1);
+			counter.record(second, CREATED_AT, 1);
+		}
+		counter.record(third, CREATED_AT, -1);
+
+		assertEquals(3, counter.getPendingDelta(first));
+		assertEquals(3.0, meterRegistry.get("comments.likes.buffer.size").gauge().value());
+
+		counter.flush();
+
+		verify(commentRepository).adjustLikes(argThat(ids -> Set.copyOf(ids).equals(Set.of(first, second))), eq(3));
+		verify(commentRepository).adjustLikes(List.of(third), -1);
+		assertEquals(0, counter.getPendingDelta(first));
+	}
+
+	@Test
+	void testLikeAndUnlikeInOneIntervalCancelOut() {
+		counter.record(first, CREATED_AT, 1);
+		counter.record(first, CREATED_AT, -1);
+
+		counter.flush();
+
+		verifyNoInteractions(commentRepository, analyticsRollupService);
+	}
+
+	@Test
+	void testRollupDeltasAreAggregatedPerDay() {
+		LocalDateTime previousDay = CREATED_AT.minusDays(1);
+		for (int i = 0; i < 3; i++) {
+			counter.record(first, CREATED_AT, 1);
+			counter.record(second, CREATED_AT.plusHours(2), 1);
+		}
+		counter.record(third, previousDay, 1);
+		counter.record(third, previousDay, -1);
+		counter.record(third, previousDay, -1);
+
+		counter.flush();
+
+		verify(analyticsRollupService).recordCommentLikes(CREATED_AT.toLocalDate(), 6);
+		verify(analyticsRollupService).recordCommentLikes(previousDay.toLocalDate(), -1);
+
+		counter.flush();
+		verify(analyticsRollupService, times(2)).recordCommentLikes(any(), anyLong());
+	}
+
+	@Test
+	void testIdleCommentIsRetiredAndLaterLikesStillFlushed() {
+		counter.record(first, CREATED_AT, 1);
+		counter.flush();
+		counter.flush();
+
+		assertEquals(0.0, meterRegistry.get("comments.likes.buffer.size").gauge().value());
+
+		counter.record(first, CREATED_AT, 2);
+		counter.flush();
+
+		verify(commentRepository).adjustLikes(List.of(first), 1);
+		verify(commentRepository).adjustLikes(List.of(first), 2);
+	}
+
+	@Test
+	void testFailedFlushIsRetried() {
+		when(commentRepository.adjustLikes(anyCollection(), anyInt()))
+				.thenThrow(new RuntimeException("connection lost"))
+				.thenReturn(1);
+		counter.record(first, CREATED_AT, 1);
+
+		counter.flush();
+		assertEquals(1, counter.getPendingDelta(first));
+
+		counter.flush();
+		assertEquals(0, counter.getPendingDelta(first));
+		verify(commentRepository, times(2)).adjustLikes(List.of(first), 1);
+	}
+
+	@Test
+	void testConcurrentLikesAreNeitherLostNorDoubleCounted() throws Exception {
+		AtomicLong written = new AtomicLong();
+		when(commentRepository.adjustLikes(anyCollection(), anyInt())).thenAnswer(invocation -> {
+			Collection<UUID> ids = invocation.getArgument(0);
+			written.addAndGet((long) ids.size() * invocation.<Integer>getArgument(1));
+			return ids.size();
+		});
+
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<?>> futures = new ArrayList<>();
+			for (int t = 0; t < 8; t++) {
+				futures.add(executor.submit(() -> {
+					for (int i = 0; i < 20_000; i++) {
+						counter.record(first, CREATED_AT, 1);
+					}
+				}));
+			}
+			// Flush (and retire idle entries) while writers are running
+			while (futures.stream().anyMatch(future -> !future.isDone())) {
+				counter.flush();
+			}
+			for (Future<?> future : futures) {
+				future.get();
+			}
+		} finally {
+			executor.shutdown();
+		}
+		counter.flush();
+		counter.flush();
+
+		assertEquals(160_000, written.get());
+	}
+
+	@Test
+	void testDrainWritesPendingDeltasAndLaterLikesGoStraightThrough() {
+		counter.record(first, CREATED_AT, 4);
+
+		counter.drain();
+		verify(commentRepository).adjustLikes(List.of(first), 4);
+		verify(analyticsRollupService).recordCommentLikes(CREATED_AT.toLocalDate(), 4);
+
+		counter.record(second, CREATED_AT, 1);
+		verify(commentRepository).adjustLikes(List.of(second), 1);
+		verify(analyticsRollupService).recordCommentLikes(CREATED_AT.toLocalDate(), 1);
+		assertEquals(0, counter.getPendingDelta(second));
+	}
+
+	@Test
+	void testReconcileWalksCommentsInBatchesAndSkipsBufferedOnes() {
+		UUID fourth = UUID.randomUUID();
+		when(commentRepository.findIdsAfter(new UUID(0L, 0L), Limit.of(2))).thenReturn(List.of(first, second));
+		when(commentRepository.findIdsAfter(second, Limit.of(2))).thenReturn(List.of(third, fourth));
+		when(commentRepository.findIdsAfter(fourth, Limit.of(2))).thenReturn(List.of());
+		when(commentRepository.reconcileLikes(List.of(second))).thenReturn(1);
+		when(commentRepository.reconcileLikes(List.of(third, fourth))).thenReturn(0);
+		counter.record(first, CREATED_AT, 1);
+
+		assertEquals(1, counter.reconcileCounters());
+		verify(commentRepository, never()).reconcileLikes(argThat(ids -> ids.contains(first)));
+	}
+
+	@Test
+	void testFlushLagGaugeIsRegistered() {
+		assertNotNull(meterRegistry.get("comments.likes.flush.lag.seconds").gauge());
+		counter.flush();
+		verify(commentRepository, never()).adjustLikes(any(), anyInt());
+	}
+}
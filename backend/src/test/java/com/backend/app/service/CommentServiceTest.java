@@ -6,11 +6,19 @@ import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyBoolean;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.argThat;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
-import java.util.HashSet;
+import java.sql.Date;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 import java.util.Set;
 import java.util.UUID;
@@ -21,29 +29,49 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.context.ApplicationEventPublisher;
 
 import com.backend.app.dto.create.CreateCommentDTO;
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.model.CommentDTO;
+import com.backend.app.enums.CommentEventType;
+import com.backend.app.event.CommentEvent;
 import com.backend.app.exception.AuthorizationException;
 import com.backend.app.exception.BusinessRuleException;
 import com.backend.app.mapper.CommentMapper;
 import com.backend.app.model.Comment;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
+import com.backend.app.repository.CommentLikeRepository;
 import com.backend.app.repository.CommentRepository;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.security.SecurityUtils;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+import com.backend.app.util.CommentPath;
+import com.backend.app.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentServiceTest {
 	@Mock
 	private CommentRepository commentRepository;
 	@Mock
+	private CommentLikeRepository commentLikeRepository;
+	@Mock
+	private CommentLikeCounter commentLikeCounter;
+	@Mock
 	private ProjectRepository projectRepository;
 	@Mock
 	private UserRepository userRepository;
 	@Mock
 	private CommentMapper commentMapper;
+	@Mock
+	private SecurityUtils securityUtils;
+
+	@Mock
+	private AnalyticsRollupService analyticsRollupService;
+	@Mock
+	private ApplicationEventPublisher eventPublisher;
 
 	@InjectMocks
 	private CommentService commentService;
@@ -80,14 +108,134 @@ public class CommentServiceTest {
 	
 	@Test
     void testGetCommentsByProjectId() {
-        when(commentRepository.findByProjectIdAndParentCommentIsNull(project.getId()))
-            .thenReturn(List.of(comment));
-        when(commentMapper.toDTO(comment)).thenReturn(new CommentDTO());
+        Comment reply = Comment.builder().id(UUID.randomUUID()).content("Reply")
+                .user(parentComment.getUser()).project(project).parentComment(comment).build();
+        Comment nestedReply = Comment.builder().id(UUID.randomUUID()).content("Nested reply")
+                .user(user).project(project).parentComment(reply).build();
+        
+        when(commentRepository.findThreadByProjectId(project.getId()))
+            .thenReturn(List.of(comment, reply, nestedReply));
+        when(securityUtils.getCurrentUserId()).thenReturn(user.getId());
+        when(commentLikeRepository.findLikedCommentIdsByProjectId(project.getId(), user.getId()))
+            .thenReturn(Set.of(reply.getId()));
+        when(commentMapper.toDTO(any(Comment.class), anyBoolean())).thenAnswer(invocation -> {
+            Comment c = invocation.getArgument(0);
+            return CommentDTO.builder().id(c.getId())
+                    .parentCommentId(c.getParentComment() != null ? c.getParentComment().getId() : null)
+                    .isLikedByCurrentUser(invocation.getArgument(1))
+                    .build();
+        });
         
         List<CommentDTO> result = commentService.getCommentsByProjectId(project.getId());
         
         assertEquals(1, result.size());
-        verify(commentRepository).findByProjectIdAndParentCommentIsNull(project.getId());
+        assertEquals(comment.getId(), result.get(0).getId());
+        CommentDTO replyDTO = result.get(0).getReplies().get(0);
+        assertEquals(reply.getId(), replyDTO.getId());
+        assertTrue(replyDTO.isLikedByCurrentUser());
+        assertEquals(nestedReply.getId(), replyDTO.getReplies().get(0).getId());
+        assertTrue(replyDTO.getReplies().get(0).getReplies().isEmpty());
+        verify(commentRepository).findThreadByProjectId(project.getId());
+        verify(commentRepository, never()).findRepliesByParentId(any());
+    }
+    
+    @Test
+    void testGetCommentThreadChunkReturnsCursorWhenMoreRootsExist() {
+        Comment second = Comment.builder().id(UUID.randomUUID()).content("Second")
+                .user(user).project(project).createdAt(LocalDateTime.now()).build();
+        comment.setCreatedAt(LocalDateTime.now().minusMinutes(1));
+        
+        when(commentRepository.findTopLevelByProjectId(eq(project.getId()), any()))
+            .thenReturn(List.of(comment, second));
+        when(commentRepository.findDescendantIds(List.of(comment.getId()))).thenReturn(List.of());
+        when(commentMapper.toDTO(any(Comment.class), anyBoolean()))
+            .thenAnswer(invocation -> CommentDTO.builder().id(((Comment) invocation.getArgument(0)).getId()).build());
+        
+        KeysetPage<CommentDTO> result = commentService.getCommentThreadChunk(project.getId(), null, 1);
+        
+        assertEquals(1, result.getContent().size());
+        assertTrue(result.hasNext());
+        KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor());
+        assertEquals(comment.getId(), cursor.uuidId());
+        assertEquals(comment.getCreatedAt(), cursor.getCreatedAt());
+    }
+    
+    @Test
+    void testCreateReplyStoresAncestorPath() {
+        parentComment.setPath(comment.getId().toString().replace("-", "") + "/");
+        createCommentDTO.setParentCommentId(parentComment.getId());
+        
+        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
+        when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
+        when(commentRepository.findById(parentComment.getId())).thenReturn(Optional.of(parentComment));
+        when(commentRepository.save(any())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(commentMapper.toDTO(any(Comment.class), eq(false))).thenReturn(new CommentDTO());
+        
+        commentService.createComment(createCommentDTO, user.getId());
+        
+        verify(commentRepository).save(argThat(saved -> saved.getPath().equals(
+                parentComment.getPath() + parentComment.getId().toString().replace("-", "") + "/")));
+    }
+    
+    @Test
+    void testGetRepliesForCommentScansPathRangeToRequestedDepth() {
+        comment.setPath("");
+        String prefix = comment.getId().toString().replace("-", "");
+        Comment reply = Comment.builder().id(UUID.randomUUID()).content("Reply").path(prefix + "/")
+                .user(parentComment.getUser()).project(project).parentComment(comment).build();
+        
+        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+        when(commentRepository.findSubtreeToLength(project.getId(), prefix + "/", prefix + "0", 2 * CommentPath.SEGMENT_LENGTH))
+            .thenReturn(List.of(reply));
+        when(commentMapper.toDTO(any(Comment.class), anyBoolean()))
+            .thenAnswer(invocation -> CommentDTO.builder().id(((Comment) invocation.getArgument(0)).getId())
+                    .parentCommentId(comment.getId()).build());
+        
+        List<CommentDTO> result = commentService.getRepliesForComment(comment.getId(), 2);
+        
+        assertEquals(1, result.size());
+        assertEquals(reply.getId(), result.get(0).getId());
+        verify(commentRepository, never()).findSubtree(any(), any(), any());
+        verify(commentRepository, never()).findDescendantIds(any());
+    }
+    
+    @Test
+    void testGetRepliesForCommentWithHugeDepthLoadsWholeSubtree() {
+        comment.setPath(parentComment.getId().toString().replace("-", "") + "/");
+        String prefix = comment.getPath() + comment.getId().toString().replace("-", "");
+        
+        when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+        when(commentRepository.findSubtree(project.getId(), prefix + "/", prefix + "0")).thenReturn(List.of());
+        
+        assertTrue(commentService.getRepliesForComment(comment.getId(), Integer.MAX_VALUE).isEmpty());
+        verify(commentRepository, never()).findSubtreeToLength(any(), any(), any(), anyInt());
+    }
+    
+    @Test
+    void testGetReplyCountsByProjectId() {
+        UUID thread = UUID.randomUUID();
+        when(commentRepository.countRepliesByThread(project.getId()))
+            .thenReturn(List.<Object[]>of(new Object[] { thread, 12L }));
+        
+        assertEquals(Map.of(thread, 12L), commentService.getReplyCountsByProjectId(project.getId()));
+    }
+    
+    @Test
+    void testGetCommentsByUserIdChunkContinuesFromCursor() {
+        LocalDateTime position = LocalDateTime.now().minusDays(1);
+        UUID positionId = UUID.randomUUID();
+        comment.setCreatedAt(position.minusMinutes(5));
+        
+        when(commentRepository.findByUserIdNewestFirstBefore(eq(user.getId()), eq(position), eq(positionId), any()))
+            .thenReturn(List.of(comment));
+        when(commentMapper.toDTO(comment)).thenReturn(CommentDTO.builder().id(comment.getId()).build());
+        
+        KeysetPage<CommentDTO> result = commentService.getCommentsByUserIdChunk(user.getId(),
+                KeysetCursor.encode(position, positionId), 10);
+        
+        assertEquals(1, result.getContent().size());
+        assertFalse(result.hasNext());
+        verify(commentRepository, never()).findByUserId(any(), any());
     }
     
     @Test
@@ -95,12 +243,14 @@ public class CommentServiceTest {
         when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(commentRepository.save(any())).thenReturn(comment);
-        when(commentMapper.toDTO(comment)).thenReturn(new CommentDTO());
+        when(commentMapper.toDTO(comment, false)).thenReturn(new CommentDTO());
         
         CommentDTO result = commentService.createComment(createCommentDTO, user.getId());
         
         assertNotNull(result);
         verify(commentRepository).save(any());
+        verify(eventPublisher).publishEvent(argThat((CommentEvent event) -> event.type() == CommentEventType.CREATED
+                && event.projectId().equals(project.getId())));
     }
     
     @Test
@@ -111,7 +261,7 @@ public class CommentServiceTest {
         when(userRepository.findById(user.getId())).thenReturn(Optional.of(user));
         when(commentRepository.findById(parentComment.getId())).thenReturn(Optional.of(parentComment));
         when(commentRepository.save(any())).thenReturn(comment);
-        when(commentMapper.toDTO(comment)).thenReturn(new CommentDTO());
+        when(commentMapper.toDTO(comment, false)).thenReturn(new CommentDTO());
         
         CommentDTO result = commentService.createComment(createCommentDTO, user.getId());
         
@@ -138,6 +288,7 @@ public class CommentServiceTest {
         when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
         when(commentRepository.save(comment)).thenReturn(comment);
         when(commentMapper.toDTO(comment)).thenReturn(new CommentDTO());
+        when(commentMapper.toDTO(comment, false)).thenReturn(new CommentDTO());
         
         CommentDTO result = commentService.updateComment(comment.getId(), "Updated content", user.getId());
         
@@ -156,11 +307,42 @@ public class CommentServiceTest {
     
     @Test
     void testDeleteComment() {
+        LocalDate today = LocalDate.now();
         when(commentRepository.findById(comment.getId())).thenReturn(Optional.of(comment));
+        when(commentRepository.findAllById(List.of(comment.getId()))).thenReturn(List.of(comment));
+        when(commentRepository.deleteSubtrees(List.of(comment.getId())))
+            .thenReturn(List.<Object[]>of(new Object[] { Date.valueOf(today), 3L, 5L }));
         
         commentService.deleteComment(comment.getId(), user.getId());
         
-        verify(commentRepository).delete(comment);
+        verify(analyticsRollupService).recordCommentsRemoved(today, 3, 5);
+        verify(eventPublisher).publishEvent(argThat((CommentEvent event) -> event.type() == CommentEventType.DELETED
+                && event.projectId().equals(project.getId()) && event.comment().getId().equals(comment.getId())));
+        verify(commentRepository, never()).delete(any());
+        verify(commentRepository, never()).deleteAll(any());
+    }
+    
+    @Test
+    void testDeleteThreadsReportsRemovalsPerCreationDay() {
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        LocalDate yesterday = LocalDate.now().minusDays(1);
+        LocalDate today = LocalDate.now();
+        when(commentRepository.deleteSubtrees(List.of(first, second))).thenReturn(List.<Object[]>of(
+            new Object[] { Date.valueOf(yesterday), 4L, 0L },
+            new Object[] { today, 2L, 7L }));
+        
+        long removed = commentService.deleteThreads(List.of(first, second));
+        
+        assertEquals(6, removed);
+        verify(analyticsRollupService).recordCommentsRemoved(yesterday, 4, 0);
+        verify(analyticsRollupService).recordCommentsRemoved(today, 2, 7);
+    }
+    
+    @Test
+    void testDeleteThreadsSkipsEmptyInput() {
+        assertEquals(0, commentService.deleteThreads(List.of()));
+        verify(commentRepository, never()).deleteSubtrees(any());
     }
     
     @Test
@@ -168,17 +350,23 @@ public class CommentServiceTest {
         Comment commentToLike = Comment.builder()
                 .id(UUID.randomUUID())
                 .user(User.builder().id(2L).build()) // Different user
+                .project(project)
+                .likes(10_000)
                 .build();
                 
         when(commentRepository.findById(commentToLike.getId())).thenReturn(Optional.of(commentToLike));
-        when(commentRepository.save(commentToLike)).thenReturn(commentToLike);
-        when(commentMapper.toDTO(commentToLike)).thenReturn(new CommentDTO());
+        when(commentLikeRepository.insertIfAbsent(commentToLike.getId(), user.getId())).thenReturn(1);
+        when(commentLikeCounter.getPendingDelta(commentToLike.getId())).thenReturn(5L);
+        when(commentMapper.toDTO(commentToLike, true)).thenReturn(new CommentDTO());
         
         CommentDTO result = commentService.likeComment(commentToLike.getId(), user.getId());
         
         assertNotNull(result);
-        assertEquals(1, commentToLike.getLikes());
-        assertTrue(commentToLike.getLikedByUsers().contains(user.getId()));
+        assertEquals(10_006, result.getLikes());
+        verify(commentLikeCounter).record(commentToLike.getId(), commentToLike.getCreatedAt(), 1);
+        verify(eventPublisher).publishEvent(argThat((CommentEvent event) -> event.type() == CommentEventType.LIKES_CHANGED
+                && event.projectId().equals(project.getId()) && event.comment().getLikes() == 10_006));
+        verify(commentRepository, never()).save(any());
     }
     
     @Test
@@ -195,14 +383,15 @@ public class CommentServiceTest {
         Comment commentToLike = Comment.builder()
                 .id(UUID.randomUUID())
                 .user(User.builder().id(2L).build()) // Different user
-                .likedByUsers(new HashSet<>(Set.of(user.getId()))) // Already liked
                 .build();
                 
         when(commentRepository.findById(commentToLike.getId())).thenReturn(Optional.of(commentToLike));
+        when(commentLikeRepository.insertIfAbsent(commentToLike.getId(), user.getId())).thenReturn(0); // Already liked
         
         assertThrows(BusinessRuleException.class, () -> {
             commentService.likeComment(commentToLike.getId(), user.getId());
         });
+        verify(commentLikeCounter, never()).record(any(), any(), anyInt());
     }
     
     @Test
@@ -210,19 +399,21 @@ public class CommentServiceTest {
         Comment commentToUnlike = Comment.builder()
                 .id(UUID.randomUUID())
                 .user(User.builder().id(2L).build()) // Different user
+                .project(project)
                 .likes(1)
-                .likedByUsers(new HashSet<>(Set.of(user.getId()))) // Already liked
                 .build();
                 
         when(commentRepository.findById(commentToUnlike.getId())).thenReturn(Optional.of(commentToUnlike));
-        when(commentRepository.save(commentToUnlike)).thenReturn(commentToUnlike);
-        when(commentMapper.toDTO(commentToUnlike)).thenReturn(new CommentDTO());
+        when(commentLikeRepository.deleteLike(commentToUnlike.getId(), user.getId())).thenReturn(1);
+        when(commentMapper.toDTO(commentToUnlike, false)).thenReturn(new CommentDTO());
         
         CommentDTO result = commentService.unlikeComment(commentToUnlike.getId(), user.getId());
         
         assertNotNull(result);
-        assertEquals(0, commentToUnlike.getLikes());
-        assertFalse(commentToUnlike.getLikedByUsers().contains(user.getId()));
+        assertEquals(0, result.getLikes());
+        assertFalse(result.isLikedByCurrentUser());
+        verify(commentLikeCounter).record(commentToUnlike.getId(), commentToUnlike.getCreatedAt(), -1);
+        verify(commentRepository, never()).save(any());
     }
     
     @Test
@@ -231,10 +422,10 @@ public class CommentServiceTest {
                 .id(UUID.randomUUID())
                 .user(User.builder().id(2L).build()) // Different user
                 .likes(1)
-                .likedByUsers(new HashSet<>()) // Not liked
                 .build();
                 
         when(commentRepository.findById(commentToUnlike.getId())).thenReturn(Optional.of(commentToUnlike));
+        when(commentLikeRepository.deleteLike(commentToUnlike.getId(), user.getId())).thenReturn(0); // Not liked
         
         assertThrows(BusinessRuleException.class, () -> {
             commentService.unlikeComment(commentToUnlike.getId(), user.getId());
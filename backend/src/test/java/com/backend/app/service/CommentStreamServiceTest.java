@@ -0,0 +1,140 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import com.backend.app.dto.model.CommentDTO;
+import com.backend.app.enums.CommentEventType;
+import com.backend.app.event.CommentEvent;
+import com.backend.app.exception.RateLimitExceededException;
+import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.repository.ProjectRepository;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+public class CommentStreamServiceTest {
+	private static final int BUFFER_SIZE = 4;
+	private static final int MAX_PER_USER = 2;
+	private static final Long USER_ID = 1L;
+
+	private SimpleMeterRegistry meterRegistry;
+	private CommentStreamService streamService;
+	private ProjectRepository projectRepository;
+	private final List<Runnable> drains = new ArrayList<>();
+
+	private final UUID projectId = UUID.randomUUID();
+
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		projectRepository = mock(ProjectRepository.class);
+		when(projectRepository.existsById(any())).thenReturn(true);
+		streamService = new CommentStreamService(new ObjectMapper(), projectRepository, meterRegistry, BUFFER_SIZE,
+				60_000, 1, MAX_PER_USER);
+
+		// Drain tasks are collected instead of run, so subscribers stay as slow as the test needs
+		ExecutorService senders = mock(ExecutorService.class);
+		doAnswer(invocation -> drains.add(invocation.getArgument(0))).when(senders).execute(any());
+		((ExecutorService) ReflectionTestUtils.getField(streamService, "senders")).shutdown();
+		ReflectionTestUtils.setField(streamService, "senders", senders);
+	}
+
+	@Test
+	void testSubscribeRegistersViewer() {
+		streamService.subscribe(projectId, USER_ID);
+		streamService.subscribe(projectId, USER_ID + 1);
+		streamService.subscribe(UUID.randomUUID(), USER_ID);
+
+		assertEquals(2, streamService.getSubscriberCount(projectId));
+		assertEquals(3.0, meterRegistry.get("comments.stream.subscribers").gauge().value());
+	}
+
+	@Test
+	void testSubscribeToMissingProjectIsRejected() {
+		UUID missing = UUID.randomUUID();
+		when(projectRepository.existsById(missing)).thenReturn(false);
+
+		assertThrows(ResourceNotFoundException.class, () -> streamService.subscribe(missing, USER_ID));
+		assertEquals(0, streamService.getSubscriberCount(missing));
+	}
+
+	@Test
+	void testStreamsPerUserAreCappedAndFreedOnClose() {
+		streamService.subscribe(projectId, USER_ID);
+		SseEmitter second = streamService.subscribe(projectId, USER_ID);
+
+		assertThrows(RateLimitExceededException.class, () -> streamService.subscribe(projectId, USER_ID));
+		streamService.subscribe(projectId, USER_ID + 1);
+
+		timeOut(second);
+		streamService.subscribe(projectId, USER_ID);
+		assertEquals(3, streamService.getSubscriberCount(projectId));
+	}
+
+	@Test
+	void testTimedOutStreamIsCompleted() {
+		SseEmitter emitter = streamService.subscribe(projectId, USER_ID);
+
+		timeOut(emitter);
+
+		assertEquals(0, streamService.getSubscriberCount(projectId));
+		assertThrows(IllegalStateException.class, () -> emitter.send("late"));
+	}
+
+	@Test
+	void testEventsForProjectsWithoutViewersAreDropped() {
+		streamService.onCommentEvent(event(UUID.randomUUID()));
+
+		assertEquals(0, drains.size());
+	}
+
+	@Test
+	void testOneDrainTaskPerSubscriberAtATime() {
+		streamService.subscribe(projectId, USER_ID);
+		streamService.onCommentEvent(event(projectId));
+		streamService.onCommentEvent(event(projectId));
+
+		assertEquals(1, drains.size());
+
+		drains.remove(0).run();
+		streamService.onCommentEvent(event(projectId));
+		assertEquals(1, drains.size());
+	}
+
+	@Test
+	void testSlowSubscriberIsToldToResyncInsteadOfBuffering() {
+		streamService.subscribe(projectId, USER_ID);
+		// The initial heartbeat takes one slot, so the last event overflows the buffer
+		for (int i = 0; i < BUFFER_SIZE; i++) {
+			streamService.onCommentEvent(event(projectId));
+		}
+
+		assertEquals(1.0, meterRegistry.get("comments.stream.resyncs").counter().count());
+		assertEquals(1, drains.size());
+	}
+
+	/** Runs the timeout callbacks the way the servlet container would. */
+	private static void timeOut(SseEmitter emitter) {
+		((Runnable) ReflectionTestUtils.getField(emitter, "timeoutCallback")).run();
+	}
+
+	private CommentEvent event(UUID project) {
+		CommentDTO comment = CommentDTO.builder().id(UUID.randomUUID()).projectId(project).content("Hello").build();
+		return new CommentEvent(CommentEventType.CREATED, project, comment);
+	}
+}
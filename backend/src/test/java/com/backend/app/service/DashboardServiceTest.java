@@ -0,0 +1,124 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import com.backend.app.dto.miscellaneous.DashboardMetricsDTO;
+import com.backend.app.repository.ProjectRepository;
+import com.backend.app.repository.UserRepository;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
+@ExtendWith(MockitoExtension.class)
+public class DashboardServiceTest {
+	@Mock
+	private ProjectRepository projectRepository;
+	@Mock
+	private UserRepository userRepository;
+	
+	private MeterRegistry meterRegistry;
+	private DashboardService dashboardService;
+	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		dashboardService = new DashboardService(projectRepository, userRepository, meterRegistry);
+		ReflectionTestUtils.setField(dashboardService, "maxAgeMs", 60000L);
+		ReflectionTestUtils.invokeMethod(dashboardService, "registerMetrics");
+	}
+	
+	@Test
+	void getDashboardMetrics_ShouldServeSnapshotAfterFirstLoad() {
+		when(projectRepository.getProjectTypeAggregates()).thenReturn(Map.of("totalProjects", 5L, "totalPatents", 2L));
+		when(userRepository.count()).thenReturn(10L);
+		
+		DashboardMetricsDTO first = dashboardService.getDashboardMetrics();
+		DashboardMetricsDTO second = dashboardService.getDashboardMetrics();
+		
+		assertEquals(5L, first.getTotalProjects());
+		assertEquals(2L, first.getTotalPatents());
+		assertEquals(10L, second.getTotalUsers());
+		verify(projectRepository, times(1)).getProjectTypeAggregates();
+		assertTrue(meterRegistry.get("dashboard.snapshot.age.seconds").gauge().value() >= 0);
+	}
+	
+	@Test
+	void refreshIfDue_ShouldReloadOnlyWhenStale() {
+		when(projectRepository.getProjectTypeAggregates()).thenReturn(Map.of("totalProjects", 5L));
+		when(userRepository.count()).thenReturn(10L, 11L);
+		dashboardService.getDashboardMetrics();
+		
+		dashboardService.refreshIfDue();
+		dashboardService.markStale();
+		dashboardService.refreshIfDue();
+		
+		assertEquals(11L, dashboardService.getDashboardMetrics().getTotalUsers());
+		verify(projectRepository, times(2)).getProjectTypeAggregates();
+	}
+	
+	@Test
+	void refreshIfDue_WhenDatabaseFails_ShouldKeepPreviousSnapshot() {
+		when(projectRepository.getProjectTypeAggregates())
+				.thenReturn(Map.of("totalProjects", 5L))
+				.thenThrow(new DataAccessResourceFailureException("down"));
+		when(userRepository.count()).thenReturn(10L);
+		dashboardService.getDashboardMetrics();
+		
+		dashboardService.markStale();
+		dashboardService.refreshIfDue();
+		
+		assertEquals(5L, dashboardService.getDashboardMetrics().getTotalProjects());
+	}
+	
+	@Test
+	void getDashboardMetrics_ColdStartUnderConcurrency_ShouldLoadOnce() throws Exception {
+		CountDownLatch loading = new CountDownLatch(1);
+		CountDownLatch release = new CountDownLatch(1);
+		when(projectRepository.getProjectTypeAggregates()).thenAnswer(invocation -> {
+			loading.countDown();
+			release.await(5, TimeUnit.SECONDS);
+			return Map.of("totalProjects", 3L);
+		});
+		when(userRepository.count()).thenReturn(1L);
+		
+		ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			List<Future<DashboardMetricsDTO>> results = new ArrayList<>();
+			results.add(executor.submit(dashboardService::getDashboardMetrics));
+			assertTrue(loading.await(5, TimeUnit.SECONDS));
+			for (int i = 0; i < 7; i++) {
+				results.add(executor.submit(dashboardService::getDashboardMetrics));
+			}
+			Thread.sleep(100);
+			release.countDown();
+			
+			for (Future<DashboardMetricsDTO> result : results) {
+				assertEquals(3L, result.get(5, TimeUnit.SECONDS).getTotalProjects());
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+		verify(projectRepository, times(1)).getProjectTypeAggregates();
+	}
+}
@@ -10,7 +10,9 @@ import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -27,6 +29,7 @@ import com.backend.app.model.PatentCoInventor;
 import com.backend.app.model.Project;
 import com.backend.app.model.User;
 import com.backend.app.repository.PatentRepository;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.UserRepository;
 
@@ -38,6 +41,10 @@ public class PatentServiceTest {
 	private ProjectRepository projectRepository;
 	@Mock
 	private UserRepository userRepository;
+	@Mock
+	private UserCounterService userCounterService;
+	@Mock
+	private ReferenceResolver referenceResolver;
 
 	@InjectMocks
 	private PatentService patentService;
@@ -84,8 +91,8 @@ public class PatentServiceTest {
 	@Test
 	void testCreatePatent() {
 		when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
-		when(userRepository.findById(primaryAuthor.getId())).thenReturn(Optional.of(primaryAuthor));
-		when(userRepository.findById(coInventor.getId())).thenReturn(Optional.of(coInventor));
+		when(referenceResolver.resolveUsers(List.of(coInventor.getId(), primaryAuthor.getId())))
+				.thenReturn(Map.of(primaryAuthor.getId(), primaryAuthor, coInventor.getId(), coInventor));
 		when(patentRepository.save(any())).thenReturn(patent);
 
 		Patent result = patentService.createPatent(request);
@@ -132,10 +139,10 @@ public class PatentServiceTest {
 		newCoInventorEntity.setUser(newCoInventor);
 		updatedPatent.getCoInventors().add(newCoInventorEntity);
 
-		when(userRepository.existsById(newCoInventor.getId())).thenReturn(true);
-
 		patentService.updateCoInventors(patent, updatedPatent);
 
+		verify(referenceResolver).resolveUsers(Set.of(newCoInventor.getId()));
+
 		assertEquals(1, patent.getCoInventors().size());
 		assertEquals(newCoInventor.getId(), patent.getCoInventors().get(0).getUser().getId());
 	}
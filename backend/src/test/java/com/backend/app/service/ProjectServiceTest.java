@@ -1,14 +1,19 @@
 package com.backend.app.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoMoreInteractions;
 import static org.mockito.Mockito.when;
 
+import java.time.LocalDateTime;
 import java.util.ArrayList;
 import java.util.HashSet;
 import java.util.List;
@@ -21,23 +26,38 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.domain.Specification;
 
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.miscellaneous.ProjectSearchCriteria;
+import com.backend.app.dto.miscellaneous.ProjectWithDetailsDTO;
 import com.backend.app.dto.model.ProjectDTO;
 import com.backend.app.enums.ProjectType;
 import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.mapper.PatentMapper;
 import com.backend.app.mapper.ProjectMapper;
+import com.backend.app.mapper.PublicationMapper;
+import com.backend.app.mapper.ResearchMapper;
+import com.backend.app.model.Patent;
 import com.backend.app.model.Project;
+import com.backend.app.model.Publication;
+import com.backend.app.model.Research;
 import com.backend.app.model.Tag;
 import com.backend.app.model.User;
+import com.backend.app.repository.PatentRepository;
 import com.backend.app.repository.ProjectRepository;
+import com.backend.app.repository.PublicationRepository;
+import com.backend.app.repository.ResearchRepository;
 import com.backend.app.repository.TagRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+import com.backend.app.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 public class ProjectServiceTest {
@@ -51,6 +71,27 @@ public class ProjectServiceTest {
 	private ProjectMapper projectMapper;
 	@Mock
 	private ProjectSpecificationService specificationService;
+	@Mock
+	private PublicationRepository publicationRepository;
+	@Mock
+	private PatentRepository patentRepository;
+	@Mock
+	private ResearchRepository researchRepository;
+	@Mock
+	private PublicationMapper publicationMapper;
+	@Mock
+	private PatentMapper patentMapper;
+	@Mock
+	private ResearchMapper researchMapper;
+
+	@Mock
+	private AnalyticsRollupService analyticsRollupService;
+
+	@Mock
+	private DashboardService dashboardService;
+
+	@Mock
+	private UserCounterService userCounterService;
 
 	@InjectMocks
 	private ProjectService projectService;
@@ -171,6 +212,48 @@ public class ProjectServiceTest {
 	        verify(projectRepository).findAll(mockSpec, pageable);
 	    }
 	    
+	    @Test
+	    void testSearchProjects_WithSearchTermKeepsRelevanceOrder() {
+	        ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+	        criteria.setSearch("neural networks");
+	        Specification<Project> mockSpec = Specification.where(null);
+	        
+	        when(specificationService.buildSpecification(criteria))
+	            .thenReturn(mockSpec);
+	        when(projectRepository.findAll(mockSpec, PageRequest.of(1, 20)))
+	            .thenReturn(new PageImpl<>(List.of(project)));
+	        
+	        Page<Project> result = projectService.searchProjects(criteria, PageRequest.of(1, 20, Sort.by("title")));
+	        
+	        assertEquals(1, result.getTotalElements());
+	        verify(projectRepository).findAll(mockSpec, PageRequest.of(1, 20));
+	    }
+	    
+	    @Test
+	    void testFindProjectsChunk_FirstChunkFetchesOneExtraRow() {
+	        project.setCreatedAt(LocalDateTime.now());
+	        Project older = Project.builder().id(UUID.randomUUID()).createdAt(LocalDateTime.now().minusDays(1)).build();
+	        when(projectRepository.findNewestWithCreator(Limit.of(2))).thenReturn(List.of(project, older));
+	        
+	        KeysetPage<Project> result = projectService.findProjectsChunk(null, 1);
+	        
+	        assertEquals(List.of(project), result.getContent());
+	        assertEquals(project.getId(), KeysetCursor.decode(result.getNextCursor()).uuidId());
+	        verify(projectRepository, never()).findAllWithCreator(any());
+	    }
+	    
+	    @Test
+	    void testFindProjectsChunk_SeeksPastCursor() {
+	        LocalDateTime createdAt = LocalDateTime.now().minusDays(3);
+	        UUID id = UUID.randomUUID();
+	        when(projectRepository.findNewestWithCreatorBefore(createdAt, id, Limit.of(11))).thenReturn(List.of(project));
+	        
+	        KeysetPage<Project> result = projectService.findProjectsChunk(KeysetCursor.encode(createdAt, id), 10);
+	        
+	        assertEquals(List.of(project), result.getContent());
+	        assertFalse(result.hasNext());
+	    }
+	    
 	    @Test
 	    void testDeleteProject() {
 	        when(projectRepository.findById(project.getId())).thenReturn(Optional.of(project));
@@ -179,4 +262,43 @@ public class ProjectServiceTest {
 	        
 	        verify(projectRepository).delete(project);
 	    }
+	    
+	    @Test
+	    void testFindAllProjectsWithDetailsUsesFixedNumberOfQueries() {
+	        Pageable pageable = PageRequest.of(0, 50);
+	        List<Project> projects = new ArrayList<>();
+	        List<Publication> publications = new ArrayList<>();
+	        List<Patent> patents = new ArrayList<>();
+	        List<Research> researches = new ArrayList<>();
+	        ProjectType[] types = ProjectType.values();
+	        
+	        for (int i = 0; i < 50; i++) {
+	            Project p = Project.builder().id(UUID.randomUUID()).type(types[i % types.length])
+	                    .title("Project " + i).description("D").progress(0).creator(creator).build();
+	            projects.add(p);
+	            switch (p.getType()) {
+	            case PUBLICATION -> publications.add(Publication.builder().id(UUID.randomUUID()).project(p).build());
+	            case PATENT -> patents.add(Patent.builder().id(UUID.randomUUID()).project(p).build());
+	            case RESEARCH -> researches.add(new Research().setId(UUID.randomUUID()).setProject(p));
+	            }
+	        }
+	        
+	        when(projectRepository.findAllWithDetails(pageable)).thenReturn(new PageImpl<>(projects, pageable, 50));
+	        when(publicationRepository.findAllByProjectIdInWithAuthors(any())).thenReturn(publications);
+	        when(patentRepository.findAllByProjectIdInWithCoInventors(any())).thenReturn(patents);
+	        when(researchRepository.findAllByProjectIdInWithParticipants(any())).thenReturn(researches);
+	        
+	        Page<ProjectWithDetailsDTO<?>> result = projectService.findAllProjectsWithDetails(pageable);
+	        
+	        assertEquals(50, result.getContent().size());
+	        verify(projectRepository, times(1)).findAllWithDetails(pageable);
+	        verify(projectRepository, times(1)).findAllWithTagsByIdIn(any());
+	        verify(publicationRepository, times(1)).findAllByProjectIdInWithAuthors(any());
+	        verify(patentRepository, times(1)).findAllByProjectIdInWithCoInventors(any());
+	        verify(researchRepository, times(1)).findAllByProjectIdInWithParticipants(any());
+	        verify(publicationRepository, never()).findByProjectId(any());
+	        verify(patentRepository, never()).findByProjectId(any());
+	        verify(researchRepository, never()).findByProjectId(any());
+	        verifyNoMoreInteractions(projectRepository, publicationRepository, patentRepository, researchRepository);
+	    }
 }
@@ -0,0 +1,247 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.doAnswer;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.when;
+
+import java.math.BigDecimal;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+
+import javax.sql.DataSource;
+
+import org.hibernate.SessionFactory;
+import org.hibernate.boot.MetadataSources;
+import org.hibernate.boot.registry.StandardServiceRegistry;
+import org.hibernate.boot.model.naming.CamelCaseToUnderscoresNamingStrategy;
+import org.hibernate.boot.registry.StandardServiceRegistryBuilder;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.dialect.PostgreSQLDialect;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.jpa.domain.Specification;
+
+import com.backend.app.dto.miscellaneous.ProjectSearchCriteria;
+import com.backend.app.model.ActiveToken;
+import com.backend.app.model.Comment;
+import com.backend.app.model.DailyRollup;
+import com.backend.app.model.FileMetadata;
+import com.backend.app.model.Patent;
+import com.backend.app.model.PatentCoInventor;
+import com.backend.app.model.Project;
+import com.backend.app.model.ProjectAuditLog;
+import com.backend.app.model.ProjectSearchDocument;
+import com.backend.app.model.ProjectTag;
+import com.backend.app.model.Publication;
+import com.backend.app.model.PublicationAuthor;
+import com.backend.app.model.Research;
+import com.backend.app.model.ResearchParticipant;
+import com.backend.app.model.Tag;
+import com.backend.app.model.User;
+import com.backend.app.model.UserLogin;
+
+import jakarta.persistence.EntityManager;
+import jakarta.persistence.criteria.CriteriaBuilder;
+import jakarta.persistence.criteria.CriteriaQuery;
+import jakarta.persistence.criteria.Root;
+
+/**
+ * Checks the SQL generated for project search specifications. Queries are
+ * rendered with the PostgreSQL dialect against a stub connection, so the
+ * statements are captured without a running database.
+ */
+public class ProjectSpecificationServiceTest {
+	private static final List<String> capturedSql = new ArrayList<>();
+	private static final List<Object> boundValues = new ArrayList<>();
+	private static SessionFactory sessionFactory;
+	private static StandardServiceRegistry registry;
+
+	private ProjectSpecificationService specificationService;
+
+	@BeforeAll
+	static void setUpSessionFactory() throws SQLException {
+		PreparedStatement statement = mock(PreparedStatement.class);
+		when(statement.executeQuery()).thenThrow(new SQLException("Statement captured"));
+		doAnswer(invocation -> boundValues.add(invocation.getArgument(1))).when(statement).setString(anyInt(), anyString());
+		Connection connection = mock(Connection.class);
+		when(connection.prepareStatement(anyString())).thenReturn(statement);
+		when(connection.prepareStatement(anyString(), anyInt(), anyInt())).thenReturn(statement);
+		when(connection.getAutoCommit()).thenReturn(true);
+		DataSource dataSource = mock(DataSource.class);
+		when(dataSource.getConnection()).thenReturn(connection);
+
+		registry = new StandardServiceRegistryBuilder()
+				.applySettings(Map.of(
+						AvailableSettings.JAKARTA_NON_JTA_DATASOURCE, dataSource,
+						AvailableSettings.DIALECT, PostgreSQLDialect.class.getName(),
+						AvailableSettings.PHYSICAL_NAMING_STRATEGY, CamelCaseToUnderscoresNamingStrategy.class.getName(),
+						"hibernate.boot.allow_jdbc_metadata_access", false,
+						AvailableSettings.STATEMENT_INSPECTOR, (StatementInspector) sql -> {
+							capturedSql.add(sql);
+							return sql;
+						}))
+				.build();
+		sessionFactory = new MetadataSources(registry)
+				.addAnnotatedClasses(Project.class, ProjectSearchDocument.class, Tag.class, ProjectTag.class, User.class,
+						Publication.class, PublicationAuthor.class, Patent.class, PatentCoInventor.class,
+						Research.class, ResearchParticipant.class, Comment.class, FileMetadata.class,
+						UserLogin.class, ActiveToken.class, ProjectAuditLog.class, DailyRollup.class)
+				.buildMetadata()
+				.buildSessionFactory();
+	}
+
+	@AfterAll
+	static void tearDownSessionFactory() {
+		sessionFactory.close();
+		StandardServiceRegistryBuilder.destroy(registry);
+	}
+
+	@BeforeEach
+	void setUp() {
+		capturedSql.clear();
+		specificationService = new ProjectSpecificationService();
+	}
+
+	@Test
+	void testSearchUsesFullTextAndTrigramIndexesOrderedByRank() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setSearch("machine learning");
+		criteria.setProgressMax(100);
+
+		String sql = renderSelect(specificationService.buildSpecification(criteria));
+
+		assertTrue(sql.contains("exists"), sql);
+		assertTrue(sql.contains("document @@ websearch_to_tsquery('simple', ?)"), sql);
+		assertTrue(sql.contains("search_text like ?"), sql);
+		assertTrue(sql.contains("? <% psd1_0.search_text"), sql);
+		assertTrue(sql.contains("order by (select (ts_rank("), sql);
+		assertFalse(sql.contains("machine learning"), sql);
+		assertTrue(boundValues.contains("machine learning"), boundValues.toString());
+		assertTrue(boundValues.contains("%machine learning%"), boundValues.toString());
+		assertFalse(sql.contains("lower(p1_0.description)"), sql);
+	}
+
+	@Test
+	void testCountQueryDoesNotRankResults() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setSearch("graph");
+		criteria.setProgressMax(100);
+
+		String sql = renderCount(specificationService.buildSpecification(criteria));
+
+		assertTrue(sql.contains("document @@ websearch_to_tsquery('simple', ?)"), sql);
+		assertFalse(sql.contains("ts_rank"), sql);
+	}
+
+	@Test
+	void testDifferentSearchTermsShareTheSameStatement() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setProgressMax(100);
+		criteria.setSearch("graph");
+		String first = renderSelect(specificationService.buildSpecification(criteria));
+		criteria.setSearch("o'brien 100%");
+		String second = renderSelect(specificationService.buildSpecification(criteria));
+
+		assertEquals(first, second);
+		assertTrue(boundValues.contains("%o'brien 100\\%%"), boundValues.toString());
+	}
+
+	@Test
+	void testNoSearchTermSkipsSearchDocuments() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setSearch("   ");
+		criteria.setProgressMax(100);
+
+		String sql = renderSelect(specificationService.buildSpecification(criteria));
+
+		assertFalse(sql.contains("project_search_documents"), sql);
+	}
+
+	@Test
+	void testSubtypeFiltersAreCorrelatedExistsSubqueries() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setProgressMax(100);
+		criteria.setPublicationSource("IEEE");
+		criteria.setMinBudget(BigDecimal.valueOf(1000));
+		criteria.setFundingSource("a");
+		criteria.setRegistrationNumber("UA-1");
+
+		String sql = renderSelect(specificationService.buildSpecification(criteria));
+
+		assertTrue(sql.matches(".*exists\\(select 1 from publications \\w+ where \\w+\\.project_id=p1_0\\.id and lower\\(.*"), sql);
+		assertTrue(sql.matches(".*exists\\(select 1 from research_projects \\w+ where \\w+\\.project_id=p1_0\\.id and .*budget>=\\?.*"), sql);
+		assertTrue(sql.matches(".*exists\\(select 1 from patents \\w+ where \\w+\\.project_id=p1_0\\.id and lower\\(.*"), sql);
+		assertFalse(sql.contains(" in ("), sql);
+		assertEquals(1, capturedSql.size());
+	}
+
+	@Test
+	void testSubtypeFiltersRunInsideTheCountStatement() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setProgressMax(100);
+		criteria.setDoiIsbn("10.1000/182");
+
+		String sql = renderCount(specificationService.buildSpecification(criteria));
+
+		assertTrue(sql.startsWith("select count(p1_0.id) from projects p1_0 where "), sql);
+		assertTrue(sql.contains("exists(select 1 from publications"), sql);
+		assertEquals(1, capturedSql.size());
+	}
+
+	@Test
+	void testLikeWildcardsInFilterValuesAreEscaped() {
+		ProjectSearchCriteria criteria = new ProjectSearchCriteria();
+		criteria.setProgressMax(100);
+		criteria.setFundingSource("100%_grant");
+
+		String sql = renderSelect(specificationService.buildSpecification(criteria));
+
+		assertTrue(sql.contains("like ? escape '\\'"), sql);
+	}
+
+	static String renderSelect(Specification<Project> spec) {
+		return render(Project.class, (cb, query, root) -> {
+			query.select(root);
+			query.where(spec.toPredicate(root, query, cb));
+		});
+	}
+
+	static String renderCount(Specification<Project> spec) {
+		return render(Long.class, (cb, query, root) -> {
+			query.where(spec.toPredicate(root, query, cb));
+			query.select(cb.count(root));
+			query.orderBy(List.of());
+		});
+	}
+
+	private static <R> String render(Class<R> resultType, QueryCustomizer<R> customizer) {
+		capturedSql.clear();
+		boundValues.clear();
+		try (EntityManager entityManager = sessionFactory.createEntityManager()) {
+			CriteriaBuilder cb = entityManager.getCriteriaBuilder();
+			CriteriaQuery<R> query = cb.createQuery(resultType);
+			Root<Project> root = query.from(Project.class);
+			customizer.customize(cb, query, root);
+			assertThrows(RuntimeException.class, () -> entityManager.createQuery(query).getResultList());
+		}
+		return capturedSql.get(capturedSql.size() - 1);
+	}
+
+	@FunctionalInterface
+	interface QueryCustomizer<R> {
+		void customize(CriteriaBuilder cb, CriteriaQuery<R> query, Root<Project> root);
+	}
+}
@@ -28,6 +28,7 @@ import com.backend.app.model.Project;
 import com.backend.app.model.Publication;
 import com.backend.app.model.PublicationAuthor;
 import com.backend.app.model.User;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.repository.ProjectRepository;
 import com.backend.app.repository.PublicationAuthorRepository;
 import com.backend.app.repository.PublicationRepository;
@@ -39,6 +40,8 @@ public class PublicationServiceTest {
 	    @Mock private ProjectRepository projectRepository;
 	    @Mock private UserRepository userRepository;
 	    @Mock private PublicationAuthorRepository publicationAuthorRepository;
+	    @Mock private UserCounterService userCounterService;
+	    @Mock private ReferenceResolver referenceResolver;
 	    
 	    @InjectMocks private PublicationService publicationService;
 	    
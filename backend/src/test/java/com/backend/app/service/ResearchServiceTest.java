@@ -13,6 +13,7 @@ import java.time.LocalDate;
 import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
@@ -21,11 +22,12 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.jpa.domain.Specification;
 
 import com.backend.app.dto.create.CreateResearchRequest;
 import com.backend.app.dto.model.ResearchDTO;
+import com.backend.app.enums.UserCounter;
 import com.backend.app.exception.ResourceNotFoundException;
+import com.backend.app.mapper.ReferenceResolver;
 import com.backend.app.mapper.ResearchMapper;
 import com.backend.app.model.Project;
 import com.backend.app.model.Research;
@@ -44,6 +46,8 @@ public class ResearchServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private ResearchMapper researchMapper;
     @Mock private EntityManager entityManager;
+    @Mock private UserCounterService userCounterService;
+    @Mock private ReferenceResolver referenceResolver;
     
     @InjectMocks private ResearchService researchService;
     
@@ -147,27 +151,13 @@ public class ResearchServiceTest {
     
     @Test
     void testDeleteResearch() {
-        when(researchRepository.existsById(research.getId())).thenReturn(true);
+        when(researchRepository.findById(research.getId())).thenReturn(Optional.of(research));
         
         researchService.deleteResearch(research.getId());
         
         verify(researchRepository).deleteById(research.getId());
-    }
-    
-    @Test
-    void testFindProjectsByFilters() {
-    	 @SuppressWarnings("unchecked")
-    	    Specification<Research> spec = any(Specification.class);
-    	    when(researchRepository.findAll(spec)).thenReturn(List.of(research));
-        
-        List<UUID> result = researchService.findProjectsByFilters(
-            new BigDecimal("50000.00"), 
-            new BigDecimal("150000.00"), 
-            "NSF"
-        );
-        
-        assertEquals(1, result.size());
-        assertEquals(project.getId(), result.get(0));
+        verify(userCounterService).applyMembershipChange(UserCounter.RESEARCH,
+        		UserCounterService.membersOf(research), Set.of());
     }
     
     @Test
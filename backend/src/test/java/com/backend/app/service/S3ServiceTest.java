@@ -2,10 +2,12 @@ package com.backend.app.service;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.anyString;
 import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -18,8 +20,11 @@ import java.util.UUID;
 
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.mock.web.MockMultipartFile;
 import org.springframework.util.DigestUtils;
 
@@ -30,10 +35,19 @@ import com.backend.app.repository.FileMetadataRepository;
 
 import software.amazon.awssdk.core.sync.RequestBody;
 import software.amazon.awssdk.services.s3.S3Client;
+import software.amazon.awssdk.services.s3.model.AbortMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CompleteMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CopyObjectRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadRequest;
+import software.amazon.awssdk.services.s3.model.CreateMultipartUploadResponse;
 import software.amazon.awssdk.services.s3.model.DeleteObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectRequest;
 import software.amazon.awssdk.services.s3.model.PutObjectResponse;
+import software.amazon.awssdk.services.s3.model.S3Exception;
+import software.amazon.awssdk.services.s3.model.UploadPartRequest;
+import software.amazon.awssdk.services.s3.model.UploadPartResponse;
 
+@ExtendWith(MockitoExtension.class)
 public class S3ServiceTest {
 	@Mock
 	private S3Client s3Client;
@@ -99,9 +113,12 @@ public class S3ServiceTest {
 	        String resultUrl = s3Service.uploadFile(testFile, testEntityType, testEntityId);
 	        
 	        // Testing
+	        ArgumentCaptor<FileMetadata> saved = ArgumentCaptor.forClass(FileMetadata.class);
 	        assertNotNull(resultUrl);
 	        verify(s3Client).putObject(any(PutObjectRequest.class), any(RequestBody.class));
-	        verify(fileMetadataRepository).save(any(FileMetadata.class));
+	        verify(fileMetadataRepository).save(saved.capture());
+	        assertEquals(testChecksum, saved.getValue().getChecksum());
+	        assertEquals(testFileContent.length(), saved.getValue().getFileSize());
 	    }
 	    
 	    
@@ -121,9 +138,10 @@ public class S3ServiceTest {
 	        // Uploading
 	        String resultUrl = s3Service.uploadFile(testFile, testEntityType, testEntityId);
 	        
-	        // Testing
+	        // Testing: a file that fits into one part is hashed before anything is sent to S3
 	        assertEquals(existingMetadata.getFileUrl(), resultUrl);
 	        verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+	        verify(s3Client, never()).deleteObject(any(DeleteObjectRequest.class));
 	        verify(fileMetadataRepository, never()).save(any());
 	    }
 	    
@@ -149,6 +167,7 @@ public class S3ServiceTest {
 	            .thenReturn(Optional.empty());
 	        
 	        when(s3Client.putObject(any(PutObjectRequest.class), any(RequestBody.class))).thenReturn(PutObjectResponse.builder().build());
+	        when(fileMetadataRepository.findByFileUrl(anyString())).thenReturn(Optional.of(existingFile2));
 	        
 	        // Updating files
 	        List<FileMetadataDTO> result = s3Service.updateFiles(testEntityType, testEntityId, Arrays.asList(testFile));
@@ -208,4 +227,79 @@ public class S3ServiceTest {
 	        verify(s3Client).deleteObject(any(DeleteObjectRequest.class));
 	        verify(fileMetadataRepository).delete(metadata);
 	    }
+	    
+	    @Test
+	    void uploadFile_LargerThanPartSize_ShouldUseMultipartUpload() {
+	    	s3Service.setPartSize(4);
+	    	MockMultipartFile largeFile = new MockMultipartFile("file", "large.bin", "application/octet-stream", "0123456789".getBytes());
+	    	when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+	    		.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+	    	when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+	    		.thenReturn(UploadPartResponse.builder().eTag("etag").build());
+	    	when(fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(anyString(), any(), any()))
+	    		.thenReturn(Optional.empty());
+	    	
+	    	s3Service.uploadFile(largeFile, testEntityType, testEntityId);
+	    	
+	    	ArgumentCaptor<FileMetadata> saved = ArgumentCaptor.forClass(FileMetadata.class);
+	    	ArgumentCaptor<CreateMultipartUploadRequest> upload = ArgumentCaptor.forClass(CreateMultipartUploadRequest.class);
+	    	ArgumentCaptor<CopyObjectRequest> copy = ArgumentCaptor.forClass(CopyObjectRequest.class);
+	    	ArgumentCaptor<DeleteObjectRequest> delete = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+	    	verify(s3Client).createMultipartUpload(upload.capture());
+	    	verify(s3Client).copyObject(copy.capture());
+	    	verify(s3Client).deleteObject(delete.capture());
+	    	// Streamed to a staging key, then promoted to the final key
+	    	assertTrue(upload.getValue().key().startsWith("staging/"));
+	    	assertEquals(upload.getValue().key(), copy.getValue().sourceKey());
+	    	assertEquals(upload.getValue().key(), delete.getValue().key());
+	    	verify(s3Client, times(3)).uploadPart(any(UploadPartRequest.class), any(RequestBody.class));
+	    	verify(s3Client).completeMultipartUpload(any(CompleteMultipartUploadRequest.class));
+	    	verify(s3Client, never()).putObject(any(PutObjectRequest.class), any(RequestBody.class));
+	    	verify(fileMetadataRepository).save(saved.capture());
+	    	assertEquals(DigestUtils.md5DigestAsHex("0123456789".getBytes()), saved.getValue().getChecksum());
+	    	assertEquals(10L, saved.getValue().getFileSize());
+	    }
+	    
+	    @Test
+	    void uploadFile_LargeDuplicate_ShouldDropStagedCopy() {
+	    	s3Service.setPartSize(4);
+	    	MockMultipartFile largeFile = new MockMultipartFile("file", "large.bin", "application/octet-stream", "0123456789".getBytes());
+	    	FileMetadata existingMetadata = FileMetadata.builder()
+	    		.fileName("large.bin")
+	    		.fileUrl("existing-url")
+	    		.entityType(testEntityType)
+	    		.entityId(testEntityId)
+	    		.build();
+	    	when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+	    		.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+	    	when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+	    		.thenReturn(UploadPartResponse.builder().eTag("etag").build());
+	    	when(fileMetadataRepository.findByChecksumAndEntityTypeAndEntityId(
+	    			DigestUtils.md5DigestAsHex("0123456789".getBytes()), testEntityType, testEntityId))
+	    		.thenReturn(Optional.of(existingMetadata));
+	    	
+	    	String resultUrl = s3Service.uploadFile(largeFile, testEntityType, testEntityId);
+	    	
+	    	ArgumentCaptor<DeleteObjectRequest> delete = ArgumentCaptor.forClass(DeleteObjectRequest.class);
+	    	assertEquals("existing-url", resultUrl);
+	    	verify(s3Client, never()).copyObject(any(CopyObjectRequest.class));
+	    	verify(s3Client).deleteObject(delete.capture());
+	    	assertTrue(delete.getValue().key().startsWith("staging/"));
+	    	verify(fileMetadataRepository, never()).save(any());
+	    }
+	    
+	    @Test
+	    void uploadFile_WhenPartUploadFails_ShouldAbortMultipartUpload() {
+	    	s3Service.setPartSize(4);
+	    	MockMultipartFile largeFile = new MockMultipartFile("file", "large.bin", "application/octet-stream", "0123456789".getBytes());
+	    	when(s3Client.createMultipartUpload(any(CreateMultipartUploadRequest.class)))
+	    		.thenReturn(CreateMultipartUploadResponse.builder().uploadId("upload-1").build());
+	    	when(s3Client.uploadPart(any(UploadPartRequest.class), any(RequestBody.class)))
+	    		.thenThrow(S3Exception.builder().message("part failed").build());
+	    	
+	    	assertThrows(S3Exception.class, () -> s3Service.uploadFile(largeFile, testEntityType, testEntityId));
+	    	
+	    	verify(s3Client).abortMultipartUpload(any(AbortMultipartUploadRequest.class));
+	    	verify(fileMetadataRepository, never()).save(any());
+	    }
 }
@@ -3,6 +3,7 @@ package com.backend.app.service;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.mockito.Mockito.times;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -10,9 +11,9 @@ import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
 
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
-import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
@@ -21,6 +22,9 @@ import com.backend.app.mapper.TagMapper;
 import com.backend.app.model.Tag;
 import com.backend.app.repository.TagRepository;
 
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+
 @ExtendWith(MockitoExtension.class)
 public class TagServiceTest {
 	@Mock
@@ -29,9 +33,17 @@ public class TagServiceTest {
 	@Mock
 	private TagMapper tagMapper;
 	
-	@InjectMocks 
+	private TagCache tagCache;
+	private MeterRegistry meterRegistry;
 	private TagService tagService;
 	
+	@BeforeEach
+	void setUp() {
+		meterRegistry = new SimpleMeterRegistry();
+		tagCache = new TagCache(tagRepository, meterRegistry, 100, 600000);
+		tagService = new TagService(tagRepository, tagMapper, tagCache);
+	}
+	
 	@Test
     void testFindAllTags() {
         Tag tag = Tag.builder().id(UUID.randomUUID()).name("Test Tag").build();
@@ -102,4 +114,45 @@ public class TagServiceTest {
         tagService.deleteTag(tagId);
         verify(tagRepository).deleteById(tagId);
     }
+    
+    @Test
+    void testFindAllTagsIsServedFromCacheUntilATagChanges() {
+        UUID tagId = UUID.randomUUID();
+        Tag tag = Tag.builder().id(tagId).name("Test Tag").build();
+        TagDTO tagDTO = TagDTO.builder().id(tagId).name("Test Tag").build();
+        when(tagRepository.findAll()).thenReturn(List.of(tag));
+        when(tagMapper.toDTO(tag)).thenReturn(tagDTO);
+        
+        tagService.findAllTags();
+        tagService.findAllTags();
+        verify(tagRepository, times(1)).findAll();
+        
+        tagService.deleteTag(tagId);
+        tagService.findAllTags();
+        verify(tagRepository, times(2)).findAll();
+        
+        assertEquals(2.0, meterRegistry.get("cache.gets").tag("cache", "tags.all").tag("result", "miss")
+        		.functionCounter().count());
+        assertEquals(1.0, meterRegistry.get("cache.gets").tag("cache", "tags.all").tag("result", "hit")
+        		.functionCounter().count());
+    }
+    
+    @Test
+    void testSyncWithDatabaseInvalidatesWhenVersionMoves() {
+        UUID tagId = UUID.randomUUID();
+        Tag tag = Tag.builder().id(tagId).name("Test Tag").build();
+        when(tagRepository.findById(tagId)).thenReturn(Optional.of(tag));
+        when(tagMapper.toDTO(tag)).thenReturn(TagDTO.builder().id(tagId).name("Test Tag").build());
+        when(tagRepository.findCacheVersion()).thenReturn(1L, 1L, 2L);
+        
+        tagCache.syncWithDatabase();
+        tagService.findTagById(tagId);
+        tagCache.syncWithDatabase();
+        tagService.findTagById(tagId);
+        verify(tagRepository, times(1)).findById(tagId);
+        
+        tagCache.syncWithDatabase();
+        tagService.findTagById(tagId);
+        verify(tagRepository, times(2)).findById(tagId);
+    }
 }
@@ -0,0 +1,79 @@
+package com.backend.app.service;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyInt;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.util.List;
+import java.util.Set;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+
+import com.backend.app.enums.UserCounter;
+import com.backend.app.model.Patent;
+import com.backend.app.model.PatentCoInventor;
+import com.backend.app.model.User;
+import com.backend.app.repository.UserRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class UserCounterServiceTest {
+	@Mock
+	private UserRepository userRepository;
+	
+	private UserCounterService userCounterService;
+	
+	@BeforeEach
+	void setUp() {
+		userCounterService = new UserCounterService(userRepository, 2);
+	}
+	
+	@Test
+	void applyMembershipChange_ShouldOnlyAdjustUsersWhoJoinedOrLeft() {
+		userCounterService.applyMembershipChange(UserCounter.PUBLICATIONS, List.of(1L, 2L), List.of(2L, 3L, 4L));
+		
+		verify(userRepository).adjustPublicationCount(Set.of(3L, 4L), 1);
+		verify(userRepository).adjustPublicationCount(Set.of(1L), -1);
+	}
+	
+	@Test
+	void applyMembershipChange_WhenUnchanged_ShouldNotUpdate() {
+		userCounterService.applyMembershipChange(UserCounter.RESEARCH, List.of(1L), List.of(1L));
+		
+		verify(userRepository, never()).adjustResearchCount(any(), anyInt());
+	}
+	
+	@Test
+	void membersOfPatent_ShouldCountPrimaryAuthorWhoIsAlsoCoInventorOnce() {
+		User author = User.builder().id(1L).build();
+		Patent patent = Patent.builder().primaryAuthor(author).build();
+		patent.addCoInventor(coInventor(patent, author));
+		patent.addCoInventor(coInventor(patent, User.builder().id(2L).build()));
+		
+		assertEquals(Set.of(1L, 2L), UserCounterService.membersOf(patent));
+	}
+	
+	@Test
+	void reconcileCounters_ShouldWalkUsersInBatches() {
+		when(userRepository.findIdsAfter(0L, Limit.of(2))).thenReturn(List.of(1L, 5L));
+		when(userRepository.findIdsAfter(5L, Limit.of(2))).thenReturn(List.of(7L));
+		when(userRepository.reconcileCounters(List.of(1L, 5L))).thenReturn(1);
+		when(userRepository.reconcileCounters(List.of(7L))).thenReturn(0);
+		
+		assertEquals(1, userCounterService.reconcileCounters());
+	}
+	
+	private static PatentCoInventor coInventor(Patent patent, User user) {
+		PatentCoInventor coInventor = new PatentCoInventor();
+		coInventor.setPatent(patent);
+		coInventor.setUser(user);
+		return coInventor;
+	}
+}
@@ -19,20 +19,28 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 import org.springframework.security.crypto.password.PasswordEncoder;
 
+import com.backend.app.dto.miscellaneous.KeysetPage;
 import com.backend.app.dto.model.UserDTO;
 import com.backend.app.enums.Role;
+import com.backend.app.enums.UserCounter;
+import com.backend.app.exception.InvalidInputException;
 import com.backend.app.exception.ResourceAlreadyExistsException;
 import com.backend.app.exception.ResourceNotFoundException;
 import com.backend.app.mapper.UserMapper;
 import com.backend.app.model.User;
 import com.backend.app.repository.ActiveTokenRepository;
+import com.backend.app.repository.UserCollaborationRepository;
 import com.backend.app.repository.UserRepository;
+import com.backend.app.service.analytics.AnalyticsRollupService;
+import com.backend.app.util.KeysetCursor;
 
 @ExtendWith(MockitoExtension.class)
 public class UserServiceTest {
@@ -51,6 +59,15 @@ public class UserServiceTest {
 	@Mock
 	private PasswordEncoder passwordEncoder;
 
+	@Mock
+	private AnalyticsRollupService analyticsRollupService;
+
+	@Mock
+	private DashboardService dashboardService;
+
+	@Mock
+	private UserCollaborationRepository collaborationRepository;
+
 	@InjectMocks
 	private UserService userService;
 
@@ -65,6 +82,55 @@ public class UserServiceTest {
 		userDTO = UserDTO.builder().id(1L).username("testuser").email("test@example.com").role(Role.USER).build();
 	}
 
+	@Test
+	void testGetLeaderboardCapsLimitAndUsesCounterQuery() {
+		when(userRepository.findPatentLeaders(Limit.of(100))).thenReturn(List.of(user));
+		when(userMapper.mapToDTO(user)).thenReturn(userDTO);
+
+		List<UserDTO> result = userService.getLeaderboard(UserCounter.PATENTS, 5000);
+
+		assertEquals(List.of(userDTO), result);
+	}
+
+	@Test
+	void testGetUserCollaboratorsReadsEdgeStore() {
+		Pageable pageable = PageRequest.of(0, 10, Sort.by("username"));
+		User collaborator = User.builder().id(2L).username("collaborator").build();
+		UserDTO collaboratorDTO = UserDTO.builder().id(2L).username("collaborator").build();
+		when(collaborationRepository.findCollaborators(1L, PageRequest.of(0, 10)))
+				.thenReturn(new PageImpl<>(List.of(collaborator), PageRequest.of(0, 10), 1));
+		when(userMapper.mapToDTO(collaborator)).thenReturn(collaboratorDTO);
+
+		Page<UserDTO> result = userService.getUserCollaborators(1L, pageable);
+
+		assertEquals(List.of(collaboratorDTO), result.getContent());
+		assertEquals(1, result.getTotalElements());
+	}
+
+	@Test
+	void testGetUsersChunkReturnsCursorOfLastUser() {
+		user.setCreatedAt(LocalDateTime.now().minusDays(2));
+		User newer = User.builder().id(2L).username("newer").createdAt(LocalDateTime.now()).build();
+		when(userRepository.findRegistrationOrdered(any())).thenReturn(List.of(user, newer));
+		when(userMapper.mapToDTO(user)).thenReturn(userDTO);
+
+		KeysetPage<UserDTO> result = userService.getUsersChunk(null, 1);
+
+		assertEquals(List.of(userDTO), result.getContent());
+		KeysetCursor cursor = KeysetCursor.decode(result.getNextCursor());
+		assertEquals(user.getCreatedAt(), cursor.getCreatedAt());
+		assertEquals(1L, cursor.longId());
+		verify(userMapper, never()).mapToDTO(newer);
+	}
+
+	@Test
+	void testGetUsersChunkRejectsForeignCursor() {
+		String cursor = KeysetCursor.encode(LocalDateTime.now(), "not-a-number");
+
+		assertThrows(InvalidInputException.class, () -> userService.getUsersChunk(cursor, 10));
+		verifyNoInteractions(userRepository);
+	}
+
 	@Test
 	void testGetCurrentUser() {
 		when(userRepository.findByEmail("test@example.com")).thenReturn(Optional.of(user));
@@ -0,0 +1,71 @@
+package com.backend.app.service.analytics;
+
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.when;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import com.backend.app.enums.ProjectType;
+import com.backend.app.repository.DailyRollupRepository;
+
+@ExtendWith(MockitoExtension.class)
+public class AnalyticsRollupServiceTest {
+	@Mock
+	private DailyRollupRepository rollupRepository;
+	
+	private AnalyticsRollupService analyticsRollupService;
+	
+	@BeforeEach
+	void setUp() {
+		analyticsRollupService = new AnalyticsRollupService(rollupRepository, 2);
+	}
+	
+	@Test
+	void recordProjectCreated_ShouldIncrementTodayForType() {
+		analyticsRollupService.recordProjectCreated(ProjectType.PATENT);
+		
+		verify(rollupRepository).increment("PROJECTS", LocalDate.now(), "PATENT", 1);
+	}
+	
+	@Test
+	void recordCommentRemoved_ShouldDecrementCommentAndLikesOnCreationDay() {
+		LocalDateTime createdAt = LocalDateTime.of(2024, 3, 10, 12, 0);
+		
+		analyticsRollupService.recordCommentRemoved(createdAt, 3);
+		
+		verify(rollupRepository).increment("COMMENTS", createdAt.toLocalDate(), "", -1);
+		verify(rollupRepository).increment("COMMENT_LIKES", createdAt.toLocalDate(), "", -3);
+	}
+	
+	@Test
+	void refreshRecentRollups_WhenEmpty_ShouldRebuildWholeHistory() {
+		when(rollupRepository.count()).thenReturn(0L);
+		
+		analyticsRollupService.refreshRecentRollups();
+		
+		verify(rollupRepository).deleteRange(LocalDate.of(1970, 1, 1), LocalDate.now().plusDays(1));
+		verify(rollupRepository).insertRegistrations(any(), any());
+		verify(rollupRepository).insertCommentsAndLikes(any(), any());
+		verify(rollupRepository).insertProjects(any(), any());
+		verify(rollupRepository).insertLogins(any(), any());
+	}
+	
+	@Test
+	void refreshRecentRollups_WhenPopulated_ShouldOnlyRecomputeRecentDays() {
+		when(rollupRepository.count()).thenReturn(10L);
+		
+		analyticsRollupService.refreshRecentRollups();
+		
+		verify(rollupRepository).deleteRange(LocalDate.now().minusDays(1), LocalDate.now().plusDays(1));
+		verify(rollupRepository, never()).deleteRange(LocalDate.of(1970, 1, 1), LocalDate.now().plusDays(1));
+	}
+}
@@ -4,7 +4,6 @@ import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.mockito.Mockito.when;
 
-import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 
@@ -15,22 +14,29 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.backend.app.dto.analytics.CommentActivityDTO;
-import com.backend.app.repository.CommentRepository;
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.model.DailyRollup;
+import com.backend.app.model.DailyRollupId;
+import com.backend.app.repository.DailyRollupRepository;
 
 @ExtendWith(MockitoExtension.class)
 public class CommentAnalyticsServiceTest {
-@Mock private CommentRepository commentRepository;
+@Mock private DailyRollupRepository rollupRepository;
     
     @InjectMocks private CommentAnalyticsService commentAnalyticsService;
 
     @Test
     void getCommentActivityAnalytics_ShouldReturnDailyCounts() {
         LocalDate startDate = LocalDate.now().minusDays(7);
-        Object[] day1 = {Date.valueOf(startDate.plusDays(1)), 5L, 10L}; 
-        Object[] day2 = {Date.valueOf(startDate.plusDays(2)), 8L, 15L};
+        LocalDate endDate = LocalDate.now();
         
-        when(commentRepository.countCommentsByDateRangeGroupedByDate(startDate))
-            .thenReturn(List.of(day1, day2));
+        when(rollupRepository.findSeries(RollupMetric.COMMENTS, startDate, endDate))
+            .thenReturn(List.of(rollup(RollupMetric.COMMENTS, startDate.plusDays(1), 5L),
+            		rollup(RollupMetric.COMMENTS, startDate.plusDays(2), 8L),
+            		rollup(RollupMetric.COMMENTS, startDate.plusDays(3), 0L)));
+        when(rollupRepository.findSeries(RollupMetric.COMMENT_LIKES, startDate, endDate))
+            .thenReturn(List.of(rollup(RollupMetric.COMMENT_LIKES, startDate.plusDays(1), 10L),
+            		rollup(RollupMetric.COMMENT_LIKES, startDate.plusDays(2), 15L)));
         
         List<CommentActivityDTO> result = commentAnalyticsService.getCommentActivityAnalytics(7);
         
@@ -46,11 +52,17 @@ public class CommentAnalyticsServiceTest {
     @Test
     void getCommentActivityAnalytics_WithNoData_ShouldReturnEmptyList() {
         LocalDate startDate = LocalDate.now().minusDays(7);
-        when(commentRepository.countCommentsByDateRangeGroupedByDate(startDate))
+        when(rollupRepository.findSeries(RollupMetric.COMMENTS, startDate, LocalDate.now()))
+            .thenReturn(List.of());
+        when(rollupRepository.findSeries(RollupMetric.COMMENT_LIKES, startDate, LocalDate.now()))
             .thenReturn(List.of());
         
         List<CommentActivityDTO> result = commentAnalyticsService.getCommentActivityAnalytics(7);
         
         assertTrue(result.isEmpty());
     }
+    
+    private DailyRollup rollup(RollupMetric metric, LocalDate date, long total) {
+    	return DailyRollup.builder().id(new DailyRollupId(metric, date, "")).total(total).build();
+    }
 }
@@ -13,7 +13,8 @@ import org.mockito.junit.jupiter.MockitoExtension;
 
 import com.backend.app.dto.analytics.ProjectDistributionDTO;
 import com.backend.app.dto.analytics.ProjectProgressDTO;
-import com.backend.app.enums.ProjectType;
+import com.backend.app.enums.RollupMetric;
+import com.backend.app.repository.DailyRollupRepository;
 import com.backend.app.repository.ProjectRepository;
 
 @ExtendWith(MockitoExtension.class)
@@ -21,15 +22,18 @@ public class ProjectAnalyticsServiceTest {
 	@Mock
 	private ProjectRepository projectRepository;
 	
+	@Mock
+	private DailyRollupRepository rollupRepository;
+	
 	@InjectMocks
 	private ProjectAnalyticsService projectAnalyticsService;
 	
 	@Test
     void getProjectTypeDistribution_ShouldReturnCorrectCounts() {
-        Object[] pubResult = {ProjectType.PUBLICATION, 30L};
-        Object[] patentResult = {ProjectType.PATENT, 20L};
+        Object[] pubResult = {"PUBLICATION", 30L};
+        Object[] patentResult = {"PATENT", 20L};
         
-        when(projectRepository.getProjectCountsByType())
+        when(rollupRepository.sumByDimension(RollupMetric.PROJECTS))
             .thenReturn(List.of(pubResult, patentResult));
         
         ProjectDistributionDTO result = projectAnalyticsService.getProjectTypeDistribution();
@@ -27,7 +27,7 @@ public class SystemAnalyticsServiceTest {
     	when(userRepository.count()).thenReturn(100L);
         when(userRepository.countByActiveTrue()).thenReturn(75L);
         when(projectRepository.count()).thenReturn(50L);
-        when(activeTokenRepository.count()).thenReturn(25L);
+        when(activeTokenRepository.countByRevokedFalse()).thenReturn(25L);
         
         SystemOverviewDTO result = analyticsService.getSystemOverview();
         
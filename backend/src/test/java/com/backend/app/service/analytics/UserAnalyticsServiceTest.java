@@ -2,6 +2,8 @@ package com.backend.app.service.analytics;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.clearInvocations;
+import static org.mockito.Mockito.mockingDetails;
 import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
@@ -9,6 +11,7 @@ import java.sql.Date;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
+import java.util.stream.Collectors;
 
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -28,26 +31,23 @@ public class UserAnalyticsServiceTest {
     
     @Test
     void getUserGrowthAnalytics_WithDates_ShouldReturnCorrectData() {
-        LocalDate startDate = LocalDate.of(2023, 1, 1);
-        LocalDate endDate = LocalDate.of(2023, 1, 31);
+        LocalDate startDate = LocalDate.of(2023, 1, 15);
+        LocalDate endDate = LocalDate.of(2023, 1, 17);
         
-        Object[] result1 = {Date.valueOf("2023-01-15"), 10L};
-        Object[] result2 = {Date.valueOf("2023-01-20"), 5L};
-        List<Object[]> repoResults = List.of(result1, result2);
-        
-        when(userRepository.getRegistrationCountsByDate(any(), any()))
-            .thenReturn(repoResults);
-        when(userRepository.countActiveUsersOnDate(LocalDate.of(2023, 1, 15)))
-            .thenReturn(8L);
-        when(userRepository.countActiveUsersOnDate(LocalDate.of(2023, 1, 20)))
-            .thenReturn(3L);
+        when(userRepository.getUserGrowthSeries(startDate, endDate))
+            .thenReturn(List.of(
+            		new Object[] {Date.valueOf("2023-01-15"), 10L, 8L},
+            		new Object[] {Date.valueOf("2023-01-16"), 0L, 5L},
+            		new Object[] {Date.valueOf("2023-01-17"), 5L, 3L}));
         
         List<UserGrowthDTO> result = userAnalyticsService.getUserGrowthAnalytics(startDate, endDate);
         
-        assertEquals(2, result.size());
+        assertEquals(3, result.size());
         assertEquals(LocalDate.of(2023, 1, 15), result.get(0).getDate());
         assertEquals(10L, result.get(0).getNewUsers());
         assertEquals(8L, result.get(0).getActiveUsers());
+        assertEquals(0L, result.get(1).getNewUsers());
+        assertEquals(5L, result.get(1).getActiveUsers());
     }
 
     @Test
@@ -56,16 +56,34 @@ public class UserAnalyticsServiceTest {
         LocalDate expectedStart = LocalDate.now().minusMonths(6);
         LocalDate expectedEnd = LocalDate.now();
         
-        when(userRepository.getRegistrationCountsByDate(any(), any()))
+        when(userRepository.getUserGrowthSeries(expectedStart, expectedEnd))
             .thenReturn(List.of());
         
         // Act
         userAnalyticsService.getUserGrowthAnalytics(null, null);
         
         // Verify
-        verify(userRepository).getRegistrationCountsByDate(
-            expectedStart.atStartOfDay(),
-            expectedEnd.atTime(23, 59, 59));
+        verify(userRepository).getUserGrowthSeries(expectedStart, expectedEnd);
+    }
+    
+    @Test
+    void getUserGrowthAnalytics_ShouldIssueOneQueryRegardlessOfRange() {
+        when(userRepository.getUserGrowthSeries(any(), any())).thenAnswer(invocation -> {
+        	LocalDate start = invocation.getArgument(0);
+        	LocalDate end = invocation.getArgument(1);
+        	return start.datesUntil(end.plusDays(1))
+        			.map(day -> new Object[] {Date.valueOf(day), 1L, 1L})
+        			.collect(Collectors.toList());
+        });
+        
+        for (int days : new int[] {7, 30, 180, 365}) {
+        	clearInvocations(userRepository);
+        	
+        	List<UserGrowthDTO> result = userAnalyticsService.getUserGrowthAnalytics(LocalDate.now().minusDays(days), LocalDate.now());
+        	
+        	assertEquals(days + 1, result.size());
+        	assertEquals(1, mockingDetails(userRepository).getInvocations().size());
+        }
     }
 
     @Test